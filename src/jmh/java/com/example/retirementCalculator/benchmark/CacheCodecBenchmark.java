@@ -0,0 +1,67 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CompactValueSerializer;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cached value codecs on the values read by every calculation.
+ * <p>
+ * {@code json} encodes what was cached before the compact codec existed: the JPA entity
+ * through {@link GenericJackson2JsonRedisSerializer}. {@code compact} encodes the
+ * {@link CachedLifestyle} record through {@link CompactValueSerializer}. The payload sizes
+ * are printed once per trial, since JMH only reports times.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CacheCodecBenchmark {
+
+    @Param({"compact", "json"})
+    private String codec;
+
+    @Param({"lifestyle", "all-lifestyles"})
+    private String value;
+
+    private RedisSerializer<Object> serializer;
+    private Object decoded;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        boolean compact = codec.equals("compact");
+        serializer = compact ? new CompactValueSerializer(json) : json;
+
+        // Repositories return mutable lists; immutable List.of() cannot be read back from JSON
+        List<LifestyleDepositsEntity> lifestyles = new ArrayList<>(EmbeddedRedisFixture.LIFESTYLES);
+        decoded = switch (value) {
+            case "lifestyle" -> compact ? CachedLifestyle.of(lifestyles.get(1)) : lifestyles.get(1);
+            case "all-lifestyles" -> compact ? lifestyles.stream().map(CachedLifestyle::of).toList() : lifestyles;
+            default -> throw new IllegalArgumentException("Unknown value: " + value);
+        };
+        encoded = serializer.serialize(decoded);
+        System.out.printf("%n%s %s payload: %d bytes%n", codec, value, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(decoded);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
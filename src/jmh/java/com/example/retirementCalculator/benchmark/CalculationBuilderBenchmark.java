@@ -0,0 +1,133 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.cache.CacheMetrics;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CircuitBreaker;
+import com.example.retirementCalculator.cache.EmbeddedCacheConfig;
+import com.example.retirementCalculator.cache.EmbeddedInterestRateCacheService;
+import com.example.retirementCalculator.cache.EmbeddedLifestyleCacheService;
+import com.example.retirementCalculator.cache.InterestRateCacheServiceImpl;
+import com.example.retirementCalculator.cache.InterestRatesLoadedEvent;
+import com.example.retirementCalculator.cache.LastKnownGoodCache;
+import com.example.retirementCalculator.cache.LifestyleCacheServiceImpl;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheServiceImpl;
+import com.example.retirementCalculator.cache.NearCache;
+import com.example.retirementCalculator.cache.NearCacheInvalidator;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RetirementCalculationBuilder#build} against an in-process Redis.
+ * <p>
+ * Covers the full request path below the controller: the combined lifestyle and interest rate
+ * lookup (including value deserialization) followed by validation.
+ * A {@code nearCacheSize} of zero disables the near caches, so every lookup goes to Redis.
+ * The {@code embedded} cache serves the same lookups from the in-process snapshots of the
+ * {@value EmbeddedCacheConfig#EMBEDDED_PROFILE} profile instead, and ignores {@code nearCacheSize}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CalculationBuilderBenchmark {
+
+    @Param({"simple", "fancy"})
+    private String lifestyleType;
+
+    @Param({"1000", "0"})
+    private int nearCacheSize;
+
+    @Param({"redis", "embedded"})
+    private String cache;
+
+    private EmbeddedRedisFixture redis;
+    private RetirementCalculationBuilder calculationBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LifestyleProfileCacheService lifestyleProfileCacheService = switch (cache) {
+            case "redis" -> redisProfileCacheService();
+            case "embedded" -> embeddedProfileCacheService();
+            default -> throw new IllegalArgumentException("Unknown cache: " + cache);
+        };
+        calculationBuilder = new RetirementCalculationBuilder(lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE,
+                new SimpleMeterRegistry());
+    }
+
+    private LifestyleProfileCacheService redisProfileCacheService() throws IOException {
+        redis = EmbeddedRedisFixture.start();
+
+        NearCache<BigDecimal> interestRateNearCache = new NearCache<>("interest_rate", nearCacheSize, Duration.ofMinutes(5));
+        NearCache<CachedLifestyle> lifestyleNearCache = new NearCache<>("lifestyle", nearCacheSize, Duration.ofMinutes(5));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NearCacheInvalidator nearCacheInvalidator =
+                new NearCacheInvalidator(redis.redisTemplate(), List.of(interestRateNearCache, lifestyleNearCache), event -> { });
+
+        CircuitBreaker redisCircuitBreaker = new CircuitBreaker("redis", 5, Duration.ofSeconds(5), meterRegistry);
+        LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache();
+
+        InterestRateCacheServiceImpl interestRateCacheService = new InterestRateCacheServiceImpl(
+                redis.redisTemplate(), event -> {
+                    if (event instanceof InterestRatesLoadedEvent loaded) {
+                        lastKnownGoodCache.onInterestRatesLoaded(loaded);
+                    }
+                }, interestRateNearCache, nearCacheInvalidator,
+                new CacheMetrics(meterRegistry, "interest_rate"), redisCircuitBreaker, lastKnownGoodCache);
+        interestRateCacheService.init();
+
+        LifestyleCacheServiceImpl lifestyleCacheService = new LifestyleCacheServiceImpl(
+                redis.redisTemplate(), EmbeddedRedisFixture.lifestyleRepository(), lifestyleNearCache, nearCacheInvalidator,
+                new CacheMetrics(meterRegistry, "lifestyle"), redisCircuitBreaker, lastKnownGoodCache);
+        lifestyleCacheService.init();
+
+        return new LifestyleProfileCacheServiceImpl(
+                redis.redisTemplate(), lifestyleCacheService, lifestyleNearCache, interestRateNearCache,
+                new CacheMetrics(meterRegistry, "lifestyle_profile"), redisCircuitBreaker, lastKnownGoodCache);
+    }
+
+    private static LifestyleProfileCacheService embeddedProfileCacheService() {
+        EmbeddedInterestRateCacheService interestRateCacheService = new EmbeddedInterestRateCacheService(event -> { });
+        interestRateCacheService.init();
+
+        EmbeddedLifestyleCacheService lifestyleCacheService =
+                new EmbeddedLifestyleCacheService(EmbeddedRedisFixture.lifestyleRepository(), event -> { });
+        lifestyleCacheService.init();
+
+        return new EmbeddedCacheConfig().lifestyleProfileCacheService(lifestyleCacheService, interestRateCacheService);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (redis != null) {
+            redis.close();
+        }
+    }
+
+    @Benchmark
+    public RetirementCalculation buildWithCachedRate() {
+        return calculationBuilder.build(30, 65, lifestyleType);
+    }
+
+    @Benchmark
+    public RetirementCalculation buildWithCustomRate() {
+        return calculationBuilder.build(30, 65, lifestyleType, new BigDecimal("7.25"));
+    }
+
+    @Benchmark
+    public BigDecimal buildAndCalculate() {
+        return calculationBuilder.build(30, 65, lifestyleType, null).calculateFutureValue();
+    }
+}
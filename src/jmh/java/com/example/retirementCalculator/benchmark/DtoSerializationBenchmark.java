@@ -0,0 +1,72 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures (de)serialization of the request and response DTOs in both supported formats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoSerializationBenchmark {
+
+    @Param({"json", "xml"})
+    private String format;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestPayload;
+    private RetirementCalculatorResponseDTO response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case "json" -> new ObjectMapper();
+            case "xml" -> new XmlMapper();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+
+        requestReader = mapper.readerFor(RetirementCalculatorRequestDTO.class);
+        responseWriter = mapper.writerFor(RetirementCalculatorResponseDTO.class);
+
+        requestPayload = mapper.writeValueAsBytes(RetirementCalculatorRequestDTO.builder()
+                .currentAge(30)
+                .retirementAge(65)
+                .lifestyleType("fancy")
+                .customInterestRate(new BigDecimal("5.5"))
+                .build());
+
+        response = RetirementCalculatorResponseDTO.builder()
+                .currentAge(30)
+                .retirementAge(65)
+                .interestRate(5.5)
+                .lifestyleType("fancy")
+                .totalRetirementSavings(new BigDecimal("5727279.05"))
+                .monthlyDeposit(new BigDecimal("5000.00"))
+                .yearsToRetirement(35)
+                .build();
+    }
+
+    @Benchmark
+    public RetirementCalculatorRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestPayload);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.cache.RedisConfig;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-process Redis server and wiring shared by benchmarks that exercise the cache path.
+ * <p>
+ * Starts an embedded Redis on a free port and builds the production {@link RedisTemplate}
+ * through {@link RedisConfig}, so serialization costs match the running application.
+ * The lifestyle repository is replaced by an in-memory stand-in holding the sample rows
+ * from {@code insertDummyData.sql}.
+ * </p>
+ */
+final class EmbeddedRedisFixture implements AutoCloseable {
+
+    static final List<LifestyleDepositsEntity> LIFESTYLES = List.of(
+            new LifestyleDepositsEntity(1, "simple", new BigDecimal("2000.00"), "Basic lifestyle with moderate expenses"),
+            new LifestyleDepositsEntity(2, "fancy", new BigDecimal("5000.00"), "Luxury lifestyle with premium expenses"));
+
+    private final int port;
+    private final RedisServer redisServer;
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private EmbeddedRedisFixture(int port, RedisServer redisServer, LettuceConnectionFactory connectionFactory,
+                                 RedisTemplate<String, Object> redisTemplate) {
+        this.port = port;
+        this.redisServer = redisServer;
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Starts an embedded Redis server and connects a template to it.
+     *
+     * @return the running fixture
+     * @throws IOException if the server cannot be started
+     */
+    static EmbeddedRedisFixture start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        RedisServer redisServer = new RedisServer(port);
+        redisServer.start();
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        return new EmbeddedRedisFixture(port, redisServer, connectionFactory, redisTemplate);
+    }
+
+    int port() {
+        return port;
+    }
+
+    RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    /**
+     * Creates an in-memory repository backed by {@link #LIFESTYLES}.
+     *
+     * @return a repository supporting the lookups used by the cache services
+     */
+    static LifestyleDepositsRepo lifestyleRepository() {
+        return (LifestyleDepositsRepo) Proxy.newProxyInstance(
+                LifestyleDepositsRepo.class.getClassLoader(),
+                new Class<?>[]{LifestyleDepositsRepo.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> args == null || args[0] instanceof Sort ? LIFESTYLES : new PageImpl<>(LIFESTYLES, (Pageable) args[0], LIFESTYLES.size());
+                    case "findByLifestyleTypeIgnoreCase" -> findByType((String) args[0]);
+                    case "toString" -> "InMemoryLifestyleDepositsRepo";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Optional<LifestyleDepositsEntity> findByType(String lifestyleType) {
+        return LIFESTYLES.stream()
+                .filter(lifestyle -> lifestyle.getLifestyleType().equalsIgnoreCase(lifestyleType))
+                .findFirst();
+    }
+
+    @Override
+    public void close() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+}
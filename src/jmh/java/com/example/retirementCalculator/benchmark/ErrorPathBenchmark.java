@@ -0,0 +1,148 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.api.controllers.RetirementCalculatorController;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import com.example.retirementCalculator.exception.GlobalExceptionHandler;
+import com.example.retirementCalculator.exception.LifestyleNotFoundException;
+import com.example.retirementCalculator.exception.RetirementCalculatorException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of valid requests with requests that fail validation.
+ * <p>
+ * Every benchmark follows {@code POST /retirement} after the body has been read: the request
+ * DTO is validated by the same Bean Validation adapter Spring MVC uses, then either calculated
+ * into a response or turned into an error response by {@link GlobalExceptionHandler}, logging
+ * included. {@code invalidFields} fails bean validation and goes through
+ * {@code handleMethodArgumentNotValid}; {@code unknownLifestyle} and {@code invalidAges} pass it
+ * and fail in the calculation. Lifestyles come from an in-memory profile and the result cache is
+ * left out, so valid requests pay for the whole calculation.
+ * </p>
+ * <p>
+ * Error requests should cost no more than valid ones, so a flood of bad requests cannot
+ * displace good ones. {@code unknownLifestyle} and {@code invalidAges} stay close to
+ * {@code validRequest}, since they skip the calculation that pays for their error response.
+ * {@code invalidFields} does not: it runs at roughly half the throughput of
+ * {@code validRequest}. Most of the gap is spent before the handler, by Hibernate Validator
+ * building the constraint violations and their interpolated messages, Spring turning them into
+ * {@code FieldError}s with message codes, and the {@code MethodArgumentNotValidException} filling
+ * in its stack trace. Spring MVC does all of this for every invalid body, so the handler cannot
+ * avoid it; it only adds the field error list, the error response and a rate-limited log line.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ErrorPathBenchmark {
+
+    private static final RetirementCalculatorRequestDTO VALID = request(30, 65, "fancy");
+    private static final RetirementCalculatorRequestDTO UNKNOWN_LIFESTYLE = request(30, 65, "unknown");
+    private static final RetirementCalculatorRequestDTO INVALID_AGES = request(70, 65, "fancy");
+    private static final RetirementCalculatorRequestDTO INVALID_FIELDS = request(10, 65, "fancy");
+
+    private RetirementCalculationBuilder calculationBuilder;
+    private GlobalExceptionHandler exceptionHandler;
+    private SpringValidatorAdapter validator;
+    private MethodParameter requestBodyParameter;
+    private WebRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        CachedLifestyleProfile fancy = new CachedLifestyleProfile(
+                new CachedLifestyle(1, "fancy", new BigDecimal("5000.00"), "Fancy lifestyle"), new BigDecimal("5.5"));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        calculationBuilder = new RetirementCalculationBuilder(type -> {
+            if (!"fancy".equals(type)) {
+                throw new LifestyleNotFoundException(type);
+            }
+            return fancy;
+        }, ClosedFormFutureValueEngine.INSTANCE, meterRegistry);
+        exceptionHandler = new GlobalExceptionHandler(meterRegistry);
+        validator = new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator());
+        requestBodyParameter = new MethodParameter(RetirementCalculatorController.class.getMethod(
+                "calculateRetirement", RetirementCalculatorRequestDTO.class, String.class), 0);
+
+        // The handler only reads the request URI
+        HttpServletRequest servletRequest = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> "getRequestURI".equals(method.getName()) ? "/api/v1/calculator/retirement" : null);
+        request = new ServletWebRequest(servletRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> validRequest() throws Exception {
+        return handle(VALID);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> invalidFields() throws Exception {
+        return handle(INVALID_FIELDS);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> unknownLifestyle() throws Exception {
+        return handle(UNKNOWN_LIFESTYLE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> invalidAges() throws Exception {
+        return handle(INVALID_AGES);
+    }
+
+    private ResponseEntity<?> handle(RetirementCalculatorRequestDTO dto) throws Exception {
+        BindingResult bindingResult = new BeanPropertyBindingResult(dto, "retirementCalculatorRequestDTO");
+        validator.validate(dto, bindingResult);
+        if (bindingResult.hasErrors()) {
+            return exceptionHandler.handleException(
+                    new MethodArgumentNotValidException(requestBodyParameter, bindingResult), request);
+        }
+        try {
+            RetirementCalculation calculation = calculationBuilder.build(dto.getCurrentAge(), dto.getRetirementAge(),
+                    dto.getLifestyleType(), dto.getCustomInterestRate());
+            return ResponseEntity.ok(RetirementCalculatorResponseDTO.builder()
+                    .currentAge(calculation.getCurrentAge())
+                    .retirementAge(calculation.getRetirementAge())
+                    .lifestyleType(calculation.getLifestyleType())
+                    .interestRate(calculation.getInterestRate().doubleValue())
+                    .monthlyDeposit(calculation.getMonthlyDeposit())
+                    .totalRetirementSavings(calculation.calculateFutureValue())
+                    .yearsToRetirement(calculation.getRetirementAge() - calculation.getCurrentAge())
+                    .build());
+        } catch (RetirementCalculatorException e) {
+            return exceptionHandler.handleRetirementCalculatorException(e, request);
+        }
+    }
+
+    private static RetirementCalculatorRequestDTO request(int currentAge, int retirementAge, String lifestyleType) {
+        return RetirementCalculatorRequestDTO.builder()
+                .currentAge(currentAge)
+                .retirementAge(retirementAge)
+                .lifestyleType(lifestyleType)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.domain.BigDecimalFutureValueEngine;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.FutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.TabulatedFutureValueEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RetirementCalculation#calculateFutureValue()} across the 18-100 age range.
+ * <p>
+ * Every invocation builds a fresh calculation so the per-instance memoisation does not hide
+ * the cost of the formula itself. Retirement is fixed at 100, so {@code currentAge} spans
+ * horizons from 1 to 82 years. The {@code tabulated} engine has the benchmarked rate
+ * precomputed, as it would after the interest rate cache has been loaded.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FutureValueBenchmark {
+
+    @Param({"tabulated", "closed-form", "big-decimal"})
+    private String engine;
+
+    @Param({"18", "30", "45", "65", "90", "99"})
+    private int currentAge;
+
+    @Param({"5.5", "6.5"})
+    private String interestRate;
+
+    private RetirementCalculation.RetirementCalculationBuilder calculation;
+
+    @Setup
+    public void setUp() {
+        FutureValueEngine futureValueEngine = switch (engine) {
+            case "tabulated" -> {
+                TabulatedFutureValueEngine tabulated = new TabulatedFutureValueEngine(ClosedFormFutureValueEngine.INSTANCE);
+                tabulated.rebuild(List.of(new BigDecimal(interestRate)));
+                yield tabulated;
+            }
+            case "closed-form" -> ClosedFormFutureValueEngine.INSTANCE;
+            case "big-decimal" -> BigDecimalFutureValueEngine.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown engine: " + engine);
+        };
+
+        calculation = RetirementCalculation.builder()
+                .currentAge(currentAge)
+                .retirementAge(100)
+                .lifestyleType("fancy")
+                .interestRate(new BigDecimal(interestRate))
+                .monthlyDeposit(new BigDecimal("5000.00"))
+                .futureValueEngine(futureValueEngine);
+    }
+
+    @Benchmark
+    public BigDecimal calculateFutureValue() {
+        return calculation.build().calculateFutureValue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.GoalSeekResult;
+import com.example.retirementCalculator.domain.GoalSeekSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one solve of each {@link GoalSeekSolver} variant, including the verifying projections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GoalSeekBenchmark {
+
+    private static final BigDecimal RATE = new BigDecimal("5.5");
+    private static final BigDecimal DEPOSIT = new BigDecimal("2000.00");
+    private static final BigDecimal TARGET = new BigDecimal("1000000");
+
+    private final GoalSeekSolver solver = new GoalSeekSolver(ClosedFormFutureValueEngine.INSTANCE);
+
+    @Benchmark
+    public GoalSeekResult monthlyDeposit() {
+        return solver.solveMonthlyDeposit(30, 65, RATE, TARGET);
+    }
+
+    @Benchmark
+    public GoalSeekResult retirementAge() {
+        return solver.solveRetirementAge(30, RATE, DEPOSIT, TARGET);
+    }
+
+    @Benchmark
+    public GoalSeekResult interestRate() {
+        return solver.solveInterestRate(30, 65, DEPOSIT, TARGET);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.retirementCalculator.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TCP proxy adding a fixed delay to every reply, standing in for a remote backend.
+ * <p>
+ * A local Redis answers in microseconds, so nothing blocks long enough for the request
+ * thread model to matter. Replies are delayed rather than the connection stalled: each chunk
+ * is queued with its due time and written once that passes, so pipelined commands sharing a
+ * connection each see the delay once, as over a real network link.
+ * </p>
+ */
+final class LatencyProxy implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final int targetPort;
+    private final long delayNanos;
+
+    private LatencyProxy(ServerSocket serverSocket, int targetPort, long delayNanos) {
+        this.serverSocket = serverSocket;
+        this.targetPort = targetPort;
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * Starts a proxy on a free local port.
+     *
+     * @param targetPort the local port to forward to
+     * @param delayMillis the delay added to each reply
+     * @return the running proxy
+     * @throws IOException if the listening socket cannot be opened
+     */
+    static LatencyProxy start(int targetPort, long delayMillis) throws IOException {
+        LatencyProxy proxy = new LatencyProxy(
+                new ServerSocket(0, 50, InetAddress.getLoopbackAddress()), targetPort, TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        Thread.ofVirtual().name("latency-proxy-accept").start(proxy::accept);
+        return proxy;
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket target = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                client.setTcpNoDelay(true);
+                target.setTcpNoDelay(true);
+                Thread.ofVirtual().start(() -> forward(client, target, 0));
+                Thread.ofVirtual().start(() -> forward(target, client, delayNanos));
+            } catch (IOException e) {
+                // Closed while accepting
+            }
+        }
+    }
+
+    private static void forward(Socket from, Socket to, long delayNanos) {
+        record Chunk(long dueNanos, byte[] bytes) {
+        }
+        BlockingQueue<Chunk> pending = new LinkedBlockingQueue<>();
+        Thread writer = Thread.ofVirtual().start(() -> {
+            try (OutputStream out = to.getOutputStream()) {
+                while (true) {
+                    Chunk chunk = pending.take();
+                    long wait = chunk.dueNanos() - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    out.write(chunk.bytes());
+                }
+            } catch (IOException | InterruptedException e) {
+                closeQuietly(from);
+            }
+        });
+
+        byte[] buffer = new byte[16 * 1024];
+        try (InputStream in = from.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                pending.add(new Chunk(System.nanoTime() + delayNanos, Arrays.copyOf(buffer, read)));
+            }
+        } catch (IOException e) {
+            // Connection closed by either side
+        } finally {
+            writer.interrupt();
+            closeQuietly(to);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.domain.MonteCarloSimulator;
+import com.example.retirementCalculator.domain.SimulationResult;
+import com.example.retirementCalculator.domain.SimulationScenario;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link MonteCarloSimulator#simulate} for a 35-year scenario.
+ * <p>
+ * A {@code parallelism} of zero uses one worker per processor. Run with {@code -prof gc} to
+ * check that allocation per operation stays at the balance array, independent of the work
+ * done per path.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MonteCarloBenchmark {
+
+    @Param({"10000"})
+    private int paths;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private MonteCarloSimulator simulator;
+    private SimulationScenario scenario;
+
+    @Setup
+    public void setUp() {
+        simulator = new MonteCarloSimulator(parallelism, paths, paths);
+        scenario = new SimulationScenario(35, new BigDecimal("5000.00"), new BigDecimal("5.5"),
+                new BigDecimal("15"), paths, 42L, new BigDecimal("5000000"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Benchmark
+    public SimulationResult simulate() {
+        return simulator.simulate(scenario);
+    }
+}
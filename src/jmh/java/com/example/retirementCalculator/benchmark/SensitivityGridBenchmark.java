@@ -0,0 +1,72 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.SensitivityGridCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares a {@link SensitivityGridCalculator} grid with calculating each of its cells on its own.
+ * <p>
+ * The grid covers rates 1% to 10% by 0.25 and retirement ages 40 to 70 from age 30, 37 × 31 cells.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SensitivityGridBenchmark {
+
+    private static final BigDecimal DEPOSIT = new BigDecimal("2000.00");
+    private static final int CURRENT_AGE = 30;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private final List<BigDecimal> rates = new ArrayList<>();
+    private final int[] ages = IntStream.rangeClosed(40, 70).toArray();
+    private SensitivityGridCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        for (BigDecimal rate = BigDecimal.ONE; rate.compareTo(BigDecimal.TEN) <= 0; rate = rate.add(new BigDecimal("0.25"))) {
+            rates.add(rate);
+        }
+        calculator = new SensitivityGridCalculator(ClosedFormFutureValueEngine.INSTANCE, parallelism, 10000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        calculator.shutdown();
+    }
+
+    @Benchmark
+    public BigDecimal[][] grid() {
+        return calculator.calculate(CURRENT_AGE, DEPOSIT, rates, ages);
+    }
+
+    @Benchmark
+    public BigDecimal[][] cellByCell() {
+        BigDecimal[][] balances = new BigDecimal[rates.size()][ages.length];
+        for (int row = 0; row < balances.length; row++) {
+            for (int column = 0; column < ages.length; column++) {
+                balances[row][column] = RetirementCalculation.builder()
+                        .currentAge(CURRENT_AGE)
+                        .retirementAge(ages[column])
+                        .interestRate(rates.get(row))
+                        .monthlyDeposit(DEPOSIT)
+                        .build()
+                        .calculateFutureValue();
+            }
+        }
+        return balances;
+    }
+}
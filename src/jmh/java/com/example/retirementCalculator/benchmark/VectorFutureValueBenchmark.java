@@ -0,0 +1,69 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.FutureValueBatch;
+import com.example.retirementCalculator.domain.FutureValueEngine;
+import com.example.retirementCalculator.domain.VectorFutureValueEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FutureValueEngine#futureValues(FutureValueBatch)} for whole batches of scenarios.
+ * <p>
+ * {@code scalar} is the closed form evaluated one scenario at a time, {@code vector} the SIMD
+ * kernel of {@link VectorFutureValueEngine} on top of it. Scenarios mix the lifestyle rates
+ * with random custom rates up to 10% and every horizon from 1 to 82 years. Results are per
+ * batch, so divide by {@code size} for the cost of one scenario; the few scenarios neither
+ * engine decides in {@code double} take the exact fallback and weigh heavily in both.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xmx2g"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorFutureValueBenchmark {
+
+    private static final String[] LIFESTYLE_RATES = {"5.5", "6.5"};
+
+    @Param({"scalar", "vector"})
+    private String engine;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private FutureValueEngine futureValueEngine;
+    private FutureValueBatch batch;
+
+    @Setup
+    public void setUp() {
+        futureValueEngine = switch (engine) {
+            case "scalar" -> ClosedFormFutureValueEngine.INSTANCE;
+            case "vector" -> new VectorFutureValueEngine(ClosedFormFutureValueEngine.INSTANCE);
+            default -> throw new IllegalArgumentException("Unknown engine: " + engine);
+        };
+
+        SplittableRandom random = new SplittableRandom(42);
+        batch = new FutureValueBatch(size);
+        for (int i = 0; i < size; i++) {
+            BigDecimal annualRate = i % 2 == 0
+                    ? new BigDecimal(LIFESTYLE_RATES[i % 4 / 2])
+                    : BigDecimal.valueOf(random.nextInt(1, 1_000), 2);
+            BigDecimal monthlyRate = annualRate.divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
+                    .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);
+            batch.set(i, BigDecimal.valueOf(random.nextInt(10_000, 1_000_000), 2), monthlyRate,
+                    random.nextInt(1, 83) * 12);
+        }
+    }
+
+    @Benchmark
+    public FutureValueBatch futureValues() {
+        futureValueEngine.futureValues(batch);
+        return batch;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.retirementCalculator.benchmark;
+
+import com.example.retirementCalculator.RetirementCalculatorApplication;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of {@code POST /retirement} with virtual threads on and off.
+ * <p>
+ * Boots the whole application on a random port, backed by H2 and an embedded Redis reached
+ * through a {@link LatencyProxy}, with the near caches disabled so that every request blocks
+ * on a Redis round trip of {@code redisLatencyMillis}. Each JMH thread is one client keeping
+ * a request in flight, so vary the offered concurrency with {@code -t}. With platform threads
+ * throughput stops growing once every Tomcat worker ({@code maxThreads}) is blocked; with
+ * virtual threads that setting no longer applies.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(400)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class VirtualThreadLoadBenchmark {
+
+    private static final String REQUEST_BODY = "{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}";
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"20"})
+    private int redisLatencyMillis;
+
+    @Param({"200"})
+    private int maxThreads;
+
+    private EmbeddedRedisFixture redis;
+    private LatencyProxy proxy;
+    private ServletWebServerApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redis = EmbeddedRedisFixture.start();
+        proxy = LatencyProxy.start(redis.port(), redisLatencyMillis);
+
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(RetirementCalculatorApplication.class)
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + maxThreads,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.data.redis.port=" + proxy.port(),
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                        "--calculator.cache.near.enabled=false",
+                        "--calculator.cache.result.enabled=false",
+                        "--calculator.audit.enabled=false");
+        // The test profile starts with an empty database; lifestyles are loaded into Redis on first use
+        context.getBean(LifestyleDepositsRepo.class).saveAll(EmbeddedRedisFixture.LIFESTYLES.stream()
+                .map(lifestyle -> new LifestyleDepositsEntity(null, lifestyle.getLifestyleType(),
+                        lifestyle.getMonthlyDeposit(), lifestyle.getDescription()))
+                .toList());
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + context.getWebServer().getPort() + "/api/v1/calculator/retirement"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(REQUEST_BODY))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        proxy.close();
+        redis.close();
+    }
+
+    @Benchmark
+    public int calculateRetirement() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().length();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.ReactiveLifestyleProfileCacheService;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for retirement calculations.
+ * <p>
+ * Accepts and returns the same DTOs as {@link RetirementCalculatorController}, but resolves
+ * the lifestyle profile through {@link ReactiveLifestyleProfileCacheService} and returns a
+ * {@link Mono}. The request is completed asynchronously once Redis answers, so no request
+ * thread is held while it waits. Errors reach
+ * {@link com.example.retirementCalculator.exception.GlobalExceptionHandler} and are reported
+ * exactly as for the blocking endpoint.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator/reactive")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Calculator (reactive)", description = "Non-blocking API endpoints for retirement savings calculations")
+public class ReactiveRetirementCalculatorController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveRetirementCalculatorController.class);
+
+    private final ReactiveLifestyleProfileCacheService lifestyleProfileCacheService;
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final ScenarioBatchProcessor scenarioBatchProcessor;
+    private final CalculationAuditLog calculationAuditLog;
+
+    /**
+     * Calculates retirement savings based on provided parameters without blocking.
+     *
+     * @param request The calculation request parameters
+     * @return A response containing the calculation results, once available
+     */
+    @Operation(
+            summary = "Calculate retirement savings without blocking",
+            description = "Same calculation as POST /api/v1/calculator/retirement, served asynchronously"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Calculation completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RetirementCalculatorResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Specified lifestyle type not found", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error during calculation", content = @Content)
+    })
+    @PostMapping(
+            value = "/retirement",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public Mono<ResponseEntity<RetirementCalculatorResponseDTO>> calculateRetirement(
+            @Parameter(description = "Retirement calculation parameters", required = true)
+            @Valid @RequestBody RetirementCalculatorRequestDTO request) {
+
+        log.debug("Received reactive retirement calculation request for age: {}, retirement age: {}, lifestyle: {}",
+                request.getCurrentAge(), request.getRetirementAge(), request.getLifestyleType());
+
+        String lifestyleType = request.getLifestyleType();
+        return lifestyleProfileCacheService.getProfile(lifestyleType)
+                .map(profile -> calculationBuilder.build(
+                        request.getCurrentAge(),
+                        request.getRetirementAge(),
+                        calculationBuilder.toLifestyleProfile(lifestyleType, profile),
+                        request.getCustomInterestRate()))
+                .doOnNext(calculationAuditLog::record)
+                .map(scenarioBatchProcessor::toResponse)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.retirementCalculator.api.controllers;
 
+import com.example.retirementCalculator.api.dto.BatchCalculationResponseDTO;
 import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
 import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+import com.example.retirementCalculator.cache.CalculationResultCache;
 import com.example.retirementCalculator.domain.RetirementCalculation;
 import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,10 +18,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 
 /**
  * REST Controller for retirement calculator operations.
@@ -39,7 +47,12 @@ public class RetirementCalculatorController {
 
     private Logger log = org.slf4j.LoggerFactory.getLogger(RetirementCalculatorController.class);
 
+    private static final String BATCH_PATH = "/api/v1/calculator/retirement/batch";
+
     private final RetirementCalculationBuilder calculationBuilder;
+    private final ScenarioBatchProcessor scenarioBatchProcessor;
+    private final CalculationResultCache calculationResultCache;
+    private final CalculationAuditLog calculationAuditLog;
 
     /**
      * Calculates retirement savings based on provided parameters.
@@ -48,8 +61,16 @@ public class RetirementCalculatorController {
      * detailed projections for retirement savings. The calculation is performed
      * using domain objects that encapsulate the business logic.
      * </p>
+     * <p>
+     * Results are memoized by {@link CalculationResultCache} and carry a weak {@code ETag}: the
+     * JSON and XML representations of a result are equivalent but not byte-identical, so they
+     * share one weak tag and the response varies by {@code Accept}. A client that sends a
+     * matching {@code If-None-Match} header receives 304 Not Modified without a body.
+     * Every served result is recorded in the {@link CalculationAuditLog}.
+     * </p>
      *
      * @param request The calculation request parameters
+     * @param ifNoneMatch entity tags of results the client already has, or {@code null}
      * @return A response containing the calculation results
      */
     @Operation(
@@ -65,6 +86,11 @@ public class RetirementCalculatorController {
                             schema = @Schema(implementation = RetirementCalculatorResponseDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Result matches the entity tag sent in If-None-Match",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid input parameters",
@@ -88,32 +114,92 @@ public class RetirementCalculatorController {
     )
     public ResponseEntity<RetirementCalculatorResponseDTO> calculateRetirement(
             @Parameter(description = "Retirement calculation parameters", required = true)
-            @Valid @RequestBody RetirementCalculatorRequestDTO request) {
+            @Valid @RequestBody RetirementCalculatorRequestDTO request,
+            @Parameter(description = "Entity tags of results the client already has")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.info("Received retirement calculation request for age: {}, retirement age: {}, lifestyle: {}",
                 request.getCurrentAge(), request.getRetirementAge(), request.getLifestyleType());
 
-        // Build and calculate using domain objects
-        RetirementCalculation calculation = calculationBuilder.build(
-                request.getCurrentAge(),
-                request.getRetirementAge(),
-                request.getLifestyleType(),
-                request.getCustomInterestRate()
-        );
+        String cacheKey = CalculationResultCache.keyOf(request.getCurrentAge(), request.getRetirementAge(),
+                request.getLifestyleType(), request.getCustomInterestRate());
+        CachedCalculationResult result = calculationResultCache.get(cacheKey, () -> calculate(request));
+        calculationAuditLog.record(result);
 
-        // Convert domain object to response DTO
-        RetirementCalculatorResponseDTO response = RetirementCalculatorResponseDTO.builder()
-                .currentAge(calculation.getCurrentAge())
-                .retirementAge(calculation.getRetirementAge())
-                .lifestyleType(calculation.getLifestyleType())
-                .interestRate(calculation.getInterestRate().doubleValue())
-                .monthlyDeposit(calculation.getMonthlyDeposit())
-                .totalRetirementSavings(calculation.calculateFutureValue())
-                .yearsToRetirement(calculation.getRetirementAge() - calculation.getCurrentAge())
-                .build();
+        String etag = "W/" + result.etag();
+        if (matchesAny(ifNoneMatch, result.etag())) {
+            log.info("Calculation unchanged for client, returning 304");
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        // Convert cached result to response DTO
+        RetirementCalculatorResponseDTO response = toResponse(result);
 
         log.info("Calculation completed successfully. Total retirement savings: {}", response.getTotalRetirementSavings());
 
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(response);
+    }
+
+    /**
+     * Calculates retirement savings for many scenarios in one request.
+     * <p>
+     * Each distinct lifestyle type is looked up once for the whole batch and the scenarios are
+     * evaluated in parallel. Scenarios that fail validation or calculation are reported inline
+     * with the same error details the single-scenario endpoint would return; the remaining
+     * scenarios are still calculated.
+     * </p>
+     *
+     * @param requests The calculation request parameters, one per scenario
+     * @return A response containing one result or error per scenario, in request order
+     */
+    @Operation(
+            summary = "Calculate retirement savings for a batch of scenarios",
+            description = "Calculates future retirement savings for every scenario, reporting per-scenario errors inline"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed; individual scenarios may contain errors",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchCalculationResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Batch is empty or exceeds the maximum size",
+                    content = @Content
+            )
+    })
+    @PostMapping(
+            value = "/retirement/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public ResponseEntity<BatchCalculationResponseDTO> calculateRetirementBatch(
+            @Parameter(description = "Retirement calculation parameters, one per scenario", required = true)
+            @RequestBody List<RetirementCalculatorRequestDTO> requests) {
+
+        log.info("Received batch retirement calculation request with {} scenarios", requests.size());
+
+        List<BatchCalculationResponseDTO.ItemResultDTO> results = scenarioBatchProcessor.process(requests, null, 0, BATCH_PATH);
+
+        int failed = 0;
+        for (BatchCalculationResponseDTO.ItemResultDTO result : results) {
+            if (result.getError() != null) {
+                failed++;
+            }
+        }
+
+        BatchCalculationResponseDTO response = BatchCalculationResponseDTO.builder()
+                .total(results.size())
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+
+        log.info("Batch calculation completed: {} succeeded, {} failed", response.getSucceeded(), response.getFailed());
+
         return ResponseEntity.ok(response);
     }
 
@@ -144,4 +230,49 @@ public class RetirementCalculatorController {
         log.debug("Health check endpoint called");
         return ResponseEntity.ok("Retirement Calculator API is operational");
     }
-}
\ No newline at end of file
+
+    private CachedCalculationResult calculate(RetirementCalculatorRequestDTO request) {
+        // Build and calculate using domain objects
+        RetirementCalculation calculation = calculationBuilder.build(
+                request.getCurrentAge(),
+                request.getRetirementAge(),
+                request.getLifestyleType(),
+                request.getCustomInterestRate()
+        );
+
+        return CachedCalculationResult.of(calculation.getCurrentAge(), calculation.getRetirementAge(),
+                calculation.getLifestyleType(), calculation.getInterestRate(), calculation.getMonthlyDeposit(),
+                calculation.calculateFutureValue());
+    }
+
+    private static RetirementCalculatorResponseDTO toResponse(CachedCalculationResult result) {
+        return RetirementCalculatorResponseDTO.builder()
+                .currentAge(result.currentAge())
+                .retirementAge(result.retirementAge())
+                .lifestyleType(result.lifestyleType())
+                .interestRate(result.interestRate().doubleValue())
+                .monthlyDeposit(result.monthlyDeposit())
+                .totalRetirementSavings(result.futureValue())
+                .yearsToRetirement(result.retirementAge() - result.currentAge())
+                .build();
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against an entity tag, using weak comparison.
+     */
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.GoalSeekRequestDTO;
+import com.example.retirementCalculator.api.dto.GoalSeekResponseDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+import com.example.retirementCalculator.domain.GoalSeekResult;
+import com.example.retirementCalculator.domain.GoalSeekSolver;
+import com.example.retirementCalculator.domain.GoalSeekVariable;
+import com.example.retirementCalculator.domain.LifestyleProfile;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import com.example.retirementCalculator.exception.RateNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+
+/**
+ * REST controller solving retirement projections backwards.
+ * <p>
+ * Answers in one request what clients used to search for by calling the calculation
+ * endpoint repeatedly: the monthly deposit, retirement age or interest rate that reaches
+ * a target balance. The solving itself is done by {@link GoalSeekSolver}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Goal Seek", description = "API endpoints for solving the inputs that reach a target balance")
+public class RetirementGoalSeekController {
+
+    private static final Logger log = LoggerFactory.getLogger(RetirementGoalSeekController.class);
+
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final GoalSeekSolver solver;
+    private final CalculationAuditLog calculationAuditLog;
+
+    /**
+     * Solves the requested input so that the projected savings reach the target.
+     *
+     * @param request The goal-seek request parameters
+     * @return A response containing all inputs of the solved projection
+     */
+    @Operation(
+            summary = "Solve for a target balance",
+            description = "Finds the monthly deposit, retirement age or interest rate that reaches the target savings"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Solved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GoalSeekResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters or unreachable target", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Specified lifestyle type not found", content = @Content)
+    })
+    @PostMapping(
+            value = "/retirement/goal-seek",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public ResponseEntity<GoalSeekResponseDTO> solve(
+            @Parameter(description = "Goal-seek parameters", required = true)
+            @Valid @RequestBody GoalSeekRequestDTO request) {
+
+        log.info("Received goal-seek request for {} with target {}, lifestyle: {}",
+                request.getSolveFor(), request.getTargetSavings(), request.getLifestyleType());
+
+        String lifestyleType = request.getLifestyleType();
+        LifestyleProfile profile = calculationBuilder.resolveProfile(lifestyleType);
+        BigDecimal interestRate = request.getCustomInterestRate() != null ? request.getCustomInterestRate() : profile.interestRate();
+        BigDecimal monthlyDeposit = request.getCustomMonthlyDeposit() != null ? request.getCustomMonthlyDeposit() : profile.monthlyDeposit();
+        int currentAge = request.getCurrentAge();
+
+        GoalSeekResult result = switch (request.getSolveFor()) {
+            case MONTHLY_DEPOSIT -> solver.solveMonthlyDeposit(
+                    currentAge, retirementAge(request), requireRate(interestRate, lifestyleType), request.getTargetSavings());
+            case RETIREMENT_AGE -> solver.solveRetirementAge(
+                    currentAge, requireRate(interestRate, lifestyleType), monthlyDeposit, request.getTargetSavings());
+            case INTEREST_RATE -> solver.solveInterestRate(
+                    currentAge, retirementAge(request), monthlyDeposit, request.getTargetSavings());
+        };
+        calculationAuditLog.record(CachedCalculationResult.of(result.currentAge(), result.retirementAge(), lifestyleType,
+                result.interestRate(), result.monthlyDeposit(), result.projectedSavings()));
+
+        return ResponseEntity.ok(GoalSeekResponseDTO.builder()
+                .solvedFor(result.solvedFor())
+                .currentAge(result.currentAge())
+                .retirementAge(result.retirementAge())
+                .lifestyleType(lifestyleType)
+                .interestRate(result.interestRate())
+                .monthlyDeposit(result.monthlyDeposit())
+                .targetSavings(request.getTargetSavings())
+                .projectedSavings(result.projectedSavings())
+                .build());
+    }
+
+    private static int retirementAge(GoalSeekRequestDTO request) {
+        if (request.getRetirementAge() == null) {
+            throw new InvalidParameterException("Retirement age is required unless solving for " + GoalSeekVariable.RETIREMENT_AGE);
+        }
+        return request.getRetirementAge();
+    }
+
+    private static BigDecimal requireRate(BigDecimal interestRate, String lifestyleType) {
+        if (interestRate == null) {
+            throw new RateNotFoundException("Interest rate not found for lifestyle type: " + lifestyleType);
+        }
+        return interestRate;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.ProjectionResponseDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.domain.ProjectionFrequency;
+import com.example.retirementCalculator.domain.ProjectionPeriod;
+import com.example.retirementCalculator.domain.ProjectionSchedule;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.StreamSupport;
+
+/**
+ * REST controller for projection schedules.
+ * <p>
+ * Replaces calling the calculation endpoint once per intermediate age to draw the balance
+ * curve. The calculation is resolved and validated exactly like the calculation endpoint, and
+ * its {@link ProjectionSchedule} is mapped to the response lazily, so rows are computed while
+ * the response is written.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Calculator", description = "API endpoints for retirement savings calculations")
+public class RetirementProjectionController {
+
+    private static final Logger log = LoggerFactory.getLogger(RetirementProjectionController.class);
+
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final CalculationAuditLog calculationAuditLog;
+
+    /**
+     * Projects the savings at the end of every year or month until retirement.
+     *
+     * @param request The calculation request parameters
+     * @param frequency How often the balance is reported
+     * @return A response containing the balance, contributions and interest of every period
+     */
+    @Operation(
+            summary = "Project the savings balance until retirement",
+            description = "Returns the balance, contributions and interest earned at the end of every year or month until retirement"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Projection calculated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProjectionResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Specified lifestyle type not found", content = @Content)
+    })
+    @PostMapping(
+            value = "/retirement/projection",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public ResponseEntity<ProjectionResponseDTO> projectRetirement(
+            @Parameter(description = "Retirement calculation parameters", required = true)
+            @Valid @RequestBody RetirementCalculatorRequestDTO request,
+            @Parameter(description = "How often the balance is reported", example = "YEARLY")
+            @RequestParam(defaultValue = "YEARLY") ProjectionFrequency frequency) {
+
+        RetirementCalculation calculation = calculationBuilder.build(
+                request.getCurrentAge(),
+                request.getRetirementAge(),
+                request.getLifestyleType(),
+                request.getCustomInterestRate()
+        );
+        ProjectionSchedule schedule = calculation.projectionSchedule(frequency);
+        calculationAuditLog.record(calculation);
+
+        log.info("Projecting {} {} periods for lifestyle: {}, age {} to {}",
+                schedule.size(), frequency, request.getLifestyleType(), request.getCurrentAge(), request.getRetirementAge());
+
+        return ResponseEntity.ok(ProjectionResponseDTO.builder()
+                .currentAge(calculation.getCurrentAge())
+                .retirementAge(calculation.getRetirementAge())
+                .lifestyleType(calculation.getLifestyleType())
+                .interestRate(calculation.getInterestRate())
+                .monthlyDeposit(calculation.getMonthlyDeposit())
+                .frequency(frequency)
+                .totalRetirementSavings(calculation.calculateFutureValue())
+                .periods(() -> StreamSupport.stream(schedule.spliterator(), false)
+                        .map(RetirementProjectionController::toPeriod)
+                        .iterator())
+                .build());
+    }
+
+    private static ProjectionResponseDTO.PeriodDTO toPeriod(ProjectionPeriod period) {
+        return ProjectionResponseDTO.PeriodDTO.builder()
+                .period(period.period())
+                .month(period.month())
+                .age(period.age())
+                .contribution(period.contribution())
+                .interest(period.interest())
+                .totalContributions(period.totalContributions())
+                .totalInterest(period.totalInterest())
+                .balance(period.balance())
+                .build();
+    }
+}
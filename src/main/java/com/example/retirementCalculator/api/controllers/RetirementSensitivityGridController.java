@@ -0,0 +1,118 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.SensitivityGridRequestDTO;
+import com.example.retirementCalculator.api.dto.SensitivityGridResponseDTO;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import com.example.retirementCalculator.domain.SensitivityGridCalculator;
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * REST controller projecting savings over ranges of interest rates and retirement ages.
+ * <p>
+ * Replaces calling the calculation endpoint once per cell of a what-if table. The grid is
+ * computed by {@link SensitivityGridCalculator}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Sensitivity Grid", description = "API endpoints for projecting savings over ranges of inputs")
+public class RetirementSensitivityGridController {
+
+    private static final Logger log = LoggerFactory.getLogger(RetirementSensitivityGridController.class);
+
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final SensitivityGridCalculator gridCalculator;
+
+    /**
+     * Projects the savings for every interest rate and retirement age in the requested ranges.
+     *
+     * @param request The grid request parameters
+     * @return A response containing the ranges and the projected savings for each combination
+     */
+    @Operation(
+            summary = "Project savings over rates and retirement ages",
+            description = "Calculates the savings at retirement for every combination of interest rate and retirement age in the given ranges"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Grid calculated successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SensitivityGridResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters or grid too large", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Specified lifestyle type not found", content = @Content)
+    })
+    @PostMapping(
+            value = "/retirement/grid",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public ResponseEntity<SensitivityGridResponseDTO> calculateGrid(
+            @Parameter(description = "Grid parameters", required = true)
+            @Valid @RequestBody SensitivityGridRequestDTO request) {
+
+        log.info("Received sensitivity grid request for rates {}-{} by {}, ages {}-{}, lifestyle: {}",
+                request.getMinInterestRate(), request.getMaxInterestRate(), request.getInterestRateStep(),
+                request.getMinRetirementAge(), request.getMaxRetirementAge(), request.getLifestyleType());
+
+        List<BigDecimal> interestRates = interestRates(request);
+        int[] retirementAges = retirementAges(request);
+        BigDecimal monthlyDeposit = request.getCustomMonthlyDeposit() != null
+                ? request.getCustomMonthlyDeposit()
+                : calculationBuilder.resolveProfile(request.getLifestyleType()).monthlyDeposit();
+
+        BigDecimal[][] balances = gridCalculator.calculate(request.getCurrentAge(), monthlyDeposit, interestRates, retirementAges);
+
+        return ResponseEntity.ok(SensitivityGridResponseDTO.builder()
+                .currentAge(request.getCurrentAge())
+                .lifestyleType(request.getLifestyleType())
+                .monthlyDeposit(monthlyDeposit)
+                .interestRates(interestRates.toArray(BigDecimal[]::new))
+                .retirementAges(retirementAges)
+                .balances(balances)
+                .build());
+    }
+
+    private static List<BigDecimal> interestRates(SensitivityGridRequestDTO request) {
+        if (request.getMinInterestRate().compareTo(request.getMaxInterestRate()) > 0) {
+            throw new InvalidParameterException("Minimum interest rate must not exceed maximum interest rate");
+        }
+        List<BigDecimal> rates = new ArrayList<>();
+        for (BigDecimal rate = request.getMinInterestRate();
+             rate.compareTo(request.getMaxInterestRate()) <= 0;
+             rate = rate.add(request.getInterestRateStep())) {
+            rates.add(rate);
+        }
+        return rates;
+    }
+
+    private static int[] retirementAges(SensitivityGridRequestDTO request) {
+        if (request.getMinRetirementAge() > request.getMaxRetirementAge()) {
+            throw new InvalidParameterException("Minimum retirement age must not exceed maximum retirement age");
+        }
+        return IntStream.rangeClosed(request.getMinRetirementAge(), request.getMaxRetirementAge()).toArray();
+    }
+}
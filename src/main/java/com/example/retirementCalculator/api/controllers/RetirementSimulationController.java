@@ -0,0 +1,146 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.SimulationRequestDTO;
+import com.example.retirementCalculator.api.dto.SimulationResponseDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.domain.MonteCarloSimulator;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import com.example.retirementCalculator.domain.SimulationResult;
+import com.example.retirementCalculator.domain.SimulationScenario;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST controller for Monte Carlo retirement simulations.
+ * <p>
+ * Resolves and validates the scenario exactly like the calculation endpoint, then simulates
+ * it with {@link MonteCarloSimulator}. The mean return is the lifestyle's cached interest
+ * rate (or the custom rate). The volatility is taken from the request, else from
+ * {@code calculator.simulation.volatility.<lifestyle>}, else from
+ * {@code calculator.simulation.default-volatility}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Simulation", description = "API endpoints for probabilistic retirement projections")
+public class RetirementSimulationController {
+
+    private static final Logger log = LoggerFactory.getLogger(RetirementSimulationController.class);
+
+    private static final String VOLATILITY_PROPERTY_PREFIX = "calculator.simulation.volatility.";
+
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final MonteCarloSimulator simulator;
+    private final Environment environment;
+    private final CalculationAuditLog calculationAuditLog;
+
+    /**
+     * Annual volatility, as a percentage, for lifestyles without their own.
+     */
+    @Value("${calculator.simulation.default-volatility:12}")
+    private BigDecimal defaultVolatility = BigDecimal.valueOf(12);
+
+    /**
+     * Simulates retirement savings under randomized monthly returns.
+     *
+     * @param request The simulation request parameters
+     * @return A response containing yearly percentile bands and the probability of success
+     */
+    @Operation(
+            summary = "Simulate retirement savings",
+            description = "Runs a Monte Carlo simulation with randomized monthly returns and returns P5/P50/P95 savings per year"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Simulation completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = SimulationResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid input parameters", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Specified lifestyle type not found", content = @Content)
+    })
+    @PostMapping(
+            value = "/retirement/simulation",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+    )
+    public ResponseEntity<SimulationResponseDTO> simulateRetirement(
+            @Parameter(description = "Retirement simulation parameters", required = true)
+            @Valid @RequestBody SimulationRequestDTO request) {
+
+        RetirementCalculation calculation = calculationBuilder.build(
+                request.getCurrentAge(),
+                request.getRetirementAge(),
+                request.getLifestyleType(),
+                request.getCustomInterestRate()
+        );
+
+        BigDecimal volatility = request.getVolatility() != null
+                ? request.getVolatility()
+                : volatilityFor(request.getLifestyleType());
+        int paths = request.getPaths() != null ? request.getPaths() : simulator.getDefaultPaths();
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        log.info("Simulating {} paths for lifestyle: {}, age {} to {}, volatility {}, seed {}",
+                paths, request.getLifestyleType(), request.getCurrentAge(), request.getRetirementAge(), volatility, seed);
+
+        SimulationResult result = simulator.simulate(new SimulationScenario(
+                calculation.getRetirementAge() - calculation.getCurrentAge(),
+                calculation.getMonthlyDeposit(),
+                calculation.getInterestRate(),
+                volatility,
+                paths,
+                seed,
+                request.getTargetSavings()));
+        calculationAuditLog.record(calculation);
+
+        return ResponseEntity.ok(SimulationResponseDTO.builder()
+                .currentAge(calculation.getCurrentAge())
+                .retirementAge(calculation.getRetirementAge())
+                .lifestyleType(calculation.getLifestyleType())
+                .interestRate(calculation.getInterestRate())
+                .volatility(volatility)
+                .monthlyDeposit(calculation.getMonthlyDeposit())
+                .paths(result.paths())
+                .seed(result.seed())
+                .deterministicSavings(calculation.calculateFutureValue())
+                .targetSavings(request.getTargetSavings())
+                .probabilityOfSuccess(result.probabilityOfSuccess())
+                .years(result.bands().stream()
+                        .map(band -> SimulationResponseDTO.YearBandDTO.builder()
+                                .year(band.year())
+                                .age(calculation.getCurrentAge() + band.year())
+                                .p5(band.p5())
+                                .p50(band.p50())
+                                .p95(band.p95())
+                                .build())
+                        .toList())
+                .build());
+    }
+
+    private BigDecimal volatilityFor(String lifestyleType) {
+        return environment.getProperty(VOLATILITY_PROPERTY_PREFIX + lifestyleType.toLowerCase(), BigDecimal.class, defaultVolatility);
+    }
+}
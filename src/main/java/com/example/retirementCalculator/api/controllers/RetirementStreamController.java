@@ -0,0 +1,368 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.BatchCalculationResponseDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST Controller for streaming bulk retirement calculations.
+ * <p>
+ * Reads scenarios one line at a time from the request body, calculates them in fixed-size
+ * windows and writes each window's results before reading further. Memory use depends on the
+ * window size, not on the input size. A slow client blocks the response writes, and
+ * that pauses reading, so the client controls the pace.
+ * </p>
+ * <p>
+ * Two formats are supported, each answered in kind:
+ * <ul>
+ *     <li>{@code application/x-ndjson} - one {@link RetirementCalculatorRequestDTO} JSON object per line</li>
+ *     <li>{@code text/csv} - a {@value #CSV_REQUEST_HEADER} header followed by one scenario per line</li>
+ * </ul>
+ * Rows that cannot be parsed, validated or calculated are reported inline with their index.
+ * Lines longer than {@code calculator.stream.max-line-length} are skipped unread and
+ * reported the same way, so a single endless line cannot exhaust the heap.
+ * Errors are written in the response format too, since JSON error bodies would not match
+ * what the client accepts.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/calculator")
+@RequiredArgsConstructor
+@Tag(name = "Retirement Calculator", description = "API endpoints for retirement savings calculations")
+public class RetirementStreamController {
+
+    private Logger log = org.slf4j.LoggerFactory.getLogger(RetirementStreamController.class);
+
+    /**
+     * Media type for newline-delimited JSON.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Media type for comma-separated values.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    static final String CSV_REQUEST_HEADER = "currentAge,retirementAge,lifestyleType,customInterestRate";
+    static final String CSV_RESPONSE_HEADER =
+            "index,currentAge,retirementAge,lifestyleType,interestRate,monthlyDeposit,totalRetirementSavings,yearsToRetirement,status,error";
+
+    private static final String STREAM_PATH = "/api/v1/calculator/retirement/stream";
+
+    private final ScenarioBatchProcessor scenarioBatchProcessor;
+    private final ObjectMapper objectMapper;
+
+    @Value("${calculator.stream.window-size:1024}")
+    private int windowSize;
+
+    @Value("${calculator.stream.max-line-length:4096}")
+    private int maxLineLength;
+
+    /**
+     * Calculates a newline-delimited JSON stream of scenarios.
+     *
+     * @param request the HTTP request whose body holds one scenario per line
+     * @param response the HTTP response receiving one result per line
+     * @throws IOException if reading the request or writing the response fails
+     */
+    @Operation(
+            summary = "Stream retirement calculations as NDJSON",
+            description = "Reads one scenario JSON object per line and writes one result object per line, in order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Results streamed; individual rows may contain errors")
+    })
+    @PostMapping(value = "/retirement/stream", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void streamNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ObjectReader scenarioReader = objectMapper.readerFor(RetirementCalculatorRequestDTO.class);
+        ObjectWriter resultWriter = objectMapper.writerFor(BatchCalculationResponseDTO.ItemResultDTO.class);
+
+        try (BoundedLineReader in = reader(request)) {
+            response.setContentType(APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            try (Writer out = writer(response)) {
+                stream(in, out, scenarioReader::readValue, (result, writer) -> {
+                    writer.write(resultWriter.writeValueAsString(result));
+                    writer.write('\n');
+                });
+            }
+        }
+    }
+
+    /**
+     * Calculates a CSV stream of scenarios.
+     *
+     * @param request the HTTP request whose body holds a header and one scenario per line
+     * @param response the HTTP response receiving a header and one result per line
+     * @throws IOException if reading the request or writing the response fails
+     */
+    @Operation(
+            summary = "Stream retirement calculations as CSV",
+            description = "Reads a CSV of scenarios and writes a CSV of results, in order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Results streamed; individual rows may contain errors"),
+            @ApiResponse(responseCode = "400", description = "Missing or incorrect CSV header, reported as a single error row")
+    })
+    @PostMapping(value = "/retirement/stream", consumes = TEXT_CSV_VALUE, produces = TEXT_CSV_VALUE)
+    public void streamCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (BoundedLineReader in = reader(request)) {
+            String header = in.readLine();
+            boolean validHeader = header != null && !in.isTruncated()
+                    && header.trim().equalsIgnoreCase(CSV_REQUEST_HEADER);
+
+            response.setContentType(TEXT_CSV_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            if (!validHeader) {
+                log.warn("Rejected CSV stream with header: {}", header);
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            }
+            try (Writer out = writer(response)) {
+                out.write(CSV_RESPONSE_HEADER);
+                out.write('\n');
+                if (validHeader) {
+                    stream(in, out, RetirementStreamController::parseCsvLine, RetirementStreamController::writeCsvLine);
+                } else {
+                    out.write(",,,,,,,,ERROR,");
+                    out.write(csvField("Invalid CSV format: expected header '" + CSV_REQUEST_HEADER + "'"));
+                    out.write('\n');
+                }
+            }
+        }
+    }
+
+    private void stream(BoundedLineReader in, Writer out, LineParser parser, ResultWriter resultWriter) throws IOException {
+        int window = windowSize > 0 ? Math.min(windowSize, scenarioBatchProcessor.getMaxBatchSize())
+                : scenarioBatchProcessor.getMaxBatchSize();
+        List<RetirementCalculatorRequestDTO> requests = new ArrayList<>(window);
+        List<String> parseErrors = new ArrayList<>(window);
+        long nextIndex = 0;
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (in.isTruncated()) {
+                requests.add(null);
+                parseErrors.add("Malformed scenario: line exceeds " + maxLineLength + " characters");
+            } else if (line.isBlank()) {
+                continue;
+            } else {
+                parse(line, parser, requests, parseErrors);
+            }
+
+            if (requests.size() == window) {
+                nextIndex = flush(requests, parseErrors, nextIndex, out, resultWriter);
+            }
+        }
+        if (!requests.isEmpty()) {
+            nextIndex = flush(requests, parseErrors, nextIndex, out, resultWriter);
+        }
+
+        log.info("Streamed {} retirement calculations", nextIndex);
+    }
+
+    private static void parse(String line, LineParser parser, List<RetirementCalculatorRequestDTO> requests,
+                              List<String> parseErrors) throws IOException {
+        try {
+            requests.add(parser.parse(line));
+            parseErrors.add(null);
+        } catch (JsonProcessingException e) {
+            requests.add(null);
+            parseErrors.add("Malformed scenario: " + e.getOriginalMessage());
+        } catch (RuntimeException e) {
+            requests.add(null);
+            parseErrors.add("Malformed scenario: " + e.getMessage());
+        }
+    }
+
+    private long flush(List<RetirementCalculatorRequestDTO> requests, List<String> parseErrors, long firstIndex,
+                       Writer out, ResultWriter resultWriter) throws IOException {
+        for (BatchCalculationResponseDTO.ItemResultDTO result
+                : scenarioBatchProcessor.process(requests, parseErrors, firstIndex, STREAM_PATH)) {
+            resultWriter.write(result, out);
+        }
+        out.flush();
+
+        long nextIndex = firstIndex + requests.size();
+        requests.clear();
+        parseErrors.clear();
+        return nextIndex;
+    }
+
+    private BoundedLineReader reader(HttpServletRequest request) throws IOException {
+        return new BoundedLineReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8),
+                maxLineLength);
+    }
+
+    private static Writer writer(HttpServletResponse response) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static RetirementCalculatorRequestDTO parseCsvLine(String line) {
+        String[] parts = line.split(",", -1);
+        if (parts.length < 3 || parts.length > 4) {
+            throw new IllegalArgumentException("expected 3 or 4 columns but found " + parts.length);
+        }
+        try {
+            String customInterestRate = parts.length == 4 ? parts[3].trim() : "";
+            return RetirementCalculatorRequestDTO.builder()
+                    .currentAge(Integer.valueOf(parts[0].trim()))
+                    .retirementAge(Integer.valueOf(parts[1].trim()))
+                    .lifestyleType(parts[2].trim())
+                    .customInterestRate(customInterestRate.isEmpty() ? null : new BigDecimal(customInterestRate))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid number in '" + line + "'");
+        }
+    }
+
+    private static void writeCsvLine(BatchCalculationResponseDTO.ItemResultDTO result, Writer out) throws IOException {
+        out.write(Long.toString(result.getIndex()));
+        RetirementCalculatorResponseDTO calculation = result.getResult();
+        if (calculation != null) {
+            out.write(',');
+            out.write(calculation.getCurrentAge().toString());
+            out.write(',');
+            out.write(calculation.getRetirementAge().toString());
+            out.write(',');
+            out.write(csvField(calculation.getLifestyleType()));
+            out.write(',');
+            out.write(calculation.getInterestRate().toString());
+            out.write(',');
+            out.write(calculation.getMonthlyDeposit().toPlainString());
+            out.write(',');
+            out.write(calculation.getTotalRetirementSavings().toPlainString());
+            out.write(',');
+            out.write(Integer.toString(calculation.getYearsToRetirement()));
+            out.write(",OK,\n");
+        } else {
+            out.write(",,,,,,,,ERROR,");
+            out.write(csvField(result.getError().getMessage()));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Quotes a CSV field as RFC 4180 requires when it contains a separator, quote or line break.
+     *
+     * @param value the field value, may be null
+     * @return the field as written to the CSV
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Reads lines like {@link java.io.BufferedReader#readLine()} but keeps at most a fixed
+     * number of characters of each; the rest of an oversize line is read and discarded.
+     */
+    static final class BoundedLineReader implements Closeable {
+
+        private final Reader in;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean skipLineFeed;
+        private boolean truncated;
+
+        BoundedLineReader(Reader in, int maxLength) {
+            this.in = in;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * Reads the next line, without its terminator.
+         *
+         * @return the line, cut to the maximum length, or null at the end of the input
+         * @throws IOException if reading fails
+         */
+        String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read ? line.toString() : null;
+                    }
+                }
+                char c = buffer[position++];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                read = true;
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = c == '\r';
+                    return line.toString();
+                }
+                if (line.length() < maxLength) {
+                    line.append(c);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        /**
+         * @return whether the last line read was longer than the maximum length
+         */
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        RetirementCalculatorRequestDTO parse(String line) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ResultWriter {
+        void write(BatchCalculationResponseDTO.ItemResultDTO result, Writer out) throws IOException;
+    }
+}
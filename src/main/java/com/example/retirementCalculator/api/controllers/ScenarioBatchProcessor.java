@@ -0,0 +1,159 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.api.dto.BatchCalculationResponseDTO;
+import com.example.retirementCalculator.api.dto.ErrorResponseDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorRequestDTO;
+import com.example.retirementCalculator.api.dto.RetirementCalculatorResponseDTO;
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.domain.RetirementBatchCalculator;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementScenario;
+import com.example.retirementCalculator.domain.ScenarioOutcome;
+import com.example.retirementCalculator.exception.ErrorResponses;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns a list of request DTOs into per-scenario results for the batch and streaming endpoints.
+ * <p>
+ * Validates each request on its own, hands the valid ones to {@link RetirementBatchCalculator}
+ * and maps every outcome, or validation failure, to a
+ * {@link BatchCalculationResponseDTO.ItemResultDTO} at the request's position. The calculated
+ * scenarios of each list are recorded together with {@link CalculationAuditLog#recordAll}, which
+ * holds the request back while the audit buffer is full rather than dropping records.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+class ScenarioBatchProcessor {
+
+    private final RetirementBatchCalculator batchCalculator;
+    private final Validator validator;
+    private final CalculationAuditLog calculationAuditLog;
+
+    /**
+     * Validates and calculates a list of scenarios.
+     * <p>
+     * A {@code null} entry stands for a request that could not be parsed. It is reported with
+     * {@code parseError} as its message, or as a missing scenario when no message is given.
+     * </p>
+     *
+     * @param requests the scenarios; entries may be {@code null}
+     * @param parseErrors messages for {@code null} entries at the same positions, or {@code null}
+     * @param firstIndex the index reported for the first scenario
+     * @param path the API path reported in errors
+     * @return one result per scenario, in input order
+     * @throws com.example.retirementCalculator.exception.InvalidParameterException if the list is empty or too large
+     */
+    List<BatchCalculationResponseDTO.ItemResultDTO> process(List<RetirementCalculatorRequestDTO> requests,
+                                                            List<String> parseErrors, long firstIndex, String path) {
+        batchCalculator.checkBatchSize(requests.size());
+        BatchCalculationResponseDTO.ItemResultDTO[] results = new BatchCalculationResponseDTO.ItemResultDTO[requests.size()];
+        List<RetirementScenario> scenarios = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+
+        // Validate each scenario on its own so one bad entry does not reject the rest
+        for (int i = 0; i < requests.size(); i++) {
+            RetirementCalculatorRequestDTO request = requests.get(i);
+            if (request == null) {
+                String parseError = parseErrors == null ? null : parseErrors.get(i);
+                results[i] = failure(firstIndex + i, validationError(
+                        parseError == null ? "Scenario is required" : parseError, List.of(), path));
+                continue;
+            }
+            Set<ConstraintViolation<RetirementCalculatorRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = failure(firstIndex + i, validationError("Request validation failed", fieldErrors(violations), path));
+                continue;
+            }
+            scenarios.add(new RetirementScenario(request.getCurrentAge(), request.getRetirementAge(),
+                    request.getLifestyleType(), request.getCustomInterestRate()));
+            positions.add(i);
+        }
+
+        if (!scenarios.isEmpty()) {
+            List<ScenarioOutcome> outcomes = batchCalculator.calculateAll(scenarios);
+            List<RetirementCalculation> calculated = new ArrayList<>(outcomes.size());
+            for (int i = 0; i < outcomes.size(); i++) {
+                ScenarioOutcome outcome = outcomes.get(i);
+                int position = positions.get(i);
+                if (outcome.isSuccess()) {
+                    calculated.add(outcome.calculation());
+                    results[position] = BatchCalculationResponseDTO.ItemResultDTO.builder()
+                            .index(firstIndex + position)
+                            .result(toResponse(outcome.calculation()))
+                            .build();
+                } else {
+                    results[position] = failure(firstIndex + position, ErrorResponses.forException(outcome.error(), path));
+                }
+            }
+            calculationAuditLog.recordAll(calculated);
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * Returns the largest list accepted by {@link #process}.
+     *
+     * @return the maximum batch size
+     */
+    int getMaxBatchSize() {
+        return batchCalculator.getMaxBatchSize();
+    }
+
+    /**
+     * Converts a calculation into its response DTO.
+     *
+     * @param calculation the calculation
+     * @return the response DTO
+     */
+    RetirementCalculatorResponseDTO toResponse(RetirementCalculation calculation) {
+        return RetirementCalculatorResponseDTO.builder()
+                .currentAge(calculation.getCurrentAge())
+                .retirementAge(calculation.getRetirementAge())
+                .lifestyleType(calculation.getLifestyleType())
+                .interestRate(calculation.getInterestRate().doubleValue())
+                .monthlyDeposit(calculation.getMonthlyDeposit())
+                .totalRetirementSavings(calculation.calculateFutureValue())
+                .yearsToRetirement(calculation.getRetirementAge() - calculation.getCurrentAge())
+                .build();
+    }
+
+    private static BatchCalculationResponseDTO.ItemResultDTO failure(long index, ErrorResponseDTO error) {
+        return BatchCalculationResponseDTO.ItemResultDTO.builder()
+                .index(index)
+                .error(error)
+                .build();
+    }
+
+    private static List<ErrorResponseDTO.FieldErrorDto> fieldErrors(
+            Set<ConstraintViolation<RetirementCalculatorRequestDTO>> violations) {
+        return violations.stream()
+                .map(violation -> ErrorResponseDTO.FieldErrorDto.builder()
+                        .field(violation.getPropertyPath().toString())
+                        .message(violation.getMessage())
+                        .rejectedValue(violation.getInvalidValue())
+                        .build())
+                .toList();
+    }
+
+    private static ErrorResponseDTO validationError(String message, List<ErrorResponseDTO.FieldErrorDto> fieldErrors, String path) {
+        return ErrorResponseDTO.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Validation Error")
+                .message(message)
+                .path(path)
+                .fieldErrors(fieldErrors.isEmpty() ? null : fieldErrors)
+                .build();
+    }
+}
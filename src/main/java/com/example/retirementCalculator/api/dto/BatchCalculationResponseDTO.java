@@ -0,0 +1,80 @@
+package com.example.retirementCalculator.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for batch retirement calculation responses.
+ * <p>
+ * Holds one entry per submitted scenario, in submission order. Each entry carries either
+ * the calculation result or the error that prevented it, so a single bad scenario does
+ * not fail the whole batch.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Response object containing the results of a batch of retirement calculations")
+public class BatchCalculationResponseDTO {
+
+    /**
+     * The number of scenarios submitted.
+     */
+    @Schema(description = "Number of scenarios submitted", example = "3")
+    private int total;
+
+    /**
+     * The number of scenarios calculated successfully.
+     */
+    @Schema(description = "Number of scenarios calculated successfully", example = "2")
+    private int succeeded;
+
+    /**
+     * The number of scenarios that failed.
+     */
+    @Schema(description = "Number of scenarios that failed", example = "1")
+    private int failed;
+
+    /**
+     * Per-scenario results, in submission order.
+     */
+    @Schema(description = "Per-scenario results in submission order")
+    private List<ItemResultDTO> results;
+
+    /**
+     * Nested class representing the outcome of a single scenario.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Outcome of a single scenario within a batch")
+    public static class ItemResultDTO {
+
+        /**
+         * The zero-based position of the scenario in the request.
+         */
+        @Schema(description = "Zero-based position of the scenario in the request", example = "0")
+        private long index;
+
+        /**
+         * The calculation result, present when the scenario succeeded.
+         */
+        @Schema(description = "Calculation result when the scenario succeeded", nullable = true)
+        private RetirementCalculatorResponseDTO result;
+
+        /**
+         * The error details, present when the scenario failed.
+         */
+        @Schema(description = "Error details when the scenario failed", nullable = true)
+        private ErrorResponseDTO error;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.retirementCalculator.api.dto;
+
+import com.example.retirementCalculator.domain.GoalSeekVariable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for goal-seek requests.
+ * <p>
+ * Names the input to solve for and the savings to reach. The other inputs are taken from the
+ * request, or from the lifestyle type where the request leaves them out, exactly as for
+ * {@link RetirementCalculatorRequestDTO}.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request object for solving the input that reaches a target balance")
+public class GoalSeekRequestDTO {
+
+    /**
+     * The input to solve for.
+     */
+    @NotNull(message = "The input to solve for is required")
+    @Schema(description = "Input to solve for", example = "MONTHLY_DEPOSIT", required = true)
+    private GoalSeekVariable solveFor;
+
+    /**
+     * The savings to reach at retirement.
+     */
+    @NotNull(message = "Target savings is required")
+    @DecimalMin(value = "0.01", message = "Target savings must be positive")
+    @Schema(description = "Savings to reach at retirement", example = "1000000", required = true)
+    private BigDecimal targetSavings;
+
+    /**
+     * The current age of the person in years.
+     */
+    @NotNull(message = "Current age is required")
+    @Min(value = 18, message = "Current age must be at least 18 years")
+    @Max(value = 100, message = "Current age must be less than 100 years")
+    @Schema(description = "Current age in years", example = "30", required = true)
+    private Integer currentAge;
+
+    /**
+     * The expected retirement age in years; required unless solving for it.
+     */
+    @Min(value = 18, message = "Retirement age must be at least 18 years")
+    @Max(value = 100, message = "Retirement age must be less than or equal to 100 years")
+    @Schema(description = "Expected retirement age in years; required unless solving for it", example = "65")
+    private Integer retirementAge;
+
+    /**
+     * The lifestyle type providing the interest rate and monthly deposit not given in the request.
+     */
+    @NotBlank(message = "Lifestyle type is required")
+    @Schema(description = "Lifestyle type providing the inputs not given (e.g., simple, fancy)", example = "simple", required = true)
+    private String lifestyleType;
+
+    /**
+     * Optional custom interest rate to use instead of the cached rate.
+     */
+    @Min(value = 0, message = "Interest rate must be greater than or equal to 0")
+    @Max(value = 100, message = "Interest rate must be less than or equal to 100")
+    @Schema(description = "Optional custom interest rate as a percentage", example = "5.5")
+    private BigDecimal customInterestRate;
+
+    /**
+     * Optional custom monthly deposit to use instead of the lifestyle's deposit.
+     */
+    @DecimalMin(value = "0.01", message = "Monthly deposit must be positive")
+    @Schema(description = "Optional custom monthly deposit", example = "1500.00")
+    private BigDecimal customMonthlyDeposit;
+}
@@ -0,0 +1,73 @@
+package com.example.retirementCalculator.api.dto;
+
+import com.example.retirementCalculator.domain.GoalSeekVariable;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for goal-seek responses.
+ * <p>
+ * Holds every input of the solved projection, the solved one included, so that the same
+ * values sent to the calculation endpoint return {@code projectedSavings}.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Response object containing the solved inputs for a target balance")
+public class GoalSeekResponseDTO {
+
+    /**
+     * The input that was solved for.
+     */
+    @Schema(description = "Input that was solved for", example = "MONTHLY_DEPOSIT")
+    private GoalSeekVariable solvedFor;
+
+    /**
+     * The current age in years.
+     */
+    @Schema(description = "Current age in years", example = "30")
+    private int currentAge;
+
+    /**
+     * The retirement age in years, solved or given.
+     */
+    @Schema(description = "Retirement age in years, solved or given", example = "65")
+    private int retirementAge;
+
+    /**
+     * The lifestyle type the missing inputs were taken from.
+     */
+    @Schema(description = "Lifestyle type the missing inputs were taken from", example = "simple")
+    private String lifestyleType;
+
+    /**
+     * The annual interest rate as a percentage, solved or given.
+     */
+    @Schema(description = "Annual interest rate as a percentage, solved or given", example = "6.5")
+    private BigDecimal interestRate;
+
+    /**
+     * The monthly deposit, solved or given.
+     */
+    @Schema(description = "Monthly deposit, solved or given", example = "624.88")
+    private BigDecimal monthlyDeposit;
+
+    /**
+     * The savings to reach.
+     */
+    @Schema(description = "Savings to reach at retirement", example = "1000000")
+    private BigDecimal targetSavings;
+
+    /**
+     * The savings projected with these inputs; never below the target.
+     */
+    @Schema(description = "Savings projected with these inputs; never below the target", example = "1000002.36")
+    private BigDecimal projectedSavings;
+}
@@ -0,0 +1,135 @@
+package com.example.retirementCalculator.api.dto;
+
+import com.example.retirementCalculator.domain.ProjectionFrequency;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for projection schedule responses.
+ * <p>
+ * Repeats the resolved inputs and lists the balance, contributions and interest at the end of
+ * every period. The periods are an {@link Iterable} that produces each row as it is
+ * serialized, so a long monthly schedule is written out in buffer-sized chunks rather than
+ * built as one list first.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Response object containing the savings at the end of every period until retirement")
+public class ProjectionResponseDTO {
+
+    /**
+     * The current age in years.
+     */
+    @Schema(description = "Current age in years", example = "30")
+    private int currentAge;
+
+    /**
+     * The retirement age in years.
+     */
+    @Schema(description = "Retirement age in years", example = "65")
+    private int retirementAge;
+
+    /**
+     * The lifestyle type used for the projection.
+     */
+    @Schema(description = "Lifestyle type used for the projection", example = "fancy")
+    private String lifestyleType;
+
+    /**
+     * The annual interest rate as a percentage.
+     */
+    @Schema(description = "Annual interest rate as a percentage", example = "5.5")
+    private BigDecimal interestRate;
+
+    /**
+     * The monthly deposit amount.
+     */
+    @Schema(description = "Monthly deposit amount", example = "5000.00")
+    private BigDecimal monthlyDeposit;
+
+    /**
+     * How often the balance is reported.
+     */
+    @Schema(description = "How often the balance is reported", example = "YEARLY")
+    private ProjectionFrequency frequency;
+
+    /**
+     * The savings at retirement, as returned by the calculation endpoint.
+     */
+    @Schema(description = "Total savings at retirement age", example = "6354611.43")
+    private BigDecimal totalRetirementSavings;
+
+    /**
+     * The savings at the end of every period, first period first.
+     */
+    @ArraySchema(schema = @Schema(implementation = PeriodDTO.class), arraySchema = @Schema(description = "Savings at the end of every period, first period first"))
+    private Iterable<PeriodDTO> periods;
+
+    /**
+     * Nested class representing the savings at the end of one period.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Savings at the end of one period")
+    public static class PeriodDTO {
+
+        /**
+         * The period, starting at 1.
+         */
+        @Schema(description = "Period, starting at 1", example = "1")
+        private int period;
+
+        /**
+         * The number of monthly deposits made by the end of the period.
+         */
+        @Schema(description = "Number of monthly deposits made by the end of the period", example = "12")
+        private int month;
+
+        /**
+         * The age in whole years at the end of the period.
+         */
+        @Schema(description = "Age in whole years at the end of the period", example = "31")
+        private int age;
+
+        /**
+         * The deposits made during the period.
+         */
+        @Schema(description = "Deposits made during the period", example = "60000.00")
+        private BigDecimal contribution;
+
+        /**
+         * The interest earned during the period.
+         */
+        @Schema(description = "Interest earned during the period", example = "1526.82")
+        private BigDecimal interest;
+
+        /**
+         * The deposits made so far.
+         */
+        @Schema(description = "Deposits made so far", example = "60000.00")
+        private BigDecimal totalContributions;
+
+        /**
+         * The interest earned so far.
+         */
+        @Schema(description = "Interest earned so far", example = "1526.82")
+        private BigDecimal totalInterest;
+
+        /**
+         * The savings at the end of the period.
+         */
+        @Schema(description = "Savings at the end of the period", example = "61526.82")
+        private BigDecimal balance;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.retirementCalculator.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for sensitivity grid requests.
+ * <p>
+ * Describes an inclusive range of interest rates and one of retirement ages; the grid holds
+ * the projected savings for every combination. The monthly deposit is taken from the request,
+ * or from the lifestyle type where the request leaves it out.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request object for projecting savings over a range of interest rates and retirement ages")
+public class SensitivityGridRequestDTO {
+
+    /**
+     * The current age of the person in years.
+     */
+    @NotNull(message = "Current age is required")
+    @Min(value = 18, message = "Current age must be at least 18 years")
+    @Max(value = 100, message = "Current age must be less than 100 years")
+    @Schema(description = "Current age in years", example = "30", required = true)
+    private Integer currentAge;
+
+    /**
+     * The lifestyle type providing the monthly deposit when none is given.
+     */
+    @NotBlank(message = "Lifestyle type is required")
+    @Schema(description = "Lifestyle type providing the monthly deposit (e.g., simple, fancy)", example = "simple", required = true)
+    private String lifestyleType;
+
+    /**
+     * Optional custom monthly deposit to use instead of the lifestyle's deposit.
+     */
+    @DecimalMin(value = "0.01", message = "Monthly deposit must be positive")
+    @Schema(description = "Optional custom monthly deposit", example = "1500.00")
+    private BigDecimal customMonthlyDeposit;
+
+    /**
+     * The lowest annual interest rate as a percentage.
+     */
+    @NotNull(message = "Minimum interest rate is required")
+    @DecimalMin(value = "0", message = "Interest rate must be greater than or equal to 0")
+    @DecimalMax(value = "100", message = "Interest rate must be less than or equal to 100")
+    @Schema(description = "Lowest annual interest rate as a percentage", example = "3", required = true)
+    private BigDecimal minInterestRate;
+
+    /**
+     * The highest annual interest rate as a percentage.
+     */
+    @NotNull(message = "Maximum interest rate is required")
+    @DecimalMin(value = "0", message = "Interest rate must be greater than or equal to 0")
+    @DecimalMax(value = "100", message = "Interest rate must be less than or equal to 100")
+    @Schema(description = "Highest annual interest rate as a percentage", example = "8", required = true)
+    private BigDecimal maxInterestRate;
+
+    /**
+     * The increment between interest rates.
+     */
+    @NotNull(message = "Interest rate step is required")
+    @DecimalMin(value = "0.01", message = "Interest rate step must be at least 0.01")
+    @Schema(description = "Increment between interest rates", example = "0.5", required = true)
+    private BigDecimal interestRateStep;
+
+    /**
+     * The earliest retirement age in years.
+     */
+    @NotNull(message = "Minimum retirement age is required")
+    @Min(value = 18, message = "Retirement age must be at least 18 years")
+    @Max(value = 100, message = "Retirement age must be less than or equal to 100 years")
+    @Schema(description = "Earliest retirement age in years", example = "55", required = true)
+    private Integer minRetirementAge;
+
+    /**
+     * The latest retirement age in years.
+     */
+    @NotNull(message = "Maximum retirement age is required")
+    @Min(value = 18, message = "Retirement age must be at least 18 years")
+    @Max(value = 100, message = "Retirement age must be less than or equal to 100 years")
+    @Schema(description = "Latest retirement age in years", example = "70", required = true)
+    private Integer maxRetirementAge;
+}
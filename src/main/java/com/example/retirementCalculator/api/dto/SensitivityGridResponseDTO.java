@@ -0,0 +1,61 @@
+package com.example.retirementCalculator.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for sensitivity grid responses.
+ * <p>
+ * The grid is returned as arrays rather than one object per cell: {@code balances[i][j]} is
+ * the projected savings at {@code interestRates[i]} when retiring at {@code retirementAges[j]},
+ * and equals what the calculation endpoint returns for the same inputs.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Response object containing projected savings for every interest rate and retirement age")
+public class SensitivityGridResponseDTO {
+
+    /**
+     * The current age in years.
+     */
+    @Schema(description = "Current age in years", example = "30")
+    private int currentAge;
+
+    /**
+     * The lifestyle type used for the calculation.
+     */
+    @Schema(description = "Lifestyle type used for calculation", example = "simple")
+    private String lifestyleType;
+
+    /**
+     * The monthly deposit used for every cell.
+     */
+    @Schema(description = "Monthly deposit used for every cell", example = "2000.00")
+    private BigDecimal monthlyDeposit;
+
+    /**
+     * The annual interest rates as percentages, one per row.
+     */
+    @Schema(description = "Annual interest rates as percentages, one per row", example = "[3, 3.5, 4]")
+    private BigDecimal[] interestRates;
+
+    /**
+     * The retirement ages in years, one per column.
+     */
+    @Schema(description = "Retirement ages in years, one per column", example = "[55, 56, 57]")
+    private int[] retirementAges;
+
+    /**
+     * The projected savings, indexed by interest rate and then by retirement age.
+     */
+    @Schema(description = "Projected savings, indexed by interest rate and then by retirement age")
+    private BigDecimal[][] balances;
+}
@@ -0,0 +1,84 @@
+package com.example.retirementCalculator.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for Monte Carlo simulation requests.
+ * <p>
+ * Takes the same scenario as {@link RetirementCalculatorRequestDTO}, plus the optional
+ * parameters of the simulation. Omitted parameters fall back to the configured defaults.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request object for Monte Carlo retirement simulations")
+public class SimulationRequestDTO {
+
+    /**
+     * The current age of the person in years.
+     */
+    @NotNull(message = "Current age is required")
+    @Min(value = 18, message = "Current age must be at least 18 years")
+    @Max(value = 100, message = "Current age must be less than 100 years")
+    @Schema(description = "Current age in years", example = "30", required = true)
+    private Integer currentAge;
+
+    /**
+     * The expected retirement age in years.
+     */
+    @NotNull(message = "Retirement age is required")
+    @Min(value = 18, message = "Retirement age must be at least 18 years")
+    @Max(value = 100, message = "Retirement age must be less than or equal to 100 years")
+    @Schema(description = "Expected retirement age in years", example = "65", required = true)
+    private Integer retirementAge;
+
+    /**
+     * Optional custom mean interest rate, used instead of the cached rate.
+     */
+    @Min(value = 0, message = "Interest rate must be greater than or equal to 0")
+    @Max(value = 100, message = "Interest rate must be less than or equal to 100")
+    @Schema(description = "Optional custom mean interest rate as a percentage", example = "5.5")
+    private BigDecimal customInterestRate;
+
+    /**
+     * The desired lifestyle type for retirement planning.
+     */
+    @NotBlank(message = "Lifestyle type is required")
+    @Schema(description = "Desired lifestyle type for retirement (e.g., simple, fancy)", example = "fancy", required = true)
+    private String lifestyleType;
+
+    /**
+     * Optional standard deviation of the annual return, used instead of the lifestyle's configured volatility.
+     */
+    @Min(value = 0, message = "Volatility must be greater than or equal to 0")
+    @Max(value = 100, message = "Volatility must be less than or equal to 100")
+    @Schema(description = "Optional standard deviation of the annual return as a percentage", example = "12")
+    private BigDecimal volatility;
+
+    /**
+     * Optional number of simulated paths.
+     */
+    @Min(value = 1, message = "Number of paths must be at least 1")
+    @Schema(description = "Optional number of simulated paths", example = "10000")
+    private Integer paths;
+
+    /**
+     * Optional seed; repeating a request with the same seed repeats its result.
+     */
+    @Schema(description = "Optional seed for reproducible results", example = "42")
+    private Long seed;
+
+    /**
+     * Optional savings target used to estimate the probability of success.
+     */
+    @DecimalMin(value = "0", message = "Target savings must be greater than or equal to 0")
+    @Schema(description = "Optional savings target for the probability of success", example = "5000000")
+    private BigDecimal targetSavings;
+}
@@ -0,0 +1,140 @@
+package com.example.retirementCalculator.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for Monte Carlo simulation responses.
+ * <p>
+ * Repeats the resolved inputs, including the seed, so that the simulation can be
+ * reproduced, and reports the savings percentiles at the end of every year.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Response object containing the results of a Monte Carlo retirement simulation")
+public class SimulationResponseDTO {
+
+    /**
+     * The current age in years.
+     */
+    @Schema(description = "Current age in years", example = "30")
+    private int currentAge;
+
+    /**
+     * The expected retirement age in years.
+     */
+    @Schema(description = "Expected retirement age in years", example = "65")
+    private int retirementAge;
+
+    /**
+     * The lifestyle type used for the simulation.
+     */
+    @Schema(description = "Lifestyle type used for the simulation", example = "fancy")
+    private String lifestyleType;
+
+    /**
+     * The mean annual interest rate as a percentage.
+     */
+    @Schema(description = "Mean annual interest rate as a percentage", example = "5.5")
+    private BigDecimal interestRate;
+
+    /**
+     * The standard deviation of the annual return as a percentage.
+     */
+    @Schema(description = "Standard deviation of the annual return as a percentage", example = "12")
+    private BigDecimal volatility;
+
+    /**
+     * The monthly deposit amount.
+     */
+    @Schema(description = "Monthly deposit amount", example = "5000.00")
+    private BigDecimal monthlyDeposit;
+
+    /**
+     * The number of simulated paths.
+     */
+    @Schema(description = "Number of simulated paths", example = "10000")
+    private int paths;
+
+    /**
+     * The seed the paths were derived from.
+     */
+    @Schema(description = "Seed the paths were derived from", example = "42")
+    private long seed;
+
+    /**
+     * The savings without randomness, as returned by the calculation endpoint.
+     */
+    @Schema(description = "Total savings at the mean rate, as calculated without randomness", example = "6354611.43")
+    private BigDecimal deterministicSavings;
+
+    /**
+     * The savings target the probability of success refers to.
+     */
+    @Schema(description = "Savings target the probability of success refers to", example = "5000000")
+    private BigDecimal targetSavings;
+
+    /**
+     * The fraction of paths reaching the target savings.
+     */
+    @Schema(description = "Fraction of paths reaching the target savings", example = "0.62")
+    private Double probabilityOfSuccess;
+
+    /**
+     * The savings percentiles at the end of every year.
+     */
+    @Schema(description = "Savings percentiles at the end of every year")
+    private List<YearBandDTO> years;
+
+    /**
+     * Nested class representing the savings percentiles at the end of one year.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "Savings percentiles at the end of one year")
+    public static class YearBandDTO {
+
+        /**
+         * The year of the simulation, starting at 1.
+         */
+        @Schema(description = "Year of the simulation, starting at 1", example = "1")
+        private int year;
+
+        /**
+         * The age at the end of the year.
+         */
+        @Schema(description = "Age at the end of the year", example = "31")
+        private int age;
+
+        /**
+         * The 5th percentile of savings.
+         */
+        @Schema(description = "5th percentile of savings", example = "58000.00")
+        private BigDecimal p5;
+
+        /**
+         * The median savings.
+         */
+        @Schema(description = "Median savings", example = "61600.00")
+        private BigDecimal p50;
+
+        /**
+         * The 95th percentile of savings.
+         */
+        @Schema(description = "95th percentile of savings", example = "65400.00")
+        private BigDecimal p95;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.retirementCalculator.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue with many producers and a single consumer.
+ * <p>
+ * Producers claim a slot by advancing the tail sequence with a compare-and-set and then
+ * publish their element into it; they never block and fail fast when the buffer is full. The
+ * consumer takes elements in sequence order and stops at the first claimed slot that has not
+ * been published yet, picking it up on its next drain. A slot is cleared before the head
+ * sequence moves past it, so a producer can only claim a slot the consumer has released.
+ * </p>
+ *
+ * @param <E> the element type
+ */
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity the minimum capacity, rounded up to a power of two
+     */
+    AuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element unless the buffer is full. Safe to call from any thread.
+     *
+     * @param element the element
+     * @return {@code true} if the element was added
+     */
+    boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.set((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * Removes up to {@code limit} elements in insertion order. Must only be called by the
+     * single consumer thread.
+     *
+     * @param sink receives the removed elements
+     * @param limit the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    int drain(Consumer<? super E> sink, int limit) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            sink.accept(element);
+            sequence++;
+            drained++;
+        }
+        // The volatile write publishes the cleared slots to producers
+        head = sequence;
+        return drained;
+    }
+
+    /**
+     * Returns the number of claimed slots, including ones still being published.
+     *
+     * @return the approximate number of elements in the buffer
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of elements the buffer can hold.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.retirementCalculator.audit;
+
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.exception.LogRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keeps a record of every projection served, without writing to the database on the request path.
+ * <p>
+ * Every endpoint that answers with a projection of the client's own scenario records it:
+ * {@code /retirement} and its reactive twin, each scenario of {@code /retirement/batch} and
+ * {@code /retirement/stream}, {@code /retirement/projection}, the solved scenario of
+ * {@code /retirement/goal-seek} and the deterministic projection of
+ * {@code /retirement/simulation}. The cells of {@code /retirement/grid} are not recorded: they
+ * are a what-if table around the client's inputs, and one request may hold more cells than
+ * the whole buffer.
+ * </p>
+ * <p>
+ * {@link #record} only puts a record into a bounded lock-free {@link AuditRingBuffer}. A
+ * single background writer takes records from the buffer and inserts them into
+ * {@code staging.calculation_audit} with JDBC batch inserts, once {@code flush-size} records
+ * are waiting or {@code flush-interval} has passed. When the database falls behind and the
+ * buffer fills up, new records of single projections are dropped and counted instead of slowing
+ * down requests.
+ * </p>
+ * <p>
+ * A batch or stream window may hold more scenarios than the buffer, so {@link #recordAll}
+ * applies backpressure instead: it waits for the writer to free space, up to
+ * {@code bulk-timeout} per call, and only drops what is left once that time has passed.
+ * </p>
+ * <p>
+ * On shutdown the writer flushes everything still in the buffer before the data source closes.
+ * Records are counted as {@code calculator.audit.records} tagged with their outcome:
+ * {@code written}, {@code dropped} or {@code failed}.
+ * </p>
+ */
+@Component
+@Slf4j
+public class CalculationAuditLog {
+
+    static final String RECORDS = "calculator.audit.records";
+
+    static final String INSERT_SQL = "INSERT INTO staging.calculation_audit "
+            + "(served_at, current_age, retirement_age, lifestyle_type, interest_rate, monthly_deposit, future_value) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Decimal places of the {@code interest_rate} column. Custom rates may have more.
+     */
+    private static final int RATE_SCALE = 4;
+
+    /**
+     * Longest a bulk producer sleeps before it checks the buffer for space again.
+     */
+    private static final long BACKPRESSURE_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final Duration shutdownTimeout;
+    private final long bulkTimeoutNanos;
+
+    private final AuditRingBuffer<CalculationAuditRecord> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final LogRateLimiter dropLogLimiter = new LogRateLimiter(1, Duration.ofSeconds(10));
+
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile boolean flushRequested;
+
+    /**
+     * Creates the audit log and starts its writer thread.
+     *
+     * @param jdbcTemplate the template used for batch inserts
+     * @param meterRegistry the registry the record counters are registered with
+     * @param enabled whether projections are audited at all
+     * @param capacity the number of records that may wait for the writer
+     * @param flushSize the number of records inserted per batch
+     * @param flushInterval the longest time a record waits before it is written
+     * @param shutdownTimeout how long shutdown waits for the remaining records to be written
+     * @param bulkTimeout how long {@link #recordAll} waits for space in the buffer
+     */
+    public CalculationAuditLog(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                               @Value("${calculator.audit.enabled:true}") boolean enabled,
+                               @Value("${calculator.audit.capacity:8192}") int capacity,
+                               @Value("${calculator.audit.flush-size:500}") int flushSize,
+                               @Value("${calculator.audit.flush-interval:1s}") Duration flushInterval,
+                               @Value("${calculator.audit.shutdown-timeout:10s}") Duration shutdownTimeout,
+                               @Value("${calculator.audit.bulk-timeout:30s}") Duration bulkTimeout) {
+        if (flushSize < 1) {
+            throw new IllegalArgumentException("Audit flush size must be positive: " + flushSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(jdbcTemplate.getDataSource()));
+        this.enabled = enabled;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.bulkTimeoutNanos = bulkTimeout.toNanos();
+        this.buffer = new AuditRingBuffer<>(capacity);
+
+        this.written = recordCounter(meterRegistry, "written");
+        this.dropped = recordCounter(meterRegistry, "dropped");
+        this.failed = recordCounter(meterRegistry, "failed");
+        Gauge.builder("calculator.audit.pending", buffer, AuditRingBuffer::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+
+        this.writer = Thread.ofPlatform().name("calculation-audit-writer").daemon().unstarted(this::runWriter);
+        if (enabled) {
+            writer.start();
+        }
+    }
+
+    /**
+     * Enqueues a record of a served projection. Never blocks.
+     *
+     * @param result the projection that was served
+     * @return {@code true} if the record was enqueued, {@code false} if auditing is disabled or
+     * the record was dropped
+     */
+    public boolean record(CachedCalculationResult result) {
+        if (!enabled) {
+            return false;
+        }
+        if (!running || !buffer.offer(new CalculationAuditRecord(System.currentTimeMillis(), result))) {
+            drop(1);
+            return false;
+        }
+        // Only the producer that fills a batch wakes the writer; a missed wake-up waits for the interval
+        if (buffer.size() == flushSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    /**
+     * Enqueues a record of a projection that was served without going through the result cache.
+     * Never blocks.
+     * <p>
+     * The record carries no entity tag, which the audit table does not store, so recording
+     * does not hash the result.
+     * </p>
+     *
+     * @param calculation the projection that was served
+     * @return {@code true} if the record was enqueued, {@code false} if auditing is disabled or
+     * the record was dropped
+     */
+    public boolean record(RetirementCalculation calculation) {
+        if (!enabled) {
+            return false;
+        }
+        return record(toResult(calculation));
+    }
+
+    /**
+     * Enqueues records of the projections served for a batch or stream window, waiting for the
+     * writer when the buffer is full.
+     * <p>
+     * The wait is bounded by {@code bulk-timeout} for the whole list. Records that still do not
+     * fit once it has passed, or that arrive after shutdown has begun, are dropped and counted.
+     * </p>
+     *
+     * @param calculations the projections that were served
+     * @return the number of records enqueued
+     */
+    public int recordAll(List<RetirementCalculation> calculations) {
+        if (!enabled || calculations.isEmpty()) {
+            return 0;
+        }
+        long deadline = System.nanoTime() + bulkTimeoutNanos;
+        for (int i = 0; i < calculations.size(); i++) {
+            CalculationAuditRecord record = new CalculationAuditRecord(System.currentTimeMillis(),
+                    toResult(calculations.get(i)));
+            while (!running || !buffer.offer(record)) {
+                long remaining = deadline - System.nanoTime();
+                if (!running || remaining <= 0) {
+                    drop(calculations.size() - i);
+                    return i;
+                }
+                // Ask for a flush even if fewer than flush-size records are waiting
+                flushRequested = true;
+                LockSupport.unpark(writer);
+                LockSupport.parkNanos(this, Math.min(remaining, BACKPRESSURE_PAUSE_NANOS));
+            }
+        }
+        if (buffer.size() >= flushSize) {
+            LockSupport.unpark(writer);
+        }
+        return calculations.size();
+    }
+
+    /**
+     * Stops accepting records and waits for the writer to flush the ones already enqueued.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            if (!writer.join(shutdownTimeout)) {
+                log.warn("Audit writer did not finish within {}, {} records are lost", shutdownTimeout, buffer.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        List<CalculationAuditRecord> batch = new ArrayList<>(flushSize);
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            long now = System.nanoTime();
+            if (buffer.size() >= flushSize || flushRequested || now - nextFlush >= 0) {
+                flushRequested = false;
+                int drained;
+                do {
+                    drained = buffer.drain(batch::add, flushSize);
+                    if (drained > 0) {
+                        flush(batch);
+                    }
+                } while (drained == flushSize);
+                nextFlush = System.nanoTime() + flushIntervalNanos;
+            } else {
+                LockSupport.parkNanos(this, nextFlush - now);
+            }
+        }
+
+        // Drain what was enqueued before shutdown, giving records still being published a moment
+        long publishWait = TimeUnit.MILLISECONDS.toNanos(100);
+        long deadline = System.nanoTime() + publishWait;
+        while (buffer.size() > 0) {
+            if (buffer.drain(batch::add, flushSize) > 0) {
+                flush(batch);
+                deadline = System.nanoTime() + publishWait;
+            } else if (System.nanoTime() - deadline >= 0) {
+                break;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        log.info("Audit writer stopped, {} records written", (long) written.count());
+    }
+
+    /**
+     * Inserts a batch of records in one transaction. When the batch is rejected it is rolled
+     * back and its records are inserted one at a time, so a single bad row does not cost the
+     * whole batch; rows that still fail are logged and counted, not retried.
+     */
+    private void flush(List<CalculationAuditRecord> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind));
+            written.increment(batch.size());
+            log.debug("Wrote {} audit records", batch.size());
+        } catch (Exception e) {
+            log.warn("Failed to write a batch of {} audit records, retrying one by one: {}", batch.size(), e.getMessage());
+            flushOneByOne(batch);
+        }
+        batch.clear();
+    }
+
+    private void flushOneByOne(List<CalculationAuditRecord> batch) {
+        int rejected = 0;
+        Exception lastFailure = null;
+        for (CalculationAuditRecord record : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, record));
+                written.increment();
+            } catch (Exception e) {
+                rejected++;
+                lastFailure = e;
+            }
+        }
+        if (rejected > 0) {
+            failed.increment(rejected);
+            log.warn("Failed to write {} of {} audit records: {}", rejected, batch.size(), lastFailure.getMessage());
+        }
+    }
+
+    private void bind(PreparedStatement statement, CalculationAuditRecord record) throws SQLException {
+        CachedCalculationResult result = record.result();
+        statement.setTimestamp(1, new Timestamp(record.servedAtMillis()));
+        statement.setInt(2, result.currentAge());
+        statement.setInt(3, result.retirementAge());
+        statement.setString(4, result.lifestyleType());
+        statement.setBigDecimal(5, result.interestRate().setScale(RATE_SCALE, RoundingMode.HALF_UP));
+        statement.setBigDecimal(6, result.monthlyDeposit());
+        statement.setBigDecimal(7, result.futureValue());
+    }
+
+    private void drop(int count) {
+        dropped.increment(count);
+        long suppressed = dropLogLimiter.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("Audit buffer of {} records is full, dropping {} records ({} drops since last warning)",
+                    buffer.capacity(), count, suppressed + 1);
+        }
+    }
+
+    private static CachedCalculationResult toResult(RetirementCalculation calculation) {
+        return new CachedCalculationResult(calculation.getCurrentAge(), calculation.getRetirementAge(),
+                calculation.getLifestyleType(), calculation.getInterestRate(), calculation.getMonthlyDeposit(),
+                calculation.calculateFutureValue(), null);
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(RECORDS)
+                .description("Audit records by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
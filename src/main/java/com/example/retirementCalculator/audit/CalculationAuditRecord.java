@@ -0,0 +1,16 @@
+package com.example.retirementCalculator.audit;
+
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+
+/**
+ * One served projection waiting to be written to the audit table.
+ * <p>
+ * References the immutable result that was served instead of copying its values, so
+ * enqueuing a record allocates nothing but this object.
+ * </p>
+ *
+ * @param servedAtMillis when the projection was served, in epoch milliseconds
+ * @param result the projection that was served
+ */
+public record CalculationAuditRecord(long servedAtMillis, CachedCalculationResult result) {
+}
@@ -0,0 +1,32 @@
+package com.example.retirementCalculator.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether the lifestyle and interest rate caches are loaded.
+ * <p>
+ * Exposed as the {@code cache} component of {@code /actuator/health}. Redis itself being
+ * reachable is reported separately by Spring Boot's Redis health indicator; this one is down
+ * when Redis is up but a cache was never loaded or has expired.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheHealthIndicator implements HealthIndicator {
+
+    private final LifestyleCacheService lifestyleCacheService;
+    private final InterestRateCacheService interestRateCacheService;
+
+    @Override
+    public Health health() {
+        boolean lifestyleHealthy = lifestyleCacheService.isCacheHealthy();
+        boolean interestRateHealthy = interestRateCacheService.isCacheHealthy();
+        return (lifestyleHealthy && interestRateHealthy ? Health.up() : Health.down())
+                .withDetail(NearCacheConfig.LIFESTYLE_NEAR_CACHE, lifestyleHealthy ? "UP" : "DOWN")
+                .withDetail(NearCacheConfig.INTEREST_RATE_NEAR_CACHE, interestRateHealthy ? "UP" : "DOWN")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Meters for the Redis and database tiers of one cache.
+ * <p>
+ * Records Redis lookups as {@code calculator.cache.gets} with {@code tier=redis}, next to the
+ * near cache counters bound by {@link CacheMetricsConfig}, so the hit ratio of every tier can
+ * be derived from one metric. Redis reads and database fallbacks are timed with client-side
+ * p50/p95/p99 and a histogram for server-side aggregation.
+ * </p>
+ */
+public final class CacheMetrics {
+
+    static final String GETS = "calculator.cache.gets";
+    static final String FALLBACKS = "calculator.cache.fallbacks";
+    static final String REDIS_GET = "calculator.cache.redis.get";
+    static final String DATABASE_LOAD = "calculator.cache.database.load";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fallbacks;
+    private final Timer redisGet;
+    private final Timer databaseLoad;
+
+    /**
+     * Registers the meters of a cache.
+     *
+     * @param registry the registry to register with
+     * @param cacheName the cache name, used as the {@code cache} tag
+     */
+    public CacheMetrics(MeterRegistry registry, String cacheName) {
+        this.hits = gets(registry, cacheName, "hit");
+        this.misses = gets(registry, cacheName, "miss");
+        this.fallbacks = Counter.builder(FALLBACKS)
+                .description("Cache misses answered from the source of truth")
+                .tag("cache", cacheName)
+                .register(registry);
+        this.redisGet = timer(registry, REDIS_GET, "Time spent reading the cache from Redis", cacheName);
+        this.databaseLoad = timer(registry, DATABASE_LOAD, "Time spent loading cache misses from the database", cacheName);
+    }
+
+    /**
+     * Counts a lookup answered by Redis.
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Counts a lookup Redis could not answer.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Times a Redis read.
+     *
+     * @param read the read
+     * @param <T> the value type
+     * @return the value read
+     */
+    public <T> T timeRedisGet(Supplier<T> read) {
+        return redisGet.record(read);
+    }
+
+    /**
+     * Counts and times a database fallback.
+     *
+     * @param load the database load
+     * @param <T> the value type
+     * @return the value loaded
+     */
+    public <T> T timeDatabaseLoad(Supplier<T> load) {
+        fallbacks.increment();
+        return databaseLoad.record(load);
+    }
+
+    private static Counter gets(MeterRegistry registry, String cacheName, String result) {
+        return Counter.builder(GETS)
+                .description("Cache lookups by tier and result")
+                .tags("cache", cacheName, "tier", "redis", "result", result)
+                .register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, String cacheName) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("cache", cacheName)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
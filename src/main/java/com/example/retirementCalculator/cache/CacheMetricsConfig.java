@@ -0,0 +1,101 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration class for the cache meters exposed through Actuator.
+ * <p>
+ * Creates one {@link CacheMetrics} per Redis-backed cache and binds the statistics every
+ * {@link NearCache} already keeps, so near cache hits show up as {@code calculator.cache.gets}
+ * with {@code tier=near}.
+ * </p>
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    /**
+     * Name of the lifestyle profile cache in metrics.
+     */
+    public static final String LIFESTYLE_PROFILE_CACHE = "lifestyle_profile";
+
+    /**
+     * Creates the meters for lifestyle lookups.
+     *
+     * @param registry the meter registry
+     * @return the lifestyle cache metrics
+     */
+    @Bean
+    public CacheMetrics lifestyleCacheMetrics(MeterRegistry registry) {
+        return new CacheMetrics(registry, NearCacheConfig.LIFESTYLE_NEAR_CACHE);
+    }
+
+    /**
+     * Creates the meters for interest rate lookups.
+     *
+     * @param registry the meter registry
+     * @return the interest rate cache metrics
+     */
+    @Bean
+    public CacheMetrics interestRateCacheMetrics(MeterRegistry registry) {
+        return new CacheMetrics(registry, NearCacheConfig.INTEREST_RATE_NEAR_CACHE);
+    }
+
+    /**
+     * Creates the meters for combined lifestyle and interest rate lookups.
+     *
+     * @param registry the meter registry
+     * @return the lifestyle profile cache metrics
+     */
+    @Bean
+    public CacheMetrics lifestyleProfileCacheMetrics(MeterRegistry registry) {
+        return new CacheMetrics(registry, LIFESTYLE_PROFILE_CACHE);
+    }
+
+    /**
+     * Binds the statistics of every near cache.
+     *
+     * @param nearCaches the near caches
+     * @return the binder, registered by Actuator
+     */
+    @Bean
+    public MeterBinder nearCacheMetrics(List<NearCache<?>> nearCaches) {
+        return registry -> nearCaches.forEach(nearCache -> bind(registry, nearCache));
+    }
+
+    static void bind(MeterRegistry registry, NearCache<?> nearCache) {
+        String name = nearCache.getName();
+        FunctionCounter.builder(CacheMetrics.GETS, nearCache, cache -> cache.stats().hits())
+                .description("Cache lookups by tier and result")
+                .tags("cache", name, "tier", "near", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder(CacheMetrics.GETS, nearCache, cache -> cache.stats().misses())
+                .description("Cache lookups by tier and result")
+                .tags("cache", name, "tier", "near", "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("calculator.cache.evictions", nearCache, cache -> cache.stats().evictions())
+                .description("Near cache entries removed because they expired or the cache was full")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("calculator.cache.size", nearCache, cache -> cache.stats().size())
+                .description("Near cache entries currently held")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("calculator.cache.hit.ratio", nearCache, CacheMetricsConfig::hitRatio)
+                .description("Share of near cache lookups answered since startup")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private static double hitRatio(NearCache<?> nearCache) {
+        NearCache.Stats stats = nearCache.stats();
+        long lookups = stats.hits() + stats.misses();
+        return lookups == 0 ? 0 : (double) stats.hits() / lookups;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.retirementCalculator.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable snapshot of a finished retirement calculation as stored by {@link CalculationResultCache}.
+ * <p>
+ * Carries an entity tag derived from every value in the result, so clients can revalidate a
+ * result they already have without the server serializing it again.
+ * </p>
+ *
+ * @param currentAge the current age used in the calculation
+ * @param retirementAge the retirement age used in the calculation
+ * @param lifestyleType the lifestyle type as requested
+ * @param interestRate the annual interest rate used, as a percentage
+ * @param monthlyDeposit the monthly deposit used
+ * @param futureValue the projected savings at retirement age
+ * @param etag the quoted strong entity tag of this result
+ */
+public record CachedCalculationResult(int currentAge, int retirementAge, String lifestyleType,
+                                      BigDecimal interestRate, BigDecimal monthlyDeposit,
+                                      BigDecimal futureValue, String etag) {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Creates a result snapshot and derives its entity tag.
+     *
+     * @param currentAge the current age used in the calculation
+     * @param retirementAge the retirement age used in the calculation
+     * @param lifestyleType the lifestyle type as requested
+     * @param interestRate the annual interest rate used, as a percentage
+     * @param monthlyDeposit the monthly deposit used
+     * @param futureValue the projected savings at retirement age
+     * @return the cached result
+     */
+    public static CachedCalculationResult of(int currentAge, int retirementAge, String lifestyleType,
+                                             BigDecimal interestRate, BigDecimal monthlyDeposit, BigDecimal futureValue) {
+        String representation = currentAge + ":" + retirementAge + ":" + interestRate.toPlainString() + ":"
+                + monthlyDeposit.toPlainString() + ":" + futureValue.toPlainString() + ":" + lifestyleType;
+        return new CachedCalculationResult(currentAge, retirementAge, lifestyleType,
+                interestRate, monthlyDeposit, futureValue, etagOf(representation));
+    }
+
+    /**
+     * Hashes a representation into a quoted entity tag with 64-bit FNV-1a.
+     */
+    private static String etagOf(String representation) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : representation.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return "\"" + String.format("%016x", hash) + "\"";
+    }
+}
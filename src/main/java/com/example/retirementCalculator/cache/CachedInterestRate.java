@@ -0,0 +1,12 @@
+package com.example.retirementCalculator.cache;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable interest rate entry as stored in the complete interest rate list in Redis.
+ *
+ * @param lifestyleType the lifestyle type the rate applies to
+ * @param interestRate the annual interest rate as a percentage
+ */
+public record CachedInterestRate(String lifestyleType, BigDecimal interestRate) {
+}
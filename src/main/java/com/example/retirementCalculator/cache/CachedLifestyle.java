@@ -0,0 +1,39 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable snapshot of a lifestyle as stored in Redis and in the near cache.
+ * <p>
+ * Decouples the cached representation from the JPA entity, so cache hits neither depend on
+ * the persistence mapping nor hand out shared mutable entities.
+ * </p>
+ *
+ * @param id the database identifier, may be null for unsaved lifestyles
+ * @param lifestyleType the lifestyle type
+ * @param monthlyDeposit the expected monthly deposit
+ * @param description optional description, may be null
+ */
+public record CachedLifestyle(Integer id, String lifestyleType, BigDecimal monthlyDeposit, String description) {
+
+    /**
+     * Creates a snapshot of a lifestyle entity.
+     *
+     * @param entity the entity to copy
+     * @return the cached representation of the entity
+     */
+    public static CachedLifestyle of(LifestyleDepositsEntity entity) {
+        return new CachedLifestyle(entity.getId(), entity.getLifestyleType(), entity.getMonthlyDeposit(), entity.getDescription());
+    }
+
+    /**
+     * Creates a detached entity holding this snapshot's values.
+     *
+     * @return a new lifestyle entity
+     */
+    public LifestyleDepositsEntity toEntity() {
+        return new LifestyleDepositsEntity(id, lifestyleType, monthlyDeposit, description);
+    }
+}
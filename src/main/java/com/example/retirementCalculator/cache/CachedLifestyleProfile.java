@@ -0,0 +1,12 @@
+package com.example.retirementCalculator.cache;
+
+import java.math.BigDecimal;
+
+/**
+ * A lifestyle together with its interest rate, as resolved from the cache in one lookup.
+ *
+ * @param lifestyle the lifestyle, or {@code null} if the lifestyle type does not exist
+ * @param interestRate the annual interest rate, or {@code null} if none is cached
+ */
+public record CachedLifestyleProfile(CachedLifestyle lifestyle, BigDecimal interestRate) {
+}
@@ -0,0 +1,176 @@
+package com.example.retirementCalculator.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes finished calculations by their normalized request.
+ * <p>
+ * A calculation is a pure function of the request and the cached lifestyle and interest rate
+ * data, so its result can be reused until that data changes. Results are held in a bounded
+ * {@link NearCache} and, when {@code calculator.cache.result.redis.enabled} is set, in a
+ * shared Redis tier with a short TTL. Concurrent misses for the same key are coalesced, so a
+ * burst of identical requests calculates once.
+ * </p>
+ * <p>
+ * Both tiers are cleared whenever the lifestyle or interest rate near caches are invalidated,
+ * which happens on every node after either cache is refreshed. The shared tier is only
+ * cleared by the node that ran the refresh. A result calculated from the old data and written
+ * to Redis while the refresh is running survives for at most the Redis TTL.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class CalculationResultCache implements ApplicationListener<NearCacheInvalidatedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculationResultCache.class);
+    static final String RESULT_CACHE_KEY_PREFIX = "result:";
+
+    /**
+     * Near caches whose data every cached result is derived from.
+     */
+    private static final Set<String> SOURCE_CACHES =
+            Set.of(NearCacheConfig.LIFESTYLE_NEAR_CACHE, NearCacheConfig.INTEREST_RATE_NEAR_CACHE);
+
+    /**
+     * Absent with the {@value EmbeddedCacheConfig#EMBEDDED_PROFILE} profile, which keeps results in the near cache only.
+     */
+    @Nullable
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NearCache<CachedCalculationResult> resultNearCache;
+
+    /**
+     * Whether results are cached at all.
+     */
+    @Value("${calculator.cache.result.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * Whether results are also shared between nodes through Redis.
+     */
+    @Value("${calculator.cache.result.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    /**
+     * How long a result stays in the shared Redis tier.
+     */
+    @Value("${calculator.cache.result.redis.ttl:10m}")
+    private Duration redisTtl = Duration.ofMinutes(10);
+
+    private final SingleFlight<String, CachedCalculationResult> inFlightCalculations = new SingleFlight<>();
+
+    /**
+     * Builds the cache key of a calculation request.
+     * <p>
+     * Custom interest rates are normalized, so {@code 5.5} and {@code 5.50} share an entry. The
+     * lifestyle type is kept as given because it is echoed back in the result.
+     * </p>
+     *
+     * @param currentAge the current age
+     * @param retirementAge the retirement age
+     * @param lifestyleType the lifestyle type
+     * @param customInterestRate the custom interest rate, or {@code null} to use the cached rate
+     * @return the cache key
+     */
+    public static String keyOf(int currentAge, int retirementAge, String lifestyleType, BigDecimal customInterestRate) {
+        String rate = customInterestRate == null ? "-" : customInterestRate.stripTrailingZeros().toPlainString();
+        // The lifestyle type goes last since it may itself contain the separator
+        return RESULT_CACHE_KEY_PREFIX + currentAge + ":" + retirementAge + ":" + rate + ":" + lifestyleType;
+    }
+
+    /**
+     * Returns the cached result for a key, calculating and caching it on a miss.
+     * <p>
+     * Exceptions thrown by the calculation are propagated and nothing is cached for the key.
+     * </p>
+     *
+     * @param key the key built by {@link #keyOf}
+     * @param calculation calculates the result on a miss
+     * @return the cached or freshly calculated result
+     */
+    public CachedCalculationResult get(String key, Supplier<CachedCalculationResult> calculation) {
+        if (!enabled) {
+            return calculation.get();
+        }
+
+        CachedCalculationResult result = resultNearCache.get(key);
+        if (result != null) {
+            log.debug("Near cache hit for calculation result: {}", key);
+            return result;
+        }
+
+        long generation = resultNearCache.generation();
+        result = inFlightCalculations.execute(key, () -> load(key, calculation));
+        resultNearCache.put(key, result, generation);
+        return result;
+    }
+
+    /**
+     * Reads a result from the shared tier, falling back to calculating it.
+     * <p>
+     * The shared tier only saves work, so Redis failures are logged and the result is
+     * calculated locally instead.
+     * </p>
+     */
+    private CachedCalculationResult load(String key, Supplier<CachedCalculationResult> calculation) {
+        if (sharedTierEnabled()) {
+            try {
+                if (redisTemplate.opsForValue().get(key) instanceof CachedCalculationResult shared) {
+                    log.debug("Cache hit for calculation result: {}", key);
+                    return shared;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read calculation result from cache: {}", e.getMessage());
+            }
+        }
+
+        CachedCalculationResult result = calculation.get();
+
+        if (sharedTierEnabled()) {
+            try {
+                redisTemplate.opsForValue().set(key, result, redisTtl);
+            } catch (Exception e) {
+                log.warn("Failed to write calculation result to cache: {}", e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clears cached results once the data they were calculated from has been invalidated.
+     *
+     * @param event the near cache invalidation
+     */
+    @Override
+    public void onApplicationEvent(NearCacheInvalidatedEvent event) {
+        if (!SOURCE_CACHES.contains(event.getCacheName())) {
+            return;
+        }
+        resultNearCache.invalidateAll();
+        log.debug("Invalidated calculation results after '{}' was invalidated", event.getCacheName());
+
+        if (sharedTierEnabled() && event.isOriginator()) {
+            try {
+                long removed = RedisKeyPruner.unlinkStale(redisTemplate, RESULT_CACHE_KEY_PREFIX + "*", Set.of());
+                log.debug("Removed {} shared calculation results", removed);
+            } catch (Exception e) {
+                log.warn("Failed to remove shared calculation results: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean sharedTierEnabled() {
+        return redisEnabled && redisTemplate != null;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling a failing dependency for a while and answers from a fallback instead.
+ * <p>
+ * The breaker starts {@link State#CLOSED}, letting every call through. After
+ * {@code failureThreshold} consecutive failures it opens: for {@code openDuration} every call
+ * is answered by its fallback without touching the dependency, so a brownout costs callers
+ * nothing instead of a timeout each. Then it is {@link State#HALF_OPEN}: a single probe call
+ * is let through while the others keep using the fallback. A successful probe closes the
+ * breaker, a failed one opens it again.
+ * </p>
+ * <p>
+ * The state is exposed as the gauge {@code calculator.cache.circuit.state}, one series per
+ * state with value 1 for the current one, and every call is counted in
+ * {@code calculator.cache.circuit.calls} by outcome.
+ * </p>
+ */
+@Slf4j
+public final class CircuitBreaker {
+
+    /**
+     * States of a circuit breaker.
+     */
+    public enum State {
+
+        /**
+         * Calls go to the dependency.
+         */
+        CLOSED,
+
+        /**
+         * Calls are answered by their fallback.
+         */
+        OPEN,
+
+        /**
+         * One probe call goes to the dependency, the others are answered by their fallback.
+         */
+        HALF_OPEN
+    }
+
+    static final String STATE = "calculator.cache.circuit.state";
+    static final String CALLS = "calculator.cache.circuit.calls";
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier ticker;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+
+    /**
+     * Creates a closed breaker and registers its meters.
+     *
+     * @param name the protected dependency, used as the {@code name} tag
+     * @param failureThreshold consecutive failures that open the breaker
+     * @param openDuration how long the breaker stays open before probing again
+     * @param registry the registry to register with
+     */
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, MeterRegistry registry) {
+        this(name, failureThreshold, openDuration, registry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, MeterRegistry registry, LongSupplier ticker) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be positive: " + failureThreshold);
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.ticker = ticker;
+
+        this.successes = calls(registry, "success");
+        this.failures = calls(registry, "failure");
+        this.rejections = calls(registry, "rejected");
+        for (State gaugeState : State.values()) {
+            Gauge.builder(STATE, this, breaker -> breaker.state == gaugeState ? 1 : 0)
+                    .description("Circuit breaker state, 1 for the current state")
+                    .tags("name", name, "state", gaugeState.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Calls the dependency if the breaker lets it through, otherwise the fallback.
+     * <p>
+     * A call that throws is recorded as a failure and answered by the fallback as well.
+     * Exceptions thrown by the fallback are propagated.
+     * </p>
+     *
+     * @param call calls the dependency
+     * @param fallback answers when the dependency is not called or fails
+     * @param <T> the result type
+     * @return the result of the call or of the fallback
+     */
+    public <T> T call(Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquirePermission()) {
+            return fallback.get();
+        }
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return fallback.get();
+        }
+        onSuccess();
+        return result;
+    }
+
+    /**
+     * Asks to call the dependency.
+     * <p>
+     * Every permitted call must be followed by {@link #onSuccess()}, {@link #onFailure(Throwable)}
+     * or {@link #releasePermission()}.
+     * </p>
+     *
+     * @return true if the dependency may be called, false if the fallback should answer
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (ticker.getAsLong() - openedAtNanos < openDurationNanos) {
+                rejections.increment();
+                return false;
+            }
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+        if (probeInFlight.compareAndSet(false, true)) {
+            return true;
+        }
+        rejections.increment();
+        return false;
+    }
+
+    /**
+     * Records a successful call, closing the breaker if it was the probe.
+     */
+    public void onSuccess() {
+        successes.increment();
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (state == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a failed call, opening the breaker at the threshold or if it was the probe.
+     *
+     * @param failure what the call threw
+     */
+    public void onFailure(Throwable failure) {
+        failures.increment();
+        log.debug("Call to {} failed: {}", name, failure.getMessage());
+        if (state == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.OPEN);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            transition(State.CLOSED, State.OPEN);
+        }
+    }
+
+    /**
+     * Gives back a permission whose call was abandoned without a result, such as a cancelled
+     * subscription, so that another probe may be let through.
+     */
+    public void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight.set(false);
+        }
+    }
+
+    /**
+     * Returns the current state.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    private synchronized boolean transition(State from, State to) {
+        if (state != from) {
+            return false;
+        }
+        if (to == State.OPEN) {
+            openedAtNanos = ticker.getAsLong();
+        } else if (to == State.HALF_OPEN) {
+            // The flag is only cleared here, since calls permitted before the breaker opened may still finish
+            probeInFlight.set(false);
+        }
+        consecutiveFailures.set(0);
+        state = to;
+        if (to == State.CLOSED) {
+            log.info("Circuit breaker for {} closed", name);
+        } else if (to == State.OPEN) {
+            log.warn("Circuit breaker for {} opened, answering from fallbacks for {} ms",
+                    name, Duration.ofNanos(openDurationNanos).toMillis());
+        }
+        return true;
+    }
+
+    private Counter calls(MeterRegistry registry, String outcome) {
+        return Counter.builder(CALLS)
+                .description("Calls through the circuit breaker by outcome")
+                .tags("name", name, "outcome", outcome)
+                .register(registry);
+    }
+}
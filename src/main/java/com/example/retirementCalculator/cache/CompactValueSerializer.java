@@ -0,0 +1,335 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, schema-versioned binary encoding for cached values.
+ * <p>
+ * Every value starts with a marker byte, the schema version and a type tag, followed by a
+ * hand-written field layout without field names or class metadata. Decoding is a straight
+ * read of those fields, with no reflection. Supported types are strings, {@link BigDecimal},
+ * {@link CachedLifestyle}, {@link CachedInterestRate}, {@link CachedCalculationResult} and
+ * non-empty lists of the first two records.
+ * </p>
+ * <p>
+ * Any other value is written by the fallback serializer. Values that do not start with the
+ * marker byte, such as JSON written before the codec was switched, are read by the fallback
+ * as well. The marker {@code 0xC1} can never start a UTF-8 encoded JSON document. Values
+ * written with a different schema version decode to {@code null} and are treated as cache
+ * misses, so nodes running different versions never misread each other's entries.
+ * </p>
+ */
+public final class CompactValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MARKER = (byte) 0xC1;
+    static final byte VERSION = 1;
+
+    private static final int HEADER_LENGTH = 3;
+    private static final byte STRING = 1;
+    private static final byte DECIMAL = 2;
+    private static final byte LIFESTYLE = 3;
+    private static final byte LIFESTYLE_LIST = 4;
+    private static final byte INTEREST_RATE = 5;
+    private static final byte INTEREST_RATE_LIST = 6;
+    private static final byte CALCULATION_RESULT = 7;
+
+    private final RedisSerializer<Object> fallback;
+
+    /**
+     * Creates a compact serializer.
+     *
+     * @param fallback serializer for values of unsupported types and for values not written by this codec
+     */
+    public CompactValueSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        byte tag = tagOf(value);
+        if (tag == 0) {
+            return fallback.serialize(value);
+        }
+
+        Output out = new Output();
+        out.writeByte(MARKER);
+        out.writeByte(VERSION);
+        out.writeByte(tag);
+        switch (tag) {
+            case STRING -> out.writeString((String) value);
+            case DECIMAL -> out.writeDecimal((BigDecimal) value);
+            case LIFESTYLE -> writeLifestyle(out, (CachedLifestyle) value);
+            case INTEREST_RATE -> writeInterestRate(out, (CachedInterestRate) value);
+            case CALCULATION_RESULT -> writeCalculationResult(out, (CachedCalculationResult) value);
+            case LIFESTYLE_LIST -> {
+                List<?> lifestyles = (List<?>) value;
+                out.writeVarInt(lifestyles.size());
+                lifestyles.forEach(lifestyle -> writeLifestyle(out, (CachedLifestyle) lifestyle));
+            }
+            case INTEREST_RATE_LIST -> {
+                List<?> interestRates = (List<?>) value;
+                out.writeVarInt(interestRates.size());
+                interestRates.forEach(interestRate -> writeInterestRate(out, (CachedInterestRate) interestRate));
+            }
+            default -> throw new IllegalStateException("Unhandled compact value type: " + tag);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MARKER) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION) {
+            // Written by another schema version; treat as a miss rather than guess the layout
+            return null;
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+        try {
+            return switch (bytes[2]) {
+                case STRING -> readString(in);
+                case DECIMAL -> readDecimal(in);
+                case LIFESTYLE -> readLifestyle(in);
+                case INTEREST_RATE -> readInterestRate(in);
+                case CALCULATION_RESULT -> readCalculationResult(in);
+                case LIFESTYLE_LIST -> {
+                    CachedLifestyle[] lifestyles = new CachedLifestyle[readVarInt(in)];
+                    for (int i = 0; i < lifestyles.length; i++) {
+                        lifestyles[i] = readLifestyle(in);
+                    }
+                    yield List.of(lifestyles);
+                }
+                case INTEREST_RATE_LIST -> {
+                    CachedInterestRate[] interestRates = new CachedInterestRate[readVarInt(in)];
+                    for (int i = 0; i < interestRates.length; i++) {
+                        interestRates[i] = readInterestRate(in);
+                    }
+                    yield List.of(interestRates);
+                }
+                default -> throw new SerializationException("Unknown compact value type: " + bytes[2]);
+            };
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | ArithmeticException e) {
+            throw new SerializationException("Malformed compact value", e);
+        }
+    }
+
+    /**
+     * Returns the type tag for a value, or zero if the value is left to the fallback.
+     */
+    private static byte tagOf(Object value) {
+        if (value instanceof String) {
+            return STRING;
+        }
+        if (value instanceof BigDecimal) {
+            return DECIMAL;
+        }
+        if (value instanceof CachedLifestyle) {
+            return LIFESTYLE;
+        }
+        if (value instanceof CachedInterestRate) {
+            return INTEREST_RATE;
+        }
+        if (value instanceof CachedCalculationResult) {
+            return CALCULATION_RESULT;
+        }
+        if (value instanceof List<?> list && !list.isEmpty()) {
+            if (list.stream().allMatch(CachedLifestyle.class::isInstance)) {
+                return LIFESTYLE_LIST;
+            }
+            if (list.stream().allMatch(CachedInterestRate.class::isInstance)) {
+                return INTEREST_RATE_LIST;
+            }
+        }
+        return 0;
+    }
+
+    private static void writeLifestyle(Output out, CachedLifestyle lifestyle) {
+        // 0 marks a null id, anything else is the zigzag-encoded id plus one
+        out.writeVarInt(lifestyle.id() == null ? 0 : zigZag(lifestyle.id()) + 1);
+        out.writeString(lifestyle.lifestyleType());
+        out.writeDecimal(lifestyle.monthlyDeposit());
+        out.writeString(lifestyle.description());
+    }
+
+    private static CachedLifestyle readLifestyle(ByteBuffer in) {
+        long id = readVarLong(in);
+        Integer lifestyleId = id == 0 ? null : Math.toIntExact(unZigZag(id - 1));
+        return new CachedLifestyle(lifestyleId, readString(in), readDecimal(in), readString(in));
+    }
+
+    private static void writeInterestRate(Output out, CachedInterestRate interestRate) {
+        out.writeString(interestRate.lifestyleType());
+        out.writeDecimal(interestRate.interestRate());
+    }
+
+    private static CachedInterestRate readInterestRate(ByteBuffer in) {
+        return new CachedInterestRate(readString(in), readDecimal(in));
+    }
+
+    private static void writeCalculationResult(Output out, CachedCalculationResult result) {
+        out.writeZigZag(result.currentAge());
+        out.writeZigZag(result.retirementAge());
+        out.writeString(result.lifestyleType());
+        out.writeDecimal(result.interestRate());
+        out.writeDecimal(result.monthlyDeposit());
+        out.writeDecimal(result.futureValue());
+        out.writeString(result.etag());
+    }
+
+    private static CachedCalculationResult readCalculationResult(ByteBuffer in) {
+        return new CachedCalculationResult(readZigZag(in), readZigZag(in), readString(in),
+                readDecimal(in), readDecimal(in), readDecimal(in), readString(in));
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length - 1, StandardCharsets.UTF_8);
+        in.position(in.position() + length - 1);
+        return value;
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        int scale = readZigZag(in);
+        if (length == 1) {
+            // Unscaled values that fit a long are stored as a varint
+            return BigDecimal.valueOf(readZigZagLong(in), scale);
+        }
+        byte[] unscaled = new byte[length - 1];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static int readZigZag(ByteBuffer in) {
+        long value = readZigZagLong(in);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readZigZagLong(ByteBuffer in) {
+        return unZigZag(readVarLong(in));
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+
+    /**
+     * Growable byte buffer with the primitive encodings used by this codec.
+     * <p>
+     * Lengths are stored plus one so that zero can mark a null value. Unscaled decimal values
+     * within the range of a long, which covers every amount and rate in practice, are stored
+     * as a zigzag varint after a length of one. Larger ones are stored as two's complement bytes.
+     * </p>
+     */
+    private static final class Output {
+
+        private byte[] buffer = new byte[64];
+        private int size;
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        void writeVarInt(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeZigZag(long value) {
+            writeVarInt(zigZag(value));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                writeVarInt(1);
+                writeZigZag(value.scale());
+                writeZigZag(unscaled.longValueExact());
+                return;
+            }
+            byte[] bytes = unscaled.toByteArray();
+            writeVarInt(bytes.length + 1L);
+            writeZigZag(value.scale());
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.retirementCalculator.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configuration class for single-node deployments without Redis.
+ * <p>
+ * Active with the {@value #EMBEDDED_PROFILE} profile. Lifestyles and interest rates are then
+ * served from the in-process snapshots of {@link EmbeddedLifestyleCacheService} and
+ * {@link EmbeddedInterestRateCacheService}, and none of the Redis-backed services,
+ * {@link RedisConfig} or the near cache invalidation listener are created. The profile's
+ * properties also exclude Spring Boot's Redis auto-configuration, so no Lettuce connection
+ * is opened at all.
+ * </p>
+ */
+@Configuration
+@Profile(EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@Slf4j
+public class EmbeddedCacheConfig {
+
+    /**
+     * Name of the profile serving every cache from memory instead of Redis.
+     */
+    public static final String EMBEDDED_PROFILE = "embedded";
+
+    /**
+     * Creates the lifestyle profile service reading both snapshots.
+     * <p>
+     * Both lookups are plain map reads, so there is nothing to batch or near-cache.
+     * </p>
+     *
+     * @param lifestyleCacheService the lifestyle snapshot
+     * @param interestRateCacheService the interest rate snapshot
+     * @return the lifestyle profile cache service
+     */
+    @Bean
+    public LifestyleProfileCacheService lifestyleProfileCacheService(EmbeddedLifestyleCacheService lifestyleCacheService,
+                                                                     EmbeddedInterestRateCacheService interestRateCacheService) {
+        log.info("Serving lifestyles and interest rates from in-process snapshots");
+        return lifestyleType -> new CachedLifestyleProfile(
+                lifestyleCacheService.getLifestyle(lifestyleType),
+                interestRateCacheService.getInterestRate(lifestyleType));
+    }
+
+    /**
+     * Creates the reactive lifestyle profile service.
+     * <p>
+     * Reading the snapshots never blocks, so profiles are resolved on the subscribing thread.
+     * </p>
+     *
+     * @param lifestyleProfileCacheService the blocking lifestyle profile service
+     * @return the reactive lifestyle profile cache service
+     */
+    @Bean
+    public ReactiveLifestyleProfileCacheService reactiveLifestyleProfileCacheService(
+            LifestyleProfileCacheService lifestyleProfileCacheService) {
+        return lifestyleType -> Mono.fromSupplier(() -> lifestyleProfileCacheService.getProfile(lifestyleType));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.exception.CacheException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of the interest rate cache service backed by an in-process snapshot.
+ * <p>
+ * Used by the {@value EmbeddedCacheConfig#EMBEDDED_PROFILE} profile instead of
+ * {@link InterestRateCacheServiceImpl}. The CSV file is read into an immutable map at
+ * startup and every refresh replaces the map with a single volatile write, so lookups never
+ * block and always see one complete set of rates. Publishes an
+ * {@link InterestRatesLoadedEvent} after every successful load.
+ * </p>
+ */
+@Service
+@Profile(EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@RequiredArgsConstructor
+public class EmbeddedInterestRateCacheService implements InterestRateCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedInterestRateCacheService.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Map<String, BigDecimal> interestRates = Map.of();
+
+    /**
+     * Loads the first snapshot.
+     * Called after dependency injection is complete.
+     */
+    @PostConstruct
+    public void init() {
+        initializeCache();
+    }
+
+    @Override
+    public Optional<BigDecimal> getInterestRateByLifestyleType(String lifestyleType) {
+        return Optional.ofNullable(getInterestRate(lifestyleType));
+    }
+
+    /**
+     * Retrieves an interest rate from the current snapshot.
+     *
+     * @param lifestyleType The lifestyle type to look up, in any case
+     * @return the interest rate, or null if the snapshot does not hold it
+     */
+    BigDecimal getInterestRate(String lifestyleType) {
+        return interestRates.get(lifestyleType.toLowerCase());
+    }
+
+    @Override
+    public void initializeCache() {
+        loadSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Readers keep using the previous rates until the new ones are complete. Results
+     * calculated from the previous rates are dropped afterwards.
+     * </p>
+     */
+    @Override
+    public void refreshCache() {
+        log.info("Refreshing interest rate snapshot from CSV file");
+        loadSnapshot();
+        eventPublisher.publishEvent(new NearCacheInvalidatedEvent(this, NearCacheConfig.INTEREST_RATE_NEAR_CACHE, true));
+    }
+
+    @Override
+    public boolean isCacheHealthy() {
+        return !interestRates.isEmpty();
+    }
+
+    private void loadSnapshot() {
+        try {
+            log.info("Loading interest rate snapshot from CSV file");
+
+            List<CachedInterestRate> entries = InterestRateCsv.read();
+            if (entries.isEmpty()) {
+                log.warn("No interest rate data found in CSV file for the interest rate snapshot");
+            }
+
+            Map<String, BigDecimal> loaded = new LinkedHashMap<>();
+            entries.forEach(entry -> loaded.put(entry.lifestyleType().toLowerCase(), entry.interestRate()));
+            interestRates = Map.copyOf(loaded);
+
+            // Let listeners rebuild state derived from the rates
+            eventPublisher.publishEvent(new InterestRatesLoadedEvent(this, loaded));
+
+            log.info("Loaded interest rate snapshot with {} records", loaded.size());
+        } catch (Exception e) {
+            log.error("Failed to load interest rate snapshot: {}", e.getMessage(), e);
+            throw new CacheException("Cache initialization failed", e);
+        }
+    }
+}
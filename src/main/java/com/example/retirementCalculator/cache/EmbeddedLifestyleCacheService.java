@@ -0,0 +1,135 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.exception.CacheException;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of the lifestyle cache service backed by an in-process snapshot.
+ * <p>
+ * Used by the {@value EmbeddedCacheConfig#EMBEDDED_PROFILE} profile instead of
+ * {@link LifestyleCacheServiceImpl}. The whole lifestyle table is read into an immutable
+ * {@link Snapshot} at startup and every refresh builds a new one and publishes it with a
+ * single volatile write, so lookups never block and always see one complete snapshot.
+ * </p>
+ * <p>
+ * The snapshot is the complete table, so a lifestyle missing from it does not exist and is
+ * not looked up in the database; lifestyles added later become visible on the next refresh.
+ * </p>
+ */
+@Service
+@Profile(EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@RequiredArgsConstructor
+public class EmbeddedLifestyleCacheService implements LifestyleCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedLifestyleCacheService.class);
+
+    private final LifestyleDepositsRepo lifestyleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Loads the first snapshot.
+     * Called after dependency injection is complete.
+     */
+    @PostConstruct
+    public void init() {
+        initializeCache();
+    }
+
+    @Override
+    public Optional<LifestyleDepositsEntity> getLifestyleByType(String lifestyleType) {
+        return Optional.ofNullable(getLifestyle(lifestyleType)).map(CachedLifestyle::toEntity);
+    }
+
+    /**
+     * Retrieves a lifestyle from the current snapshot without copying it to an entity.
+     *
+     * @param lifestyleType The lifestyle type to look up, in any case
+     * @return the lifestyle, or null if the snapshot does not hold it
+     */
+    CachedLifestyle getLifestyle(String lifestyleType) {
+        return snapshot.lifestylesByType().get(lifestyleType.toLowerCase());
+    }
+
+    @Override
+    public List<LifestyleDepositsEntity> getAllLifestyles() {
+        return snapshot.lifestyles().stream()
+                .map(CachedLifestyle::toEntity)
+                .toList();
+    }
+
+    @Override
+    public void initializeCache() {
+        snapshot = loadSnapshot();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Readers keep using the previous snapshot until the new one is complete. Results
+     * calculated from the previous snapshot are dropped afterwards.
+     * </p>
+     */
+    @Override
+    public void refreshCache() {
+        log.info("Refreshing lifestyle snapshot from database");
+        snapshot = loadSnapshot();
+        eventPublisher.publishEvent(new NearCacheInvalidatedEvent(this, NearCacheConfig.LIFESTYLE_NEAR_CACHE, true));
+    }
+
+    @Override
+    public boolean isCacheHealthy() {
+        return !snapshot.lifestyles().isEmpty();
+    }
+
+    private Snapshot loadSnapshot() {
+        try {
+            log.info("Loading lifestyle snapshot from database");
+            long startNanos = System.nanoTime();
+
+            List<CachedLifestyle> lifestyles = lifestyleRepository.findAll(Sort.by("id")).stream()
+                    .map(CachedLifestyle::of)
+                    .toList();
+            if (lifestyles.isEmpty()) {
+                log.warn("No lifestyle data found in database for the lifestyle snapshot");
+            }
+
+            Map<String, CachedLifestyle> lifestylesByType = new HashMap<>();
+            lifestyles.forEach(lifestyle -> lifestylesByType.put(lifestyle.lifestyleType().toLowerCase(), lifestyle));
+
+            log.info("Loaded lifestyle snapshot with {} records in {} ms",
+                    lifestyles.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return new Snapshot(Map.copyOf(lifestylesByType), lifestyles);
+        } catch (Exception e) {
+            log.error("Failed to load lifestyle snapshot: {}", e.getMessage(), e);
+            throw new CacheException("Cache initialization failed", e);
+        }
+    }
+
+    /**
+     * Immutable view of the lifestyle table.
+     *
+     * @param lifestylesByType the lifestyles keyed by lowercase type
+     * @param lifestyles the lifestyles in id order
+     */
+    private record Snapshot(Map<String, CachedLifestyle> lifestylesByType, List<CachedLifestyle> lifestyles) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), List.of());
+    }
+}
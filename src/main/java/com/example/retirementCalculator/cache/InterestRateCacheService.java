@@ -32,7 +32,8 @@ public interface InterestRateCacheService {
     /**
      * Refreshes the cache by reloading data from the CSV file.
      * <p>
-     * This method should clear existing cache entries and reload the data.
+     * This method should overwrite existing cache entries in place and then remove entries
+     * that are no longer present, so lookups never miss while a refresh is running.
      * </p>
      */
     void refreshCache();
@@ -5,38 +5,51 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the interest rate cache service using Redis.
  * <p>
  * Manages caching of interest rate data, including initialization, retrieval,
- * and refresh operations. Uses Redis as the caching mechanism.
+ * and refresh operations. Uses Redis as the caching mechanism, with a {@link NearCache}
+ * in front of it for lookups by lifestyle type.
+ * Publishes an {@link InterestRatesLoadedEvent} after every successful load.
+ * </p>
+ * <p>
+ * Reads from Redis go through the Redis {@link CircuitBreaker}. When Redis fails or the
+ * breaker is open, rates are served from the {@link LastKnownGoodCache}.
  * </p>
  */
 @Service
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
 @RequiredArgsConstructor
 public class InterestRateCacheServiceImpl implements InterestRateCacheService {
 
     private static final Logger log = LoggerFactory.getLogger(InterestRateCacheServiceImpl.class);
-    private static final String INTEREST_RATE_CACHE_KEY_PREFIX = "interest_rate:";
+    static final String INTEREST_RATE_CACHE_KEY_PREFIX = "interest_rate:";
     private static final String INTEREST_RATE_ALL_CACHE_KEY = "interest_rate:all";
     private static final long CACHE_TTL_HOURS = 24;
-    private static final String CSV_FILE_PATH = "lifestyleTypeInterestRate.csv";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NearCache<BigDecimal> interestRateNearCache;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final CacheMetrics interestRateCacheMetrics;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final LastKnownGoodCache lastKnownGoodCache;
     private ValueOperations<String, Object> valueOps;
 
     /**
@@ -55,45 +68,89 @@ public class InterestRateCacheServiceImpl implements InterestRateCacheService {
             log.debug("Retrieving interest rate for lifestyle type: {}", lifestyleType);
             String cacheKey = INTEREST_RATE_CACHE_KEY_PREFIX + lifestyleType.toLowerCase();
 
-            @SuppressWarnings("unchecked")
-            BigDecimal cachedRate = (BigDecimal) valueOps.get(cacheKey);
-
-            if (cachedRate != null) {
-                log.debug("Cache hit for interest rate, found value: {}", cachedRate);
-                return Optional.of(cachedRate);
-            } else {
-                log.debug("Cache miss for interest rate");
-                return Optional.empty();
+            BigDecimal nearCachedRate = interestRateNearCache.get(cacheKey);
+            if (nearCachedRate != null) {
+                log.debug("Near cache hit for interest rate, found value: {}", nearCachedRate);
+                return Optional.of(nearCachedRate);
             }
+
+            long generation = interestRateNearCache.generation();
+            return redisCircuitBreaker.call(() -> loadInterestRate(cacheKey, lifestyleType, generation), () -> {
+                log.debug("Redis unavailable, serving last known good interest rate for lifestyle type: {}", lifestyleType);
+                return Optional.ofNullable(lastKnownGoodCache.getInterestRate(lifestyleType));
+            });
         } catch (Exception e) {
             log.error("Error retrieving interest rate from cache: {}", e.getMessage(), e);
             throw new CacheException("Failed to retrieve interest rate from cache", e);
         }
     }
 
+    /**
+     * Reads an interest rate from Redis and keeps it in the near cache and the last known good cache.
+     *
+     * @param cacheKey the Redis key of the interest rate
+     * @param lifestyleType the lifestyle type as requested
+     * @param generation the near cache generation read before the lookup
+     * @return the interest rate, or empty on a cache miss
+     */
+    private Optional<BigDecimal> loadInterestRate(String cacheKey, String lifestyleType, long generation) {
+        BigDecimal cachedRate = (BigDecimal) interestRateCacheMetrics.timeRedisGet(() -> valueOps.get(cacheKey));
+
+        if (cachedRate != null) {
+            log.debug("Cache hit for interest rate, found value: {}", cachedRate);
+            interestRateCacheMetrics.recordHit();
+            interestRateNearCache.put(cacheKey, cachedRate, generation);
+            lastKnownGoodCache.putInterestRate(lifestyleType, cachedRate);
+            return Optional.of(cachedRate);
+        } else {
+            log.debug("Cache miss for interest rate");
+            interestRateCacheMetrics.recordMiss();
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void initializeCache() {
+        populateCache();
+    }
+
+    /**
+     * Writes every entry from the source of truth into Redis, overwriting existing values.
+     *
+     * @return the keys that were written
+     */
+    private Set<String> populateCache() {
         try {
             log.info("Initializing interest rate cache from CSV file");
+            long startNanos = System.nanoTime();
 
-            List<InterestRateEntry> entries = parseCsvFile();
+            List<CachedInterestRate> entries = InterestRateCsv.read();
             if (entries.isEmpty()) {
                 log.warn("No interest rate data found in CSV file for cache initialization");
-                return;
+                return Set.of();
             }
 
             log.debug("Loading {} interest rate records into cache", entries.size());
 
-            // Cache each interest rate individually by lifestyle type
-            for (InterestRateEntry entry : entries) {
-                String cacheKey = INTEREST_RATE_CACHE_KEY_PREFIX + entry.lifestyleType().toLowerCase();
-                valueOps.set(cacheKey, entry.interestRate(), CACHE_TTL_HOURS, TimeUnit.HOURS);
+            // Cache each interest rate individually by lifestyle type, plus the complete list
+            Map<String, Object> cacheEntries = new LinkedHashMap<>();
+            for (CachedInterestRate entry : entries) {
+                cacheEntries.put(INTEREST_RATE_CACHE_KEY_PREFIX + entry.lifestyleType().toLowerCase(), entry.interestRate());
             }
+            cacheEntries.put(INTEREST_RATE_ALL_CACHE_KEY, entries);
 
-            // Cache the complete list
-            valueOps.set(INTEREST_RATE_ALL_CACHE_KEY, entries, CACHE_TTL_HOURS, TimeUnit.HOURS);
+            // One pipelined round trip for all keys
+            RedisBatchWriter.setAll(redisTemplate, cacheEntries, CACHE_TTL_HOURS, TimeUnit.HOURS);
+            Set<String> writtenKeys = new HashSet<>(cacheEntries.keySet());
 
-            log.info("Successfully initialized interest rate cache with {} records", entries.size());
+            // Let listeners rebuild state derived from the rates
+            Map<String, BigDecimal> interestRates = new LinkedHashMap<>();
+            entries.forEach(entry -> interestRates.put(entry.lifestyleType().toLowerCase(), entry.interestRate()));
+            eventPublisher.publishEvent(new InterestRatesLoadedEvent(this, interestRates));
+
+            log.info("Successfully initialized interest rate cache with {} records: wrote {} keys in {} ms",
+                    entries.size(), writtenKeys.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return writtenKeys;
         } catch (Exception e) {
             log.error("Failed to initialize interest rate cache: {}", e.getMessage(), e);
             throw new CacheException("Cache initialization failed", e);
@@ -105,19 +162,15 @@ public class InterestRateCacheServiceImpl implements InterestRateCacheService {
         try {
             log.info("Refreshing interest rate cache from CSV file");
 
-            // Clear all existing interest rate cache entries
-            List<String> keysToDelete = new ArrayList<>();
-
-            // Delete all interest rate entries
-            redisTemplate.keys(INTEREST_RATE_CACHE_KEY_PREFIX + "*").forEach(keysToDelete::add);
+            // Overwrite every entry in place so readers never see a missing key
+            Set<String> writtenKeys = populateCache();
 
-            if (!keysToDelete.isEmpty()) {
-                redisTemplate.delete(keysToDelete);
-                log.debug("Deleted {} existing cache entries", keysToDelete.size());
-            }
+            // Remove entries that are no longer in the source, without blocking Redis
+            long removed = RedisKeyPruner.unlinkStale(redisTemplate, INTEREST_RATE_CACHE_KEY_PREFIX + "*", writtenKeys);
+            log.debug("Removed {} stale cache entries", removed);
 
-            // Reinitialize the cache
-            initializeCache();
+            // Evict the near cache on every node
+            nearCacheInvalidator.invalidateEverywhere(interestRateNearCache);
 
             log.info("Cache refresh completed successfully");
         } catch (Exception e) {
@@ -136,37 +189,4 @@ public class InterestRateCacheServiceImpl implements InterestRateCacheService {
             return false;
         }
     }
-
-    private List<InterestRateEntry> parseCsvFile() throws IOException {
-        List<InterestRateEntry> entries = new ArrayList<>();
-        ClassPathResource resource = new ClassPathResource(CSV_FILE_PATH);
-
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
-            // Skip header line
-            String line = reader.readLine();
-            if (line == null || !line.equals("lifestyleType,interestRate")) {
-                throw new IOException("Invalid CSV format: missing or incorrect header");
-            }
-
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length != 2) {
-                    log.warn("Skipping invalid line in CSV: {}", line);
-                    continue;
-                }
-
-                try {
-                    String lifestyleType = parts[0].trim();
-                    BigDecimal interestRate = new BigDecimal(parts[1].trim());
-                    entries.add(new InterestRateEntry(lifestyleType, interestRate));
-                } catch (NumberFormatException e) {
-                    log.warn("Skipping line with invalid interest rate: {}", line);
-                }
-            }
-        }
-
-        return entries;
-    }
-
-    private record InterestRateEntry(String lifestyleType, BigDecimal interestRate) {}
-} 
\ No newline at end of file
+}
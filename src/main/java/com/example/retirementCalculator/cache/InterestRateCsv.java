@@ -0,0 +1,65 @@
+package com.example.retirementCalculator.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the interest rates of every lifestyle type from {@code lifestyleTypeInterestRate.csv}.
+ * <p>
+ * The CSV on the classpath is the source of truth for interest rates, whichever cache serves
+ * them. Lines that cannot be parsed are logged and skipped.
+ * </p>
+ */
+final class InterestRateCsv {
+
+    private static final Logger log = LoggerFactory.getLogger(InterestRateCsv.class);
+    private static final String CSV_FILE_PATH = "lifestyleTypeInterestRate.csv";
+
+    private InterestRateCsv() {
+    }
+
+    /**
+     * Reads every valid entry of the CSV file.
+     *
+     * @return the entries in file order
+     * @throws IOException if the file cannot be read or its header is missing
+     */
+    static List<CachedInterestRate> read() throws IOException {
+        List<CachedInterestRate> entries = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource(CSV_FILE_PATH);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
+            // Skip header line
+            String line = reader.readLine();
+            if (line == null || !line.equals("lifestyleType,interestRate")) {
+                throw new IOException("Invalid CSV format: missing or incorrect header");
+            }
+
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(",");
+                if (parts.length != 2) {
+                    log.warn("Skipping invalid line in CSV: {}", line);
+                    continue;
+                }
+
+                try {
+                    String lifestyleType = parts[0].trim();
+                    BigDecimal interestRate = new BigDecimal(parts[1].trim());
+                    entries.add(new CachedInterestRate(lifestyleType, interestRate));
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping line with invalid interest rate: {}", line);
+                }
+            }
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Event published whenever the interest rate cache has been (re)loaded.
+ * <p>
+ * Carries the full set of interest rates by lowercase lifestyle type so that listeners can
+ * derive their own state, such as precomputed annuity factors, without querying the cache.
+ * </p>
+ */
+public class InterestRatesLoadedEvent extends ApplicationEvent {
+
+    private final Map<String, BigDecimal> interestRates;
+
+    /**
+     * Constructs a new interest rates loaded event.
+     *
+     * @param source the cache service that loaded the rates
+     * @param interestRates the loaded interest rates keyed by lowercase lifestyle type
+     */
+    public InterestRatesLoadedEvent(Object source, Map<String, BigDecimal> interestRates) {
+        super(source);
+        this.interestRates = Map.copyOf(interestRates);
+    }
+
+    /**
+     * Returns the loaded interest rates.
+     *
+     * @return an immutable map of interest rates keyed by lowercase lifestyle type
+     */
+    public Map<String, BigDecimal> getInterestRates() {
+        return interestRates;
+    }
+}
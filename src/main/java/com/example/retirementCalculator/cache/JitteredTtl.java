@@ -0,0 +1,45 @@
+package com.example.retirementCalculator.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time to live that varies randomly around a base value.
+ * <p>
+ * Keys written together, such as during cache warm-up, would otherwise all expire at the same
+ * instant and send every following request to the database at once. Spreading each TTL
+ * uniformly over {@code base ± base * jitter} staggers those expirations.
+ * </p>
+ */
+final class JitteredTtl {
+
+    private final long baseMillis;
+    private final long spreadMillis;
+
+    /**
+     * Creates a jittered time to live.
+     *
+     * @param base the average time to live
+     * @param jitter the maximum deviation as a fraction of {@code base}, between 0 and 1
+     */
+    JitteredTtl(Duration base, double jitter) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("TTL jitter must be at least 0 and below 1: " + jitter);
+        }
+        this.baseMillis = base.toMillis();
+        this.spreadMillis = (long) (baseMillis * jitter);
+    }
+
+    /**
+     * Returns a time to live for the next key written.
+     *
+     * @return a duration within the configured range
+     */
+    Duration next() {
+        if (spreadMillis == 0) {
+            return Duration.ofMillis(baseMillis);
+        }
+        long offset = ThreadLocalRandom.current().nextLong(-spreadMillis, spreadMillis + 1);
+        return Duration.ofMillis(baseMillis + offset);
+    }
+}
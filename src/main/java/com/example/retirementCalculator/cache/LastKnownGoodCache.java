@@ -0,0 +1,90 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process copy of the last lifestyles and interest rates successfully read from their
+ * source or from Redis.
+ * <p>
+ * Serves lookups while the Redis {@link CircuitBreaker} is open or a Redis call fails, so a
+ * Redis outage degrades to slightly stale answers instead of errors. Unlike the
+ * {@link NearCache}s it is neither bounded nor expired: it holds at most one entry per
+ * lifestyle type and is replaced completely whenever the caches are reloaded on this node.
+ * Every successful read from Redis is recorded as well, so a node picks up a refresh done
+ * by another node as soon as it reads the refreshed values.
+ * </p>
+ */
+@Component
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+public class LastKnownGoodCache {
+
+    private volatile Map<String, CachedLifestyle> lifestyles = new ConcurrentHashMap<>();
+    private volatile Map<String, BigDecimal> interestRates = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the last known lifestyle of a type.
+     *
+     * @param lifestyleType the lifestyle type, in any case
+     * @return the lifestyle, or null if none is known
+     */
+    public CachedLifestyle getLifestyle(String lifestyleType) {
+        return lifestyles.get(lifestyleType.toLowerCase());
+    }
+
+    /**
+     * Records a lifestyle read from Redis or the database.
+     *
+     * @param lifestyle the lifestyle
+     */
+    public void putLifestyle(CachedLifestyle lifestyle) {
+        lifestyles.put(lifestyle.lifestyleType().toLowerCase(), lifestyle);
+    }
+
+    /**
+     * Replaces every known lifestyle with a complete load of the table, forgetting deleted ones.
+     *
+     * @param loaded all lifestyles
+     */
+    public void replaceLifestyles(Collection<CachedLifestyle> loaded) {
+        Map<String, CachedLifestyle> replacement = new ConcurrentHashMap<>();
+        loaded.forEach(lifestyle -> replacement.put(lifestyle.lifestyleType().toLowerCase(), lifestyle));
+        lifestyles = replacement;
+    }
+
+    /**
+     * Retrieves the last known interest rate of a lifestyle type.
+     *
+     * @param lifestyleType the lifestyle type, in any case
+     * @return the interest rate, or null if none is known
+     */
+    public BigDecimal getInterestRate(String lifestyleType) {
+        return interestRates.get(lifestyleType.toLowerCase());
+    }
+
+    /**
+     * Records an interest rate read from Redis.
+     *
+     * @param lifestyleType the lifestyle type, in any case
+     * @param interestRate the interest rate
+     */
+    public void putInterestRate(String lifestyleType, BigDecimal interestRate) {
+        interestRates.put(lifestyleType.toLowerCase(), interestRate);
+    }
+
+    /**
+     * Replaces every known interest rate when the interest rate cache has been loaded.
+     *
+     * @param event the event carrying the complete set of rates
+     */
+    @EventListener
+    public void onInterestRatesLoaded(InterestRatesLoadedEvent event) {
+        interestRates = new ConcurrentHashMap<>(event.getInterestRates());
+    }
+}
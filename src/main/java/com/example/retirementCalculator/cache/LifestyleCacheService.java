@@ -53,7 +53,8 @@ public interface LifestyleCacheService {
     /**
      * Refreshes the cache with the latest data from the database.
      * <p>
-     * Clears existing cache entries and repopulates from the database.
+     * Overwrites existing cache entries from the database, then removes entries for
+     * lifestyles that no longer exist, so lookups never miss while a refresh is running.
      * This method can be called manually via an admin endpoint or
      * automatically on a schedule.
      * </p>
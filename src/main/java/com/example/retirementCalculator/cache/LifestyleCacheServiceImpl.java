@@ -8,20 +8,40 @@ import com.example.retirementCalculator.persistance.repositories.LifestyleDeposi
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the lifestyle cache service using Redis.
  * <p>
  * Manages caching of lifestyle deposit data, including initialization, retrieval,
- * and refresh operations. Uses Redis as the caching mechanism.
+ * and refresh operations. Uses Redis as the caching mechanism, with a {@link NearCache}
+ * in front of it for lookups by type.
+ * </p>
+ * <p>
+ * Redis commands go through the Redis {@link CircuitBreaker}; database queries do not, so only
+ * Redis failures open it. When Redis fails or the breaker is open, lifestyles are served from
+ * the {@link LastKnownGoodCache} and then from the database, without touching Redis.
  * </p>
  *
  * @author Your Name
@@ -29,19 +49,71 @@ import java.util.concurrent.TimeUnit;
  * @since 1.0
  */
 @Service
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
 @RequiredArgsConstructor
 public class LifestyleCacheServiceImpl implements LifestyleCacheService {
 
     private Logger log = org.slf4j.LoggerFactory.getLogger(RetirementCalculatorController.class);
 
-    private static final String LIFESTYLE_CACHE_KEY_PREFIX = "lifestyle:";
+    static final String LIFESTYLE_CACHE_KEY_PREFIX = "lifestyle:";
     private static final String LIFESTYLE_ALL_CACHE_KEY = "lifestyle:all";
     private static final long CACHE_TTL_HOURS = 24;
+    private static final String LOAD_LOCK_KEY_PREFIX = "lock:";
+    private static final Duration LOAD_LOCK_POLL_INTERVAL = Duration.ofMillis(50);
+
+    /**
+     * Stored under the key of a lifestyle type the database does not have.
+     */
+    static final String MISSING_LIFESTYLE = "missing";
+
+    /**
+     * Deletes the load lock only if it is still held by the caller's token.
+     */
+    static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final LifestyleDepositsRepo lifestyleRepository;
+    private final NearCache<CachedLifestyle> lifestyleNearCache;
+    private final NearCacheInvalidator nearCacheInvalidator;
+    private final CacheMetrics lifestyleCacheMetrics;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final LastKnownGoodCache lastKnownGoodCache;
+
+    /**
+     * Number of rows read from the database per page while warming the cache.
+     */
+    @Value("${calculator.cache.warmup.page-size:500}")
+    private int warmupPageSize = 500;
 
+    /**
+     * Maximum random deviation of each key's TTL, as a fraction of {@link #CACHE_TTL_HOURS}.
+     */
+    @Value("${calculator.cache.ttl-jitter:0.1}")
+    private double ttlJitter = 0.1;
+
+    /**
+     * How long a node may hold the lock for loading a lifestyle from the database.
+     */
+    @Value("${calculator.cache.load-lock.ttl:5s}")
+    private Duration loadLockTtl = Duration.ofSeconds(5);
+
+    /**
+     * How long other nodes wait for the lock holder before loading the lifestyle themselves.
+     */
+    @Value("${calculator.cache.load-lock.wait:2s}")
+    private Duration loadLockWait = Duration.ofSeconds(2);
+
+    /**
+     * How long a lifestyle type missing from the database is remembered in Redis.
+     */
+    @Value("${calculator.cache.missing-ttl:30s}")
+    private Duration missingTtl = Duration.ofSeconds(30);
+
+    private final SingleFlight<String, Optional<CachedLifestyle>> inFlightLoads = new SingleFlight<>();
     private ValueOperations<String, Object> valueOps;
+    private JitteredTtl cacheTtl;
 
     /**
      * Initializes the Redis value operations interface.
@@ -50,11 +122,20 @@ public class LifestyleCacheServiceImpl implements LifestyleCacheService {
     @PostConstruct
     public void init() {
         valueOps = redisTemplate.opsForValue();
+        cacheTtl = new JitteredTtl(Duration.ofHours(CACHE_TTL_HOURS), ttlJitter);
         initializeCache();
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Near cache misses for the same type are coalesced, so only one request per JVM reads
+     * Redis and, on a Redis miss, the database. Database loads are also serialized across
+     * nodes by a short-lived Redis lock. A type the database does not have is remembered in
+     * Redis for a short while, so repeated lookups of it cost a single GET. While Redis is
+     * unavailable the lifestyle is served from the last known good copy, or else from the
+     * database.
+     * </p>
      */
     @Override
     public Optional<LifestyleDepositsEntity> getLifestyleByType(String lifestyleType) {
@@ -62,84 +143,300 @@ public class LifestyleCacheServiceImpl implements LifestyleCacheService {
             log.debug("Retrieving lifestyle data from cache for type: {}", lifestyleType);
             String cacheKey = LIFESTYLE_CACHE_KEY_PREFIX + lifestyleType.toLowerCase();
 
-            LifestyleDepositsEntity cachedLifestyle = (LifestyleDepositsEntity) valueOps.get(cacheKey);
-
-            if (cachedLifestyle != null) {
-                log.debug("Cache hit for lifestyle type: {}", lifestyleType);
-                return Optional.of(cachedLifestyle);
-            } else {
-                log.debug("Cache miss for lifestyle type: {}, attempting to retrieve from database", lifestyleType);
-                // Try to fetch from database and update cache if found
-                return lifestyleRepository.findByLifestyleTypeIgnoreCase(lifestyleType)
-                        .map(lifestyle -> {
-                            valueOps.set(cacheKey, lifestyle, CACHE_TTL_HOURS, TimeUnit.HOURS);
-                            log.debug("Added lifestyle to cache: {}", lifestyleType);
-                            return lifestyle;
-                        });
+            CachedLifestyle nearCachedLifestyle = lifestyleNearCache.get(cacheKey);
+            if (nearCachedLifestyle != null) {
+                log.debug("Near cache hit for lifestyle type: {}", lifestyleType);
+                return Optional.of(nearCachedLifestyle.toEntity());
             }
-        } catch (LifestyleNotFoundException e) {
 
-            log.warn("Lifestyle type not found in cache or database: {}", lifestyleType);
-            throw new LifestyleNotFoundException(lifestyleType);
+            long generation = lifestyleNearCache.generation();
+            Optional<CachedLifestyle> lifestyle = inFlightLoads.execute(cacheKey, () -> loadLifestyle(cacheKey, lifestyleType));
+            lifestyle.ifPresent(loaded -> lifestyleNearCache.put(cacheKey, loaded, generation));
+            return lifestyle.map(CachedLifestyle::toEntity);
+        } catch (LifestyleNotFoundException e) {
+            // Reported by the exception handler, which limits how often it is logged
+            throw e;
         } catch (Exception e) {
             log.error("Error retrieving lifestyle from cache: {}", e.getMessage(), e);
             throw new CacheException("Failed to retrieve lifestyle data from cache", e);
         }
     }
 
+    /**
+     * Reads a lifestyle from Redis, falling back to the database on a miss.
+     * <p>
+     * Only the Redis commands go through the breaker; the database is queried outside it, so a
+     * database outage fails the lookup without opening the breaker for every other Redis read.
+     * </p>
+     *
+     * @param cacheKey the Redis key of the lifestyle
+     * @param lifestyleType the lifestyle type as requested
+     * @return the lifestyle, or empty if it does not exist
+     */
+    private Optional<CachedLifestyle> loadLifestyle(String cacheKey, String lifestyleType) {
+        RedisLookup lookup = redisCircuitBreaker.call(() -> lookUpInRedis(cacheKey, lifestyleType), () -> null);
+        if (lookup == null) {
+            return loadLifestyleWithoutRedis(lifestyleType);
+        }
+        if (lookup.lifestyle() != null) {
+            lastKnownGoodCache.putLifestyle(lookup.lifestyle());
+            return Optional.of(lookup.lifestyle());
+        }
+        if (lookup.missing()) {
+            return Optional.empty();
+        }
+
+        Optional<CachedLifestyle> lifestyle = null;
+        try {
+            // Try to fetch from database and update cache if found
+            lifestyle = lifestyleCacheMetrics
+                    .timeDatabaseLoad(() -> lifestyleRepository.findByLifestyleTypeIgnoreCase(lifestyleType))
+                    .map(CachedLifestyle::of);
+            lifestyle.ifPresent(lastKnownGoodCache::putLifestyle);
+            return lifestyle;
+        } finally {
+            // Null if the database failed, in which case only the lock is released
+            Optional<CachedLifestyle> loaded = lifestyle;
+            if (loaded != null || lookup.lockToken() != null) {
+                writeToRedis(() -> {
+                    if (loaded != null && loaded.isPresent()) {
+                        valueOps.set(cacheKey, loaded.get(), cacheTtl.next());
+                        log.debug("Added lifestyle to cache: {}", lifestyleType);
+                    } else if (loaded != null) {
+                        // Never overwrites a lifestyle written by a refresh in the meantime
+                        valueOps.setIfAbsent(cacheKey, MISSING_LIFESTYLE, missingTtl);
+                        log.debug("Lifestyle type {} not found, remembered for {}", lifestyleType, missingTtl);
+                    }
+                    if (lookup.lockToken() != null) {
+                        redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOAD_LOCK_KEY_PREFIX + cacheKey), lookup.lockToken());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Reads a lifestyle from Redis and, on a miss, takes the load lock or waits for the node
+     * holding it.
+     *
+     * @param cacheKey the Redis key of the lifestyle
+     * @param lifestyleType the lifestyle type as requested
+     * @return what Redis had for the lifestyle, with the lock token if the caller has to load it
+     */
+    private RedisLookup lookUpInRedis(String cacheKey, String lifestyleType) {
+        Object cached = lifestyleCacheMetrics.timeRedisGet(() -> valueOps.get(cacheKey));
+        if (cached != null) {
+            log.debug("Cache hit for lifestyle type: {}", lifestyleType);
+            lifestyleCacheMetrics.recordHit();
+            return RedisLookup.of(cached);
+        }
+        lifestyleCacheMetrics.recordMiss();
+
+        log.debug("Cache miss for lifestyle type: {}, attempting to retrieve from database", lifestyleType);
+        String lockKey = LOAD_LOCK_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(valueOps.setIfAbsent(lockKey, token, loadLockTtl))) {
+            return new RedisLookup(null, false, token);
+        }
+
+        // Another node is loading this lifestyle, use its result once it is written
+        Object loadedElsewhere = awaitLoad(cacheKey, lockKey);
+        if (loadedElsewhere != null) {
+            log.debug("Lifestyle type {} was loaded by another node", lifestyleType);
+        }
+        return RedisLookup.of(loadedElsewhere);
+    }
+
+    /**
+     * Runs Redis writes through the breaker. A failed write only costs a later cache miss, so
+     * it is recorded by the breaker and otherwise ignored.
+     *
+     * @param commands the Redis commands to run
+     */
+    private void writeToRedis(Runnable commands) {
+        redisCircuitBreaker.call(() -> {
+            commands.run();
+            return null;
+        }, () -> null);
+    }
+
+    /**
+     * Serves a lifestyle while Redis is unavailable.
+     *
+     * @param lifestyleType the lifestyle type as requested
+     * @return the last known good lifestyle, else the lifestyle from the database, or empty
+     * if it does not exist
+     */
+    private Optional<CachedLifestyle> loadLifestyleWithoutRedis(String lifestyleType) {
+        CachedLifestyle lastKnownGood = lastKnownGoodCache.getLifestyle(lifestyleType);
+        if (lastKnownGood != null) {
+            log.debug("Redis unavailable, serving last known good lifestyle type: {}", lifestyleType);
+            return Optional.of(lastKnownGood);
+        }
+        log.debug("Redis unavailable, loading lifestyle type {} from database", lifestyleType);
+        Optional<CachedLifestyle> lifestyle = lifestyleCacheMetrics
+                .timeDatabaseLoad(() -> lifestyleRepository.findByLifestyleTypeIgnoreCase(lifestyleType))
+                .map(CachedLifestyle::of);
+        lifestyle.ifPresent(lastKnownGoodCache::putLifestyle);
+        return lifestyle;
+    }
+
+    /**
+     * Waits for the node holding the load lock to write the lifestyle.
+     * <p>
+     * Gives up as soon as the lock is released or expires, or once the configured wait has
+     * passed, so a slow or failed holder only delays the caller instead of failing it.
+     * </p>
+     *
+     * @param cacheKey the Redis key of the lifestyle
+     * @param lockKey the Redis key of the load lock
+     * @return the value written by the lock holder, or null if none appeared
+     */
+    private Object awaitLoad(String cacheKey, String lockKey) {
+        long deadline = System.nanoTime() + loadLockWait.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(LOAD_LOCK_POLL_INTERVAL.toMillis());
+                Object value = valueOps.get(cacheKey);
+                if (value != null || !Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                    return value;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Converts a value read from Redis to the cached representation.
+     * <p>
+     * Entities are still accepted so that values written by earlier versions, which cached
+     * the JPA entity itself, keep working until they are overwritten. The marker of a missing
+     * lifestyle type converts to null.
+     * </p>
+     *
+     * @param value the value read from Redis, may be null
+     * @return the cached lifestyle, or null if there was no value
+     */
+    static CachedLifestyle asCachedLifestyle(Object value) {
+        if (MISSING_LIFESTYLE.equals(value)) {
+            return null;
+        }
+        if (value instanceof LifestyleDepositsEntity entity) {
+            return CachedLifestyle.of(entity);
+        }
+        return (CachedLifestyle) value;
+    }
+
     /**
      * {@inheritDoc}
+     * <p>
+     * While Redis is unavailable the lifestyles are read from the database.
+     * </p>
      */
     @Override
     public List<LifestyleDepositsEntity> getAllLifestyles() {
         try {
             log.debug("Retrieving all lifestyle data from cache");
+            List<CachedLifestyle> cachedLifestyles = redisCircuitBreaker.call(this::readAllLifestyles, () -> null);
+            if (cachedLifestyles == null) {
+                log.debug("Redis unavailable, retrieving all lifestyles from database");
+                return lifestyleCacheMetrics.timeDatabaseLoad(lifestyleRepository::findAll);
+            }
+            if (!cachedLifestyles.isEmpty()) {
+                return cachedLifestyles.stream().map(CachedLifestyle::toEntity).toList();
+            }
 
-            @SuppressWarnings("unchecked")
-            List<LifestyleDepositsEntity> cachedLifestyles = (List<LifestyleDepositsEntity>) valueOps.get(LIFESTYLE_ALL_CACHE_KEY);
-
-            if (cachedLifestyles != null && !cachedLifestyles.isEmpty()) {
-                log.debug("Cache hit for all lifestyles, found {} items", cachedLifestyles.size());
-                return cachedLifestyles;
-            } else {
-                log.debug("Cache miss for all lifestyles, retrieving from database");
-                List<LifestyleDepositsEntity> lifestyles = lifestyleRepository.findAll();
-                valueOps.set(LIFESTYLE_ALL_CACHE_KEY, lifestyles, CACHE_TTL_HOURS, TimeUnit.HOURS);
+            List<LifestyleDepositsEntity> lifestyles = lifestyleCacheMetrics.timeDatabaseLoad(lifestyleRepository::findAll);
+            List<CachedLifestyle> cachedList = new ArrayList<>(lifestyles.size());
+            lifestyles.forEach(lifestyle -> cachedList.add(CachedLifestyle.of(lifestyle)));
+            writeToRedis(() -> {
+                valueOps.set(LIFESTYLE_ALL_CACHE_KEY, cachedList, cacheTtl.next());
                 log.debug("Added all lifestyles to cache: {} items", lifestyles.size());
-                return lifestyles;
-            }
+            });
+            return lifestyles;
         } catch (Exception e) {
             log.error("Error retrieving all lifestyles from cache: {}", e.getMessage(), e);
             throw new CacheException("Failed to retrieve all lifestyle data from cache", e);
         }
     }
 
+    /**
+     * Reads all lifestyles from Redis.
+     *
+     * @return all cached lifestyles, or an empty list on a miss
+     */
+    private List<CachedLifestyle> readAllLifestyles() {
+        List<?> cachedLifestyles = (List<?>) lifestyleCacheMetrics.timeRedisGet(() -> valueOps.get(LIFESTYLE_ALL_CACHE_KEY));
+
+        if (cachedLifestyles != null && !cachedLifestyles.isEmpty()) {
+            log.debug("Cache hit for all lifestyles, found {} items", cachedLifestyles.size());
+            lifestyleCacheMetrics.recordHit();
+            return cachedLifestyles.stream()
+                    .map(LifestyleCacheServiceImpl::asCachedLifestyle)
+                    .toList();
+        }
+        log.debug("Cache miss for all lifestyles, retrieving from database");
+        lifestyleCacheMetrics.recordMiss();
+        return List.of();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void initializeCache() {
+        populateCache();
+    }
+
+    /**
+     * Writes every entry from the source of truth into Redis, overwriting existing values.
+     *
+     * @return the keys that were written
+     */
+    private Set<String> populateCache() {
         try {
             log.info("Initializing lifestyle cache from database");
+            long startNanos = System.nanoTime();
 
-            List<LifestyleDepositsEntity> lifestyles = lifestyleRepository.findAll();
-            if (lifestyles.isEmpty()) {
-                log.warn("No lifestyle data found in database for cache initialization");
-                return;
-            }
+            List<CachedLifestyle> lifestyles = new ArrayList<>();
+            Set<String> writtenKeys = new HashSet<>();
+
+            // Read the table page by page, writing each page to Redis in one pipelined round trip
+            Pageable pageable = PageRequest.of(0, warmupPageSize, Sort.by("id"));
+            Page<LifestyleDepositsEntity> page;
+            do {
+                page = lifestyleRepository.findAll(pageable);
 
-            log.debug("Loading {} lifestyle records into cache", lifestyles.size());
+                // Cache each lifestyle individually by type
+                Map<String, Object> cacheEntries = new LinkedHashMap<>();
+                for (LifestyleDepositsEntity entity : page) {
+                    CachedLifestyle lifestyle = CachedLifestyle.of(entity);
+                    cacheEntries.put(LIFESTYLE_CACHE_KEY_PREFIX + lifestyle.lifestyleType().toLowerCase(), lifestyle);
+                    lifestyles.add(lifestyle);
+                }
+                RedisBatchWriter.setAll(redisTemplate, cacheEntries, cacheTtl::next);
 
-            // Cache each lifestyle individually by type
-            for (LifestyleDepositsEntity lifestyle : lifestyles) {
-                String cacheKey = LIFESTYLE_CACHE_KEY_PREFIX + lifestyle.getLifestyleType().toLowerCase();
-                valueOps.set(cacheKey, lifestyle, CACHE_TTL_HOURS, TimeUnit.HOURS);
+                writtenKeys.addAll(cacheEntries.keySet());
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+
+            // Keep serving these while Redis is unavailable
+            lastKnownGoodCache.replaceLifestyles(lifestyles);
+
+            if (lifestyles.isEmpty()) {
+                log.warn("No lifestyle data found in database for cache initialization");
+                return Set.of();
             }
 
             // Cache the complete list
-            valueOps.set(LIFESTYLE_ALL_CACHE_KEY, lifestyles, CACHE_TTL_HOURS, TimeUnit.HOURS);
+            valueOps.set(LIFESTYLE_ALL_CACHE_KEY, lifestyles, cacheTtl.next());
+            writtenKeys.add(LIFESTYLE_ALL_CACHE_KEY);
 
-            log.info("Successfully initialized lifestyle cache with {} records", lifestyles.size());
+            log.info("Successfully initialized lifestyle cache with {} records: wrote {} keys in {} ms",
+                    lifestyles.size(), writtenKeys.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            return writtenKeys;
         } catch (Exception e) {
             log.error("Failed to initialize lifestyle cache: {}", e.getMessage(), e);
             throw new CacheException("Cache initialization failed", e);
@@ -154,19 +451,15 @@ public class LifestyleCacheServiceImpl implements LifestyleCacheService {
         try {
             log.info("Refreshing lifestyle cache from database");
 
-            // Clear all existing lifestyle cache entries
-            List<String> keysToDelete = new ArrayList<>();
-
-            // Delete all lifestyle entries
-            redisTemplate.keys(LIFESTYLE_CACHE_KEY_PREFIX + "*").forEach(keysToDelete::add);
+            // Overwrite every entry in place so readers never see a missing key
+            Set<String> writtenKeys = populateCache();
 
-            if (!keysToDelete.isEmpty()) {
-                redisTemplate.delete(keysToDelete);
-                log.debug("Deleted {} existing cache entries", keysToDelete.size());
-            }
+            // Remove entries that are no longer in the source and markers of missing types, without blocking Redis
+            long removed = RedisKeyPruner.unlinkStale(redisTemplate, LIFESTYLE_CACHE_KEY_PREFIX + "*", writtenKeys);
+            log.debug("Removed {} stale cache entries", removed);
 
-            // Reinitialize the cache
-            initializeCache();
+            // Evict the near cache on every node
+            nearCacheInvalidator.invalidateEverywhere(lifestyleNearCache);
 
             log.info("Cache refresh completed successfully");
         } catch (Exception e) {
@@ -188,4 +481,18 @@ public class LifestyleCacheServiceImpl implements LifestyleCacheService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * What Redis had for a lifestyle.
+     *
+     * @param lifestyle the cached lifestyle, or null if there was none
+     * @param missing whether Redis remembers that the database does not have the lifestyle
+     * @param lockToken the token of the load lock taken by the caller, or null if it did not take it
+     */
+    private record RedisLookup(CachedLifestyle lifestyle, boolean missing, String lockToken) {
+
+        static RedisLookup of(Object value) {
+            return new RedisLookup(asCachedLifestyle(value), MISSING_LIFESTYLE.equals(value), null);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.retirementCalculator.cache;
+
+/**
+ * Interface for resolving everything a calculation needs about a lifestyle in one lookup.
+ * <p>
+ * Combines what {@link LifestyleCacheService} and {@link InterestRateCacheService} return
+ * for the same lifestyle type, so that callers needing both pay a single cache round trip
+ * instead of one per service. Both services remain the source for callers needing only one.
+ * </p>
+ */
+public interface LifestyleProfileCacheService {
+
+    /**
+     * Retrieves the lifestyle and its interest rate by lifestyle type.
+     * <p>
+     * A lifestyle missing from the cache is loaded the same way as through
+     * {@link LifestyleCacheService#getLifestyleByType(String)}. A missing interest rate is
+     * not loaded from anywhere else.
+     * </p>
+     *
+     * @param lifestyleType The lifestyle type to look up (e.g., "simple", "fancy")
+     * @return the profile, with a null lifestyle or interest rate for whichever was not found
+     */
+    CachedLifestyleProfile getProfile(String lifestyleType);
+}
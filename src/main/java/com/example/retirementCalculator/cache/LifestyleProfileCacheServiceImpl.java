@@ -0,0 +1,101 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.exception.CacheException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the lifestyle profile cache service using Redis.
+ * <p>
+ * Serves both values from the near caches when it can. Otherwise the lifestyle and interest
+ * rate keys are read with a single {@code MGET}, so a profile costs one round trip rather
+ * than one per key. Only a lifestyle missing from Redis is delegated to
+ * {@link LifestyleCacheService}, which loads it from the database.
+ * </p>
+ * <p>
+ * The {@code MGET} goes through the Redis {@link CircuitBreaker}. Values it reads are recorded
+ * in the {@link LastKnownGoodCache}; when Redis fails or the breaker is open, both values are
+ * taken from there instead.
+ * </p>
+ */
+@Service
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@RequiredArgsConstructor
+public class LifestyleProfileCacheServiceImpl implements LifestyleProfileCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(LifestyleProfileCacheServiceImpl.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final LifestyleCacheService lifestyleCacheService;
+    private final NearCache<CachedLifestyle> lifestyleNearCache;
+    private final NearCache<BigDecimal> interestRateNearCache;
+    private final CacheMetrics lifestyleProfileCacheMetrics;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final LastKnownGoodCache lastKnownGoodCache;
+
+    @Override
+    public CachedLifestyleProfile getProfile(String lifestyleType) {
+        String normalizedType = lifestyleType.toLowerCase();
+        String lifestyleKey = LifestyleCacheServiceImpl.LIFESTYLE_CACHE_KEY_PREFIX + normalizedType;
+        String interestRateKey = InterestRateCacheServiceImpl.INTEREST_RATE_CACHE_KEY_PREFIX + normalizedType;
+
+        CachedLifestyle lifestyle = lifestyleNearCache.get(lifestyleKey);
+        BigDecimal interestRate = interestRateNearCache.get(interestRateKey);
+        if (lifestyle != null && interestRate != null) {
+            log.debug("Near cache hit for lifestyle profile: {}", lifestyleType);
+            return new CachedLifestyleProfile(lifestyle, interestRate);
+        }
+
+        try {
+            long lifestyleGeneration = lifestyleNearCache.generation();
+            long interestRateGeneration = interestRateNearCache.generation();
+            List<Object> values = redisCircuitBreaker.call(
+                    () -> lifestyleProfileCacheMetrics.timeRedisGet(
+                            () -> redisTemplate.opsForValue().multiGet(List.of(lifestyleKey, interestRateKey))),
+                    () -> {
+                        log.debug("Redis unavailable, serving last known good lifestyle profile: {}", lifestyleType);
+                        return Arrays.asList(lastKnownGoodCache.getLifestyle(normalizedType),
+                                lastKnownGoodCache.getInterestRate(normalizedType));
+                    });
+
+            if (lifestyle == null && values != null) {
+                lifestyle = LifestyleCacheServiceImpl.asCachedLifestyle(values.get(0));
+                if (lifestyle != null) {
+                    lifestyleNearCache.put(lifestyleKey, lifestyle, lifestyleGeneration);
+                    lastKnownGoodCache.putLifestyle(lifestyle);
+                }
+            }
+            if (interestRate == null && values != null) {
+                interestRate = (BigDecimal) values.get(1);
+                if (interestRate != null) {
+                    interestRateNearCache.put(interestRateKey, interestRate, interestRateGeneration);
+                    lastKnownGoodCache.putInterestRate(normalizedType, interestRate);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error retrieving lifestyle profile from cache: {}", e.getMessage(), e);
+            throw new CacheException("Failed to retrieve lifestyle profile from cache", e);
+        }
+
+        if (lifestyle != null && interestRate != null) {
+            lifestyleProfileCacheMetrics.recordHit();
+        } else {
+            lifestyleProfileCacheMetrics.recordMiss();
+        }
+        if (lifestyle == null) {
+            log.debug("Cache miss for lifestyle profile: {}, loading lifestyle", lifestyleType);
+            lifestyle = lifestyleCacheService.getLifestyleByType(lifestyleType)
+                    .map(CachedLifestyle::of)
+                    .orElse(null);
+        }
+        return new CachedLifestyleProfile(lifestyle, interestRate);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.retirementCalculator.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-JVM cache placed in front of Redis.
+ * <p>
+ * Entries expire a fixed time after they were written. When the cache is full, the oldest
+ * entry is evicted. Reads are lock-free; writes also record the key in an insertion-ordered
+ * index under a short lock, so finding the oldest entry is constant time rather than a scan
+ * of the whole cache. A cache created with a maximum size of zero stores nothing, so every
+ * lookup falls through to Redis.
+ * </p>
+ * <p>
+ * {@link #invalidateAll()} bumps a generation counter. A value loaded from Redis is only kept
+ * if no invalidation happened since the caller read {@link #generation()}, so a slow reader
+ * cannot put a value from before a refresh back into the cache.
+ * </p>
+ *
+ * @param <V> the cached value type
+ */
+public final class NearCache<V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    /**
+     * Keys in write order, guarded by its own monitor. Holds at most {@code maxSize} keys, so it
+     * also bounds {@link #entries}; keys whose entry already expired are dropped when they reach
+     * the head.
+     */
+    private final LinkedHashMap<String, Entry<V>> writeOrder = new LinkedHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a near cache.
+     *
+     * @param name the cache name, used to address invalidation messages
+     * @param maxSize the maximum number of entries, or zero to disable caching
+     * @param ttl how long an entry stays valid after it was written
+     */
+    public NearCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, System::nanoTime);
+    }
+
+    NearCache(String name, int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Near cache size must not be negative: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns the cached value for a key.
+     *
+     * @param key the cache key
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (ticker.getAsLong() - entry.expiresAt() >= 0) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Returns the current invalidation generation.
+     * <p>
+     * Read it before loading a value from Redis and pass it to {@link #put(String, Object, long)}.
+     * </p>
+     *
+     * @return the current generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a value loaded during the given generation.
+     * <p>
+     * The value is dropped if the cache was invalidated after {@code loadedGeneration} was read.
+     * </p>
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @param loadedGeneration the generation read before the value was loaded
+     */
+    public void put(String key, V value, long loadedGeneration) {
+        if (maxSize == 0 || value == null) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(value, ticker.getAsLong() + ttlNanos);
+        entries.put(key, entry);
+        if (generation.get() != loadedGeneration) {
+            entries.remove(key, entry);
+            return;
+        }
+        synchronized (writeOrder) {
+            // A concurrent put of the same key may already have replaced this entry
+            if (entries.get(key) != entry) {
+                return;
+            }
+            // Re-inserting moves an overwritten key to the back
+            writeOrder.remove(key);
+            writeOrder.put(key, entry);
+            while (writeOrder.size() > maxSize) {
+                evictOldest();
+            }
+        }
+    }
+
+    /**
+     * Removes every entry and starts a new generation.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (writeOrder) {
+            writeOrder.clear();
+        }
+        entries.clear();
+    }
+
+    /**
+     * Returns the cache name.
+     *
+     * @return the cache name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Removes the least recently written key. Must be called holding the {@link #writeOrder} monitor.
+     */
+    private void evictOldest() {
+        Iterator<Map.Entry<String, Entry<V>>> oldest = writeOrder.entrySet().iterator();
+        Map.Entry<String, Entry<V>> eldest = oldest.next();
+        oldest.remove();
+        if (entries.remove(eldest.getKey(), eldest.getValue())) {
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    /**
+     * Point-in-time near cache statistics.
+     *
+     * @param hits lookups answered from the near cache
+     * @param misses lookups that fell through to Redis
+     * @param evictions entries removed because they expired or the cache was full
+     * @param size entries currently held
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {}
+}
@@ -0,0 +1,121 @@
+package com.example.retirementCalculator.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Configuration class for the in-JVM near caches in front of Redis.
+ * <p>
+ * Sizing is controlled by the {@code calculator.cache.near.*} properties. Setting
+ * {@code enabled} to false creates zero-sized near caches, so every lookup goes to Redis.
+ * </p>
+ */
+@Configuration
+@Slf4j
+public class NearCacheConfig {
+
+    /**
+     * Name of the near cache for lifestyle lookups.
+     */
+    public static final String LIFESTYLE_NEAR_CACHE = "lifestyle";
+
+    /**
+     * Name of the near cache for interest rate lookups.
+     */
+    public static final String INTEREST_RATE_NEAR_CACHE = "interest_rate";
+
+    /**
+     * Name of the near cache for memoized calculation results.
+     */
+    public static final String CALCULATION_RESULT_NEAR_CACHE = "calculation_result";
+
+    @Value("${calculator.cache.near.enabled:true}")
+    private boolean enabled;
+
+    @Value("${calculator.cache.near.max-size:1000}")
+    private int maxSize;
+
+    @Value("${calculator.cache.near.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${calculator.cache.result.enabled:true}")
+    private boolean resultEnabled;
+
+    @Value("${calculator.cache.result.max-size:1000}")
+    private int resultMaxSize;
+
+    @Value("${calculator.cache.result.ttl:10m}")
+    private Duration resultTtl;
+
+    /**
+     * Creates the near cache for lifestyle lookups.
+     *
+     * @return the lifestyle near cache
+     */
+    @Bean
+    public NearCache<CachedLifestyle> lifestyleNearCache() {
+        return nearCache(LIFESTYLE_NEAR_CACHE);
+    }
+
+    /**
+     * Creates the near cache for interest rate lookups.
+     *
+     * @return the interest rate near cache
+     */
+    @Bean
+    public NearCache<BigDecimal> interestRateNearCache() {
+        return nearCache(INTEREST_RATE_NEAR_CACHE);
+    }
+
+    /**
+     * Creates the near cache for memoized calculation results.
+     * <p>
+     * Sized separately from the lookup caches, since it holds one entry per distinct request
+     * rather than one per lifestyle type.
+     * </p>
+     *
+     * @return the calculation result near cache
+     */
+    @Bean
+    public NearCache<CachedCalculationResult> resultNearCache() {
+        int size = resultEnabled ? resultMaxSize : 0;
+        log.info("Configuring '{}' near cache with max size {} and TTL {}", CALCULATION_RESULT_NEAR_CACHE, size, resultTtl);
+        return new NearCache<>(CALCULATION_RESULT_NEAR_CACHE, size, resultTtl);
+    }
+
+    /**
+     * Subscribes the {@link NearCacheInvalidator} to the invalidation channel.
+     * <p>
+     * Not created with the {@value EmbeddedCacheConfig#EMBEDDED_PROFILE} profile, which has a
+     * single node and no Redis to subscribe to.
+     * </p>
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param invalidator the listener clearing local near caches
+     * @return the listener container
+     */
+    @Bean
+    @Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+    public RedisMessageListenerContainer nearCacheListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    NearCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(NearCacheInvalidator.CHANNEL));
+        return container;
+    }
+
+    private <V> NearCache<V> nearCache(String name) {
+        int size = enabled ? maxSize : 0;
+        log.info("Configuring '{}' near cache with max size {} and TTL {}", name, size, ttl);
+        return new NearCache<>(name, size, ttl);
+    }
+}
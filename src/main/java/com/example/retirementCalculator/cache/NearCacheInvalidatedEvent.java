@@ -0,0 +1,49 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published whenever a {@link NearCache} has been invalidated on this node.
+ * <p>
+ * Lets caches derived from a near cache's data, such as {@link CalculationResultCache},
+ * follow its invalidations without subscribing to Redis themselves. The node that triggered
+ * the invalidation receives the event with {@link #isOriginator()} set, so shared state only
+ * has to be cleaned up once.
+ * </p>
+ */
+public class NearCacheInvalidatedEvent extends ApplicationEvent {
+
+    private final String cacheName;
+    private final boolean originator;
+
+    /**
+     * Constructs a new near cache invalidated event.
+     *
+     * @param source the invalidator that cleared the near cache
+     * @param cacheName the name of the invalidated near cache
+     * @param originator whether this node triggered the invalidation
+     */
+    public NearCacheInvalidatedEvent(Object source, String cacheName, boolean originator) {
+        super(source);
+        this.cacheName = cacheName;
+        this.originator = originator;
+    }
+
+    /**
+     * Returns the name of the invalidated near cache.
+     *
+     * @return the near cache name
+     */
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * Returns whether this node triggered the invalidation, as opposed to receiving it from another node.
+     *
+     * @return true on the node that refreshed the cache
+     */
+    public boolean isOriginator() {
+        return originator;
+    }
+}
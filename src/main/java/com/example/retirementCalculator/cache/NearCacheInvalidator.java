@@ -0,0 +1,72 @@
+package com.example.retirementCalculator.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the {@link NearCache near caches} of every node consistent with Redis.
+ * <p>
+ * After a cache service reloads Redis, it calls {@link #invalidateEverywhere(NearCache)}.
+ * This clears the local near cache and publishes the cache name on {@link #CHANNEL}. Each
+ * node, including the sender, receives the message through {@link #onMessage} and clears
+ * its near cache of that name. Pub/sub delivery is best effort, so a node that misses a
+ * message serves stale entries for at most the near cache TTL.
+ * </p>
+ * <p>
+ * Every local invalidation is also published as a {@link NearCacheInvalidatedEvent}, so
+ * caches derived from the invalidated data can be cleared along with it.
+ * </p>
+ */
+@Component
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@RequiredArgsConstructor
+@Slf4j
+public class NearCacheInvalidator implements MessageListener {
+
+    /**
+     * Redis channel carrying the names of near caches to invalidate.
+     */
+    public static final String CHANNEL = "near-cache:invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final List<NearCache<?>> nearCaches;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Clears a near cache on this node and asks every other node to do the same.
+     *
+     * @param nearCache the near cache to invalidate
+     */
+    public void invalidateEverywhere(NearCache<?> nearCache) {
+        nearCache.invalidateAll();
+        eventPublisher.publishEvent(new NearCacheInvalidatedEvent(this, nearCache.getName(), true));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nearCache.getName());
+            log.debug("Published near cache invalidation for '{}'", nearCache.getName());
+        } catch (Exception e) {
+            log.warn("Failed to publish near cache invalidation for '{}': {}", nearCache.getName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object cacheName = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        for (NearCache<?> nearCache : nearCaches) {
+            if (nearCache.getName().equals(cacheName)) {
+                nearCache.invalidateAll();
+                log.debug("Invalidated near cache '{}'", cacheName);
+            }
+        }
+        if (cacheName instanceof String name) {
+            eventPublisher.publishEvent(new NearCacheInvalidatedEvent(this, name, false));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.retirementCalculator.cache;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link LifestyleProfileCacheService}.
+ * <p>
+ * Resolves the same profile without holding a thread while Redis answers, for the reactive
+ * API. Both services read the same cache entries and near caches.
+ * </p>
+ */
+public interface ReactiveLifestyleProfileCacheService {
+
+    /**
+     * Retrieves the lifestyle and its interest rate by lifestyle type.
+     * <p>
+     * A lifestyle missing from the cache is loaded the same way as through
+     * {@link LifestyleCacheService#getLifestyleByType(String)}, on a bounded scheduler
+     * rather than the caller's thread. A missing interest rate is not loaded from anywhere else.
+     * </p>
+     *
+     * @param lifestyleType The lifestyle type to look up (e.g., "simple", "fancy")
+     * @return the profile, with a null lifestyle or interest rate for whichever was not found;
+     * errors with a {@link com.example.retirementCalculator.exception.CacheException} if Redis fails
+     */
+    Mono<CachedLifestyleProfile> getProfile(String lifestyleType);
+}
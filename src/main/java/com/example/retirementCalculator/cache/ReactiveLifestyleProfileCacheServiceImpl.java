@@ -0,0 +1,142 @@
+package com.example.retirementCalculator.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the reactive lifestyle profile cache service using Redis.
+ * <p>
+ * Values held by the near caches are served immediately. The others are read from Redis
+ * through {@link ReactiveRedisTemplate}, with the lifestyle and interest rate lookups
+ * subscribed together so that neither waits for the other. A lifestyle missing from Redis is
+ * loaded through the blocking {@link LifestyleCacheService}, on a bounded scheduler whose
+ * queue caps how many database loads can pile up behind a slow database.
+ * </p>
+ * <p>
+ * Redis lookups go through the Redis {@link CircuitBreaker}. Values they read are recorded in
+ * the {@link LastKnownGoodCache}; when Redis fails or the breaker is open, values are taken
+ * from there, and a lifestyle missing there is loaded as above.
+ * </p>
+ */
+@Service
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@RequiredArgsConstructor
+public class ReactiveLifestyleProfileCacheServiceImpl implements ReactiveLifestyleProfileCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveLifestyleProfileCacheServiceImpl.class);
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final LifestyleCacheService lifestyleCacheService;
+    private final NearCache<CachedLifestyle> lifestyleNearCache;
+    private final NearCache<BigDecimal> interestRateNearCache;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final LastKnownGoodCache lastKnownGoodCache;
+
+    /**
+     * Threads loading lifestyles missing from Redis.
+     */
+    @Value("${calculator.reactive.db-fallback.threads:8}")
+    private int dbFallbackThreads = 8;
+
+    /**
+     * Loads waiting for a thread before further ones are rejected.
+     */
+    @Value("${calculator.reactive.db-fallback.queue-capacity:256}")
+    private int dbFallbackQueueCapacity = 256;
+
+    private Scheduler dbFallbackScheduler;
+
+    /**
+     * Creates the scheduler for database fallbacks.
+     */
+    @PostConstruct
+    public void init() {
+        dbFallbackScheduler = Schedulers.newBoundedElastic(dbFallbackThreads, dbFallbackQueueCapacity, "lifestyle-db-fallback");
+        log.info("Configured reactive lifestyle database fallback with {} threads and queue capacity {}",
+                dbFallbackThreads, dbFallbackQueueCapacity);
+    }
+
+    /**
+     * Stops the scheduler for database fallbacks.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dbFallbackScheduler.dispose();
+    }
+
+    @Override
+    public Mono<CachedLifestyleProfile> getProfile(String lifestyleType) {
+        String normalizedType = lifestyleType.toLowerCase();
+
+        Mono<Optional<CachedLifestyle>> lifestyle = lookup(lifestyleNearCache,
+                LifestyleCacheServiceImpl.LIFESTYLE_CACHE_KEY_PREFIX + normalizedType, LifestyleCacheServiceImpl::asCachedLifestyle,
+                lastKnownGoodCache::putLifestyle, () -> lastKnownGoodCache.getLifestyle(normalizedType))
+                .switchIfEmpty(Mono.defer(() -> loadLifestyle(lifestyleType)))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Optional<BigDecimal>> interestRate = lookup(interestRateNearCache,
+                InterestRateCacheServiceImpl.INTEREST_RATE_CACHE_KEY_PREFIX + normalizedType, BigDecimal.class::cast,
+                rate -> lastKnownGoodCache.putInterestRate(normalizedType, rate),
+                () -> lastKnownGoodCache.getInterestRate(normalizedType))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(lifestyle, interestRate,
+                (foundLifestyle, foundRate) -> new CachedLifestyleProfile(foundLifestyle.orElse(null), foundRate.orElse(null)));
+    }
+
+    private <V> Mono<V> lookup(NearCache<V> nearCache, String key, Function<Object, V> converter,
+                               Consumer<V> lastKnownGoodRecorder, Supplier<V> lastKnownGood) {
+        return Mono.defer(() -> {
+            V cached = nearCache.get(key);
+            if (cached != null) {
+                log.debug("Near cache hit for key: {}", key);
+                return Mono.just(cached);
+            }
+
+            if (!redisCircuitBreaker.tryAcquirePermission()) {
+                log.debug("Redis unavailable, serving last known good value for key: {}", key);
+                return Mono.justOrEmpty(lastKnownGood.get());
+            }
+
+            long generation = nearCache.generation();
+            return reactiveRedisTemplate.opsForValue().get(key)
+                    .mapNotNull(converter)
+                    .doOnNext(value -> {
+                        nearCache.put(key, value, generation);
+                        lastKnownGoodRecorder.accept(value);
+                    })
+                    .doOnSuccess(value -> redisCircuitBreaker.onSuccess())
+                    .doOnCancel(redisCircuitBreaker::releasePermission)
+                    .onErrorResume(e -> {
+                        redisCircuitBreaker.onFailure(e);
+                        log.debug("Error retrieving {} from cache, serving last known good value: {}", key, e.getMessage());
+                        return Mono.justOrEmpty(lastKnownGood.get());
+                    });
+        });
+    }
+
+    private Mono<CachedLifestyle> loadLifestyle(String lifestyleType) {
+        log.debug("Cache miss for lifestyle profile: {}, loading lifestyle", lifestyleType);
+        return Mono.fromCallable(() -> lifestyleCacheService.getLifestyleByType(lifestyleType))
+                .subscribeOn(dbFallbackScheduler)
+                .flatMap(Mono::justOrEmpty)
+                .map(CachedLifestyle::of);
+    }
+}
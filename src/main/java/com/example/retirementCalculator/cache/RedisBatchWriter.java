@@ -0,0 +1,65 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes many cache entries to Redis in a single network round trip.
+ * <p>
+ * Every entry becomes a {@code SET key value EX ttl} queued on a pipelined connection, so
+ * the value and its expiry are applied atomically per key and the whole batch costs one
+ * round trip instead of one per key. Values go through the template's serializers exactly
+ * as they would with {@link ValueOperations#set(Object, Object, long, TimeUnit)}.
+ * </p>
+ */
+final class RedisBatchWriter {
+
+    private RedisBatchWriter() {
+    }
+
+    /**
+     * Sets every entry with the given time to live.
+     *
+     * @param redisTemplate the Redis template
+     * @param entries values by cache key
+     * @param ttl the time to live applied to each key
+     * @param unit the unit of {@code ttl}
+     */
+    static void setAll(RedisTemplate<String, Object> redisTemplate, Map<String, ?> entries, long ttl, TimeUnit unit) {
+        pipeline(redisTemplate, entries, valueOps -> entries.forEach((key, value) -> valueOps.set(key, value, ttl, unit)));
+    }
+
+    /**
+     * Sets every entry with its own time to live.
+     *
+     * @param redisTemplate the Redis template
+     * @param entries values by cache key
+     * @param ttl supplies the time to live for each key, e.g. a {@link JitteredTtl}
+     */
+    static void setAll(RedisTemplate<String, Object> redisTemplate, Map<String, ?> entries, Supplier<Duration> ttl) {
+        pipeline(redisTemplate, entries, valueOps -> entries.forEach((key, value) -> valueOps.set(key, value, ttl.get())));
+    }
+
+    private static void pipeline(RedisTemplate<String, Object> redisTemplate, Map<String, ?> entries,
+                                 Consumer<ValueOperations<String, Object>> writes) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                writes.accept((ValueOperations<String, Object>) operations.opsForValue());
+                return null;
+            }
+        });
+    }
+}
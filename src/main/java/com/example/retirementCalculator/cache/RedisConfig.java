@@ -1,21 +1,61 @@
 package com.example.retirementCalculator.cache;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * Configuration class for Redis connection and serialization settings.
  * <p>
- * Sets up the Redis connection factory and template with appropriate serializers.
+ * Sets up the Redis connection factory and template with appropriate serializers, and the
+ * {@link CircuitBreaker} guarding reads from Redis.
+ * </p>
+ * <p>
+ * The connection is configured with Spring Boot's typed {@code spring.data.redis.*}
+ * properties, bound to {@link RedisProperties}:
+ * <ul>
+ *     <li>{@code host}, {@code port}, {@code database}, {@code username} and {@code password}
+ *     for a single server</li>
+ *     <li>{@code sentinel.master} and {@code sentinel.nodes} for a Sentinel-managed primary
+ *     with replicas</li>
+ *     <li>{@code cluster.nodes} and {@code cluster.max-redirects} for Redis Cluster</li>
+ *     <li>{@code timeout} and {@code connect-timeout} for commands and connection attempts</li>
+ *     <li>{@code lettuce.pool.*} for connection pooling</li>
+ * </ul>
+ * {@code calculator.cache.redis.read-from} selects which nodes serve reads, so read-heavy
+ * cache traffic can be spread over the replicas.
  * </p>
  *
  * @author Your Name
@@ -23,40 +63,219 @@ import lombok.extern.slf4j.Slf4j;
  * @since 1.0
  */
 @Configuration
+@Profile("!" + EmbeddedCacheConfig.EMBEDDED_PROFILE)
+@EnableConfigurationProperties(RedisProperties.class)
 @Slf4j
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host:localhost}")
-    private String redisHost;
+    /**
+     * Command timeout used when {@code spring.data.redis.timeout} is not set.
+     * <p>
+     * Kept well below Lettuce's default of one minute, so a Redis brownout fails calls fast
+     * enough for the circuit breaker to open before request threads pile up.
+     * </p>
+     */
+    static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofMillis(250);
+
+    /**
+     * Connect timeout used when {@code spring.data.redis.connect-timeout} is not set.
+     */
+    static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(2);
+
+    /**
+     * Nodes serving reads, as understood by Lettuce's {@link ReadFrom#valueOf(String)}:
+     * {@code upstream}, {@code upstreamPreferred}, {@code replica}, {@code replicaPreferred},
+     * {@code lowestLatency} or {@code any}. Writes always go to the primary.
+     * <p>
+     * Opt-in: any setting makes a standalone connection discover the primary's replicas and
+     * connect to each of them, so when it is empty no read preference is applied and every
+     * command goes to the configured node.
+     * </p>
+     */
+    @Value("${calculator.cache.redis.read-from:}")
+    private String readFrom;
+
+    /**
+     * Consecutive failed Redis reads that open the circuit breaker.
+     */
+    @Value("${calculator.cache.circuit-breaker.failure-threshold:5}")
+    private int circuitBreakerFailureThreshold = 5;
+
+    /**
+     * How long the circuit breaker stays open before probing Redis again.
+     */
+    @Value("${calculator.cache.circuit-breaker.open-duration:5s}")
+    private Duration circuitBreakerOpenDuration = Duration.ofSeconds(5);
 
-    @Value("${spring.data.redis.port:6379}")
-    private int redisPort;
+    /**
+     * Encoding of cached values: {@code json} or {@code compact}.
+     */
+    @Value("${calculator.cache.codec:compact}")
+    private String cacheCodec = "compact";
 
     /**
      * Creates a Redis connection factory using Lettuce.
      * <p>
-     * Configures the connection to the Redis server using host and port
-     * values from application properties.
+     * Connects to Sentinel if a Sentinel master is configured, else to Redis Cluster if
+     * cluster nodes are configured, else to the single server at host and port. The factory
+     * serves both the blocking and the reactive templates.
      * </p>
      *
+     * @param redisProperties the {@code spring.data.redis.*} properties
      * @return Configured Redis connection factory
+     * @throws IllegalArgumentException if the configured read-from setting is unknown
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration(redisHost, redisPort);
-        log.info("Configuring Redis connection to {}:{}", redisHost, redisPort);
-        return new LettuceConnectionFactory(redisConfig);
+    public LettuceConnectionFactory redisConnectionFactory(RedisProperties redisProperties) {
+        LettuceClientConfiguration clientConfig = clientConfiguration(redisProperties);
+
+        if (isSentinel(redisProperties)) {
+            log.info("Configuring Redis connection to Sentinel master {} via {}, reading from {}",
+                    redisProperties.getSentinel().getMaster(), redisProperties.getSentinel().getNodes(), readFromDescription());
+            return new LettuceConnectionFactory(sentinelConfiguration(redisProperties), clientConfig);
+        }
+        if (isCluster(redisProperties)) {
+            log.info("Configuring Redis Cluster connection via {}, reading from {}",
+                    redisProperties.getCluster().getNodes(), readFromDescription());
+            return new LettuceConnectionFactory(clusterConfiguration(redisProperties), clientConfig);
+        }
+        log.info("Configuring Redis connection to {}:{} with command timeout {} ms",
+                redisProperties.getHost(), redisProperties.getPort(), clientConfig.getCommandTimeout().toMillis());
+        return new LettuceConnectionFactory(standaloneConfiguration(redisProperties), clientConfig);
+    }
+
+    private String readFromDescription() {
+        return StringUtils.hasText(readFrom) ? readFrom : "upstream";
+    }
+
+    private static boolean isSentinel(RedisProperties redisProperties) {
+        return redisProperties.getSentinel() != null && redisProperties.getSentinel().getMaster() != null;
+    }
+
+    private static boolean isCluster(RedisProperties redisProperties) {
+        return !isSentinel(redisProperties)
+                && redisProperties.getCluster() != null
+                && redisProperties.getCluster().getNodes() != null
+                && !redisProperties.getCluster().getNodes().isEmpty();
+    }
+
+    private RedisStandaloneConfiguration standaloneConfiguration(RedisProperties redisProperties) {
+        RedisStandaloneConfiguration config =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        config.setDatabase(redisProperties.getDatabase());
+        config.setUsername(redisProperties.getUsername());
+        config.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        return config;
+    }
+
+    private RedisSentinelConfiguration sentinelConfiguration(RedisProperties redisProperties) {
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        RedisSentinelConfiguration config = new RedisSentinelConfiguration(sentinel.getMaster(), Set.copyOf(sentinel.getNodes()));
+        config.setDatabase(redisProperties.getDatabase());
+        config.setUsername(redisProperties.getUsername());
+        config.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        config.setSentinelUsername(sentinel.getUsername());
+        config.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+        return config;
+    }
+
+    private RedisClusterConfiguration clusterConfiguration(RedisProperties redisProperties) {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+        if (cluster.getMaxRedirects() != null) {
+            config.setMaxRedirects(cluster.getMaxRedirects());
+        }
+        config.setUsername(redisProperties.getUsername());
+        config.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        return config;
+    }
+
+    /**
+     * Builds the Lettuce client settings shared by every topology.
+     * <p>
+     * Pooling is opt-in with {@code spring.data.redis.lettuce.pool.enabled}: Lettuce
+     * multiplexes all commands over one shared connection, so a pool only pays off for
+     * blocking or transactional commands. Cluster clients also refresh their view of the
+     * topology whenever Redis reports a moved slot or a failed node.
+     * </p>
+     *
+     * @param redisProperties the {@code spring.data.redis.*} properties
+     * @return the client configuration
+     */
+    LettuceClientConfiguration clientConfiguration(RedisProperties redisProperties) {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = Boolean.TRUE.equals(pool.getEnabled())
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(pool))
+                : LettuceClientConfiguration.builder();
+
+        Duration commandTimeout = Objects.requireNonNullElse(redisProperties.getTimeout(), DEFAULT_COMMAND_TIMEOUT);
+        Duration connectTimeout = Objects.requireNonNullElse(redisProperties.getConnectTimeout(), DEFAULT_CONNECT_TIMEOUT);
+        SocketOptions socketOptions = SocketOptions.builder().connectTimeout(connectTimeout).build();
+        ClientOptions clientOptions = isCluster(redisProperties)
+                ? ClusterClientOptions.builder()
+                        .socketOptions(socketOptions)
+                        .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                                .enableAllAdaptiveRefreshTriggers()
+                                .build())
+                        .build()
+                : ClientOptions.builder().socketOptions(socketOptions).build();
+
+        builder.commandTimeout(commandTimeout)
+                .shutdownTimeout(redisProperties.getLettuce().getShutdownTimeout())
+                .clientOptions(clientOptions);
+        if (StringUtils.hasText(readFrom)) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+        if (redisProperties.getClientName() != null) {
+            builder.clientName(redisProperties.getClientName());
+        }
+        return builder.build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
+
+    /**
+     * Creates the circuit breaker guarding reads from Redis.
+     * <p>
+     * While it is open, the cache services answer from {@link LastKnownGoodCache} and the
+     * database instead of Redis.
+     * </p>
+     *
+     * @param meterRegistry the registry for the breaker's state and call metrics
+     * @return the Redis circuit breaker
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(MeterRegistry meterRegistry) {
+        return new CircuitBreaker("redis", circuitBreakerFailureThreshold, circuitBreakerOpenDuration, meterRegistry);
     }
 
     /**
      * Creates a Redis template with appropriate serializers.
      * <p>
-     * Configures the template with string key serializer and JSON value serializer
-     * for flexible object storage and retrieval.
+     * Configures the template with string key serializer and the value serializer selected
+     * with {@code calculator.cache.codec}:
+     * <ul>
+     *     <li>{@code compact} (default) - {@link CompactValueSerializer}, a versioned binary format
+     *     for the cached records that still reads, and falls back to, JSON</li>
+     *     <li>{@code json} - self-describing JSON with embedded class names</li>
+     * </ul>
      * </p>
      *
      * @param connectionFactory The Redis connection factory
      * @return Configured Redis template
+     * @throws IllegalStateException if the configured codec name is unknown
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -67,12 +286,45 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Use Jackson serializer for values
-        GenericJackson2JsonRedisSerializer jacksonSerializer = new GenericJackson2JsonRedisSerializer();
-        template.setValueSerializer(jacksonSerializer);
-        template.setHashValueSerializer(jacksonSerializer);
+        // Use the configured codec for values
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
 
-        log.info("Configured RedisTemplate with StringRedisSerializer for keys and GenericJackson2JsonRedisSerializer for values");
+        log.info("Configured RedisTemplate with StringRedisSerializer for keys and {} for values",
+                valueSerializer.getClass().getSimpleName());
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates a reactive Redis template for the non-blocking API.
+     * <p>
+     * Uses the same key and value serializers as {@link #redisTemplate}, so both templates
+     * read and write the same cache entries.
+     * </p>
+     *
+     * @param connectionFactory The reactive Redis connection factory
+     * @return Configured reactive Redis template
+     * @throws IllegalStateException if the configured codec name is unknown
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(ReactiveRedisConnectionFactory connectionFactory) {
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(valueSerializer)
+                .hashKey(new StringRedisSerializer())
+                .hashValue(valueSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    private RedisSerializer<Object> valueSerializer() {
+        GenericJackson2JsonRedisSerializer jacksonSerializer = new GenericJackson2JsonRedisSerializer();
+        return switch (cacheCodec) {
+            case "json" -> jacksonSerializer;
+            case "compact" -> new CompactValueSerializer(jacksonSerializer);
+            default -> throw new IllegalStateException("Unknown cache codec: " + cacheCodec);
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.retirementCalculator.cache;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Removes stale cache keys without blocking Redis.
+ * <p>
+ * Keys are found with a cursor-based {@code SCAN}, so each call to the server only walks a
+ * small part of the keyspace. They are removed with {@code UNLINK}, which frees memory on a
+ * background thread. Unlike {@code KEYS} and {@code DEL}, neither command stalls other
+ * clients of a shared Redis.
+ * </p>
+ */
+final class RedisKeyPruner {
+
+    /**
+     * Number of keys requested per {@code SCAN} step and removed per {@code UNLINK}.
+     */
+    static final int BATCH_SIZE = 500;
+
+    private RedisKeyPruner() {
+    }
+
+    /**
+     * Unlinks every key matching the pattern that is not in the set of keys to keep.
+     *
+     * @param redisTemplate the Redis template
+     * @param pattern the key pattern, e.g. {@code lifestyle:*}
+     * @param keep keys that must not be removed
+     * @return the number of keys removed
+     */
+    static long unlinkStale(RedisTemplate<String, Object> redisTemplate, String pattern, Set<String> keep) {
+        long removed = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (keep.contains(key)) {
+                    continue;
+                }
+                batch.add(key);
+                if (batch.size() == BATCH_SIZE) {
+                    removed += unlink(redisTemplate, batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            removed += unlink(redisTemplate, batch);
+        }
+        return removed;
+    }
+
+    private static long unlink(RedisTemplate<String, Object> redisTemplate, List<String> batch) {
+        Long unlinked = redisTemplate.unlink(List.copyOf(batch));
+        batch.clear();
+        return unlinked == null ? 0 : unlinked;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.retirementCalculator.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key within the JVM.
+ * <p>
+ * The first caller for a key runs the loader. Callers that arrive while it is still running
+ * wait for it and receive the same value or exception instead of loading again. Once a load
+ * has finished the key is released, so the next caller starts a fresh load. Nothing is
+ * cached here; this only prevents duplicate work while a load is in flight.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the loaded value type
+ */
+final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the value for a key, joining a load that is already in flight.
+     *
+     * @param key the key being loaded
+     * @param loader loads the value; only called if no load for the key is in flight
+     * @return the loaded value
+     */
+    V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+
+    /**
+     * Returns the number of keys currently being loaded.
+     *
+     * @return the number of loads in flight
+     */
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.retirementCalculator.config;
+
+import com.example.retirementCalculator.cache.InterestRatesLoadedEvent;
+import com.example.retirementCalculator.domain.FutureValueEngine;
+import com.example.retirementCalculator.domain.TabulatedFutureValueEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the annuity factor table whenever the interest rate cache is loaded.
+ * <p>
+ * Runs synchronously on the thread that initialized or refreshed the cache, so the table is
+ * in place by the time {@code initializeCache()} returns. Does nothing when the configured
+ * engine is not a {@link TabulatedFutureValueEngine}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnnuityFactorTableRefresher implements ApplicationListener<InterestRatesLoadedEvent> {
+
+    private final FutureValueEngine futureValueEngine;
+
+    @Override
+    public void onApplicationEvent(InterestRatesLoadedEvent event) {
+        if (futureValueEngine instanceof TabulatedFutureValueEngine tabulatedEngine) {
+            long start = System.nanoTime();
+            tabulatedEngine.rebuild(event.getInterestRates().values());
+            log.info("Rebuilt annuity factor table for {} rates in {} ms",
+                    tabulatedEngine.getTable().size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.retirementCalculator.config;
+
+import com.example.retirementCalculator.domain.BigDecimalFutureValueEngine;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.FutureValueEngine;
+import com.example.retirementCalculator.domain.TabulatedFutureValueEngine;
+import com.example.retirementCalculator.domain.VectorFutureValueEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class selecting the {@link FutureValueEngine} used for calculations.
+ * <p>
+ * The engine is chosen with the {@code calculator.engine.future-value} property:
+ * <ul>
+ *     <li>{@code closed-form} (default) - fast double-precision path with a proven error bound</li>
+ *     <li>{@code big-decimal} - exact arbitrary-precision reference implementation</li>
+ * </ul>
+ * Both engines produce identical results to the cent.
+ * </p>
+ * <p>
+ * When {@code calculator.engine.annuity-table.enabled} is true (the default), the selected
+ * engine is wrapped in a {@link TabulatedFutureValueEngine} whose table is rebuilt by
+ * {@link AnnuityFactorTableRefresher} every time the interest rate cache is loaded.
+ * </p>
+ * <p>
+ * When {@code calculator.engine.vector.enabled} is true (default false), the scenarios of
+ * {@code /retirement/batch} and {@code /retirement/stream} are evaluated with SIMD
+ * instructions by a {@link VectorFutureValueEngine} wrapped around the selected engine. This needs the JVM to be started with
+ * {@code --add-modules jdk.incubator.vector}; without it the scalar engine is kept and a
+ * warning is logged.
+ * </p>
+ */
+@Configuration
+@Slf4j
+public class CalculationEngineConfig {
+
+    @Value("${calculator.engine.future-value:closed-form}")
+    private String futureValueEngine;
+
+    @Value("${calculator.engine.annuity-table.enabled:true}")
+    private boolean annuityTableEnabled;
+
+    @Value("${calculator.engine.vector.enabled:false}")
+    private boolean vectorEnabled;
+
+    /**
+     * Creates the future value engine selected in application properties.
+     *
+     * @return the configured future value engine
+     * @throws IllegalStateException if the configured engine name is unknown
+     */
+    @Bean
+    public FutureValueEngine futureValueEngine() {
+        log.info("Using '{}' future value engine, annuity factor table {}",
+                futureValueEngine, annuityTableEnabled ? "enabled" : "disabled");
+        FutureValueEngine engine = switch (futureValueEngine) {
+            case "closed-form" -> ClosedFormFutureValueEngine.INSTANCE;
+            case "big-decimal" -> BigDecimalFutureValueEngine.INSTANCE;
+            default -> throw new IllegalStateException("Unknown future value engine: " + futureValueEngine);
+        };
+        if (vectorEnabled) {
+            engine = vectorize(engine);
+        }
+        return annuityTableEnabled ? new TabulatedFutureValueEngine(engine) : engine;
+    }
+
+    private static FutureValueEngine vectorize(FutureValueEngine engine) {
+        if (!VectorFutureValueEngine.isAvailable()) {
+            log.warn("Vector engine enabled but jdk.incubator.vector is not resolved; "
+                    + "start the JVM with --add-modules jdk.incubator.vector. Using scalar batches");
+            return engine;
+        }
+        log.info("Vector engine enabled, batches evaluated {}",
+                VectorFutureValueEngine.isVectorized() ? "with SIMD instructions" : "by the scalar engine on this hardware");
+        return new VectorFutureValueEngine(engine);
+    }
+}
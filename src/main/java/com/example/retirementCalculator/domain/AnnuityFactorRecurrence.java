@@ -0,0 +1,85 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Carries the annuity factor forward one month at a time.
+ * <p>
+ * Evaluates {@code F(n + 1) = F(n) * (1 + r) + 1} in {@code double}, so the factors for every
+ * horizon up to {@code n} months cost one pass. Like {@link ClosedFormFutureValueEngine}, a
+ * factor is only used when its error bound cannot change its rounding to
+ * {@value FutureValueEngine#FACTOR_SCALE} places; otherwise it is taken from the given
+ * {@link FutureValueEngine}, so every rounded factor equals what that engine returns. The rate
+ * conversion and {@code 1 + r} are within {@code 2u} and each step adds {@code 2u}, so after
+ * {@code n} months the relative error of the factor, a sum of positive terms, is below
+ * {@code 4nu}; the check uses {@code (8n + 32)u} to cover second-order terms and the final
+ * scaling.
+ * </p>
+ */
+final class AnnuityFactorRecurrence {
+
+    private static final double UNIT_ROUNDOFF = 0x1.0p-53;
+    private static final double FACTOR_MULTIPLIER = 1e8;
+    private static final double MAX_EXACT_SCALED_FACTOR = 0x1.0p52;
+
+    private final BigDecimal monthlyRate;
+    private final FutureValueEngine fallback;
+    private final double growth;
+
+    private double factor;
+    private int months;
+
+    /**
+     * Starts the recurrence at zero months.
+     *
+     * @param monthlyRate the monthly interest rate as a fraction
+     * @param fallback the engine deciding factors the recurrence cannot
+     */
+    AnnuityFactorRecurrence(BigDecimal monthlyRate, FutureValueEngine fallback) {
+        this.monthlyRate = monthlyRate;
+        this.fallback = fallback;
+        this.growth = 1 + monthlyRate.doubleValue();
+    }
+
+    /**
+     * Advances the recurrence to the given horizon.
+     *
+     * @param targetMonths the number of months, not less than the current horizon
+     */
+    void advanceTo(int targetMonths) {
+        for (; months < targetMonths; months++) {
+            factor = factor * growth + 1;
+        }
+    }
+
+    /**
+     * Returns the current horizon.
+     *
+     * @return the number of months the factor covers
+     */
+    int months() {
+        return months;
+    }
+
+    /**
+     * Returns the factor for the current horizon.
+     *
+     * @return the annuity factor rounded to {@value FutureValueEngine#FACTOR_SCALE} decimal places
+     */
+    BigDecimal roundedFactor() {
+        if (monthlyRate.signum() == 0) {
+            return BigDecimal.valueOf(months).setScale(FutureValueEngine.FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+        double scaled = factor * FACTOR_MULTIPLIER;
+        if (scaled < MAX_EXACT_SCALED_FACTOR) {
+            double errorBound = scaled * (8.0 * months + 32.0) * UNIT_ROUNDOFF;
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > errorBound) {
+                return BigDecimal.valueOf((long) floor + (fraction > 0.5 ? 1 : 0), FutureValueEngine.FACTOR_SCALE);
+            }
+        }
+        return fallback.annuityFactor(monthlyRate, months);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable table of precomputed annuity factors keyed by (monthly rate, months).
+ * <p>
+ * For each tabulated rate, the factor {@code ((1 + r)^n - 1) / r} is stored for every
+ * {@code n} from 0 to {@link #MAX_TABULATED_MONTHS} as an unscaled {@code long} at
+ * {@link FutureValueEngine#FACTOR_SCALE} decimal places. A lookup is one hash probe and one
+ * array load. Factors too large to fit in a {@code long} are left out and reported as missing.
+ * </p>
+ */
+public final class AnnuityFactorTable {
+
+    /**
+     * The longest horizon the API accepts: from age 18 to age 100.
+     */
+    public static final int MAX_TABULATED_MONTHS = (100 - 18) * 12;
+
+    /**
+     * Value returned by {@link #scaledFactor(BigDecimal, int)} when a factor is not tabulated.
+     */
+    public static final long NOT_TABULATED = -1L;
+
+    /**
+     * A table containing no rates.
+     */
+    public static final AnnuityFactorTable EMPTY = new AnnuityFactorTable(Map.of());
+
+    private static final BigDecimal MAX_SCALED_FACTOR = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final Map<BigDecimal, long[]> scaledFactorsByMonthlyRate;
+
+    private AnnuityFactorTable(Map<BigDecimal, long[]> scaledFactorsByMonthlyRate) {
+        this.scaledFactorsByMonthlyRate = scaledFactorsByMonthlyRate;
+    }
+
+    /**
+     * Builds a table for the given annual rates.
+     * <p>
+     * Each annual rate is converted with {@link RetirementCalculation#toMonthlyRate(BigDecimal)}
+     * so keys match the monthly rates calculations look up.
+     * </p>
+     *
+     * @param annualInterestRates annual interest rates as percentages
+     * @param engine the engine used to evaluate each factor
+     * @return a new table
+     */
+    public static AnnuityFactorTable build(Collection<BigDecimal> annualInterestRates, FutureValueEngine engine) {
+        Map<BigDecimal, long[]> factors = new HashMap<>();
+        for (BigDecimal annualInterestRate : annualInterestRates) {
+            BigDecimal monthlyRate = RetirementCalculation.toMonthlyRate(annualInterestRate);
+            factors.computeIfAbsent(monthlyRate, rate -> tabulate(rate, engine));
+        }
+        return new AnnuityFactorTable(Map.copyOf(factors));
+    }
+
+    private static long[] tabulate(BigDecimal monthlyRate, FutureValueEngine engine) {
+        long[] scaledFactors = new long[MAX_TABULATED_MONTHS + 1];
+        for (int months = 0; months <= MAX_TABULATED_MONTHS; months++) {
+            BigDecimal scaled = engine.annuityFactor(monthlyRate, months).movePointRight(FutureValueEngine.FACTOR_SCALE);
+            scaledFactors[months] = scaled.compareTo(MAX_SCALED_FACTOR) <= 0 ? scaled.longValueExact() : NOT_TABULATED;
+        }
+        return scaledFactors;
+    }
+
+    /**
+     * Looks up a factor scaled by {@code 10^8}.
+     *
+     * @param monthlyRate the monthly rate at {@link FutureValueEngine#FACTOR_SCALE} decimal places
+     * @param months the number of months
+     * @return the unscaled factor, or {@link #NOT_TABULATED} if absent
+     */
+    public long scaledFactor(BigDecimal monthlyRate, int months) {
+        if (months < 0 || months > MAX_TABULATED_MONTHS) {
+            return NOT_TABULATED;
+        }
+        long[] scaledFactors = scaledFactorsByMonthlyRate.get(monthlyRate);
+        return scaledFactors == null ? NOT_TABULATED : scaledFactors[months];
+    }
+
+    /**
+     * Returns the number of tabulated rates.
+     *
+     * @return the number of rates in this table
+     */
+    public int size() {
+        return scaledFactorsByMonthlyRate.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Reference {@link FutureValueEngine} using exact arbitrary-precision arithmetic.
+ * <p>
+ * Raises {@code 1 + r} to the power {@code n} without any rounding, so the cost grows with
+ * both the number of months and the number of digits in the rate. This is the original
+ * implementation of {@link RetirementCalculation#calculateFutureValue()} and serves as the
+ * correctness oracle for faster engines.
+ * </p>
+ */
+public final class BigDecimalFutureValueEngine implements FutureValueEngine {
+
+    /**
+     * Shared stateless instance.
+     */
+    public static final BigDecimalFutureValueEngine INSTANCE = new BigDecimalFutureValueEngine();
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+        if (monthlyRate.signum() == 0) {
+            return BigDecimal.valueOf(months).setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+
+        // Calculate (1 + r)^n
+        BigDecimal onePlusRateToN = BigDecimal.ONE.add(monthlyRate).pow(months);
+
+        // Calculate ((1 + r)^n - 1) / r
+        return onePlusRateToN.subtract(BigDecimal.ONE).divide(monthlyRate, FACTOR_SCALE, RoundingMode.HALF_UP);
+    }
+}
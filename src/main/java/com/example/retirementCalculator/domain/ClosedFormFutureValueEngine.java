@@ -0,0 +1,168 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Fast {@link FutureValueEngine} that returns exactly the same factor as
+ * {@link BigDecimalFutureValueEngine} while avoiding exact exponentiation.
+ * <p>
+ * The factor is evaluated in up to three tiers, each one only trusted when its proven error
+ * bound shows that rounding to eight decimal places cannot differ from the
+ * exact result. Rounding to a fixed number of places is only discontinuous at the half-way
+ * points, so a result is accepted whenever its distance to the nearest half-way point exceeds
+ * the error bound.
+ * </p>
+ * <ol>
+ *     <li><b>Closed form in {@code double}.</b> {@code expm1(n * log1p(r)) / r} using
+ *     {@link StrictMath} so results are identical on every platform. With {@code u = 2^-53},
+ *     converting the rate costs at most 1 ulp ({@code 2u}), {@code log1p} and {@code expm1}
+ *     are accurate to 1 ulp and each multiplication or division adds {@code u}. The exponent
+ *     {@code x = n * log1p(r)} therefore carries a relative error of at most {@code 5u}, which
+ *     {@code expm1} amplifies by at most {@code 1 + x}; the remaining operations add
+ *     {@code 5u}. The total relative error is below {@code (5x + 10)u}, and the engine uses
+ *     {@code (8x + 32)u} to absorb second-order terms.</li>
+ *     <li><b>Exponentiation by squaring</b> at a fixed {@link MathContext} of 40
+ *     digits. With {@code e = 0.5 * 10^(1 - p)}, the
+ *     {@code j}-th repeated square carries a relative error below {@code 2^(j+1) e}, so
+ *     {@code (1 + r)^n} is within {@code (2n + 32) e} and the factor is within
+ *     {@code (1 + r)^n (2n + 40) e / r + 2 e * factor}.</li>
+ *     <li><b>Exact fallback</b> to the delegate engine for the rare ties neither tier can
+ *     decide.</li>
+ * </ol>
+ * <p>
+ * For the rates and horizons the API accepts the first tier decides virtually every input.
+ * </p>
+ */
+public final class ClosedFormFutureValueEngine implements FutureValueEngine {
+
+    /**
+     * Shared instance falling back to exact arithmetic.
+     */
+    public static final ClosedFormFutureValueEngine INSTANCE = new ClosedFormFutureValueEngine(BigDecimalFutureValueEngine.INSTANCE);
+
+    private static final int SQUARING_PRECISION = 40;
+    private static final MathContext SQUARING_CONTEXT = new MathContext(SQUARING_PRECISION, RoundingMode.HALF_EVEN);
+    private static final BigDecimal SQUARING_UNIT_ROUNDOFF = BigDecimal.valueOf(5, SQUARING_PRECISION);
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+
+    private static final double UNIT_ROUNDOFF = 0x1.0p-53;
+    private static final double FACTOR_MULTIPLIER = 1e8;
+    private static final double RATE_MULTIPLIER = 1e8;
+    private static final double MAX_EXACT_SCALED_FACTOR = 0x1.0p52;
+    private static final long UNDECIDED = -1L;
+
+    private final FutureValueEngine fallback;
+
+    /**
+     * Creates an engine that defers undecidable inputs to the given engine.
+     *
+     * @param fallback the engine used when neither approximation can be proven correct
+     */
+    public ClosedFormFutureValueEngine(FutureValueEngine fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+        if (months == 0 || monthlyRate.signum() == 0) {
+            return BigDecimal.valueOf(months).setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+
+        long scaledFactor = closedFormScaledFactor(monthlyRate.doubleValue(), months);
+        if (scaledFactor != UNDECIDED) {
+            return BigDecimal.valueOf(scaledFactor, FACTOR_SCALE);
+        }
+
+        BigDecimal factor = squaringFactor(monthlyRate, months);
+        if (factor != null) {
+            return factor;
+        }
+
+        return fallback.annuityFactor(monthlyRate, months);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Evaluates the closed form directly on the primitive inputs and finishes in {@code long}
+     * arithmetic. Only scenarios the first tier cannot decide go through {@link BigDecimal}.
+     * </p>
+     */
+    @Override
+    public void futureValues(FutureValueBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            int months = batch.months[i];
+            long scaledFactor = months == 0 ? 0 : closedFormScaledFactor(batch.scaledMonthlyRates[i] / RATE_MULTIPLIER, months);
+            if (scaledFactor == UNDECIDED) {
+                scaledFactor = annuityFactor(batch.monthlyRate(i), months).unscaledValue().longValueExact();
+            }
+            batch.futureValueCents[i] = FutureValueBatch.futureValueCents(batch.depositCents[i], scaledFactor);
+        }
+    }
+
+    /**
+     * Evaluates the factor in double precision, scaled by {@code 10^8}.
+     *
+     * @return the correctly rounded scaled factor, or {@link #UNDECIDED}
+     */
+    private static long closedFormScaledFactor(double rate, int months) {
+        if (!(rate > 0.0)) {
+            return UNDECIDED;
+        }
+
+        double exponent = months * StrictMath.log1p(rate);
+        double scaled = StrictMath.expm1(exponent) / rate * FACTOR_MULTIPLIER;
+        if (!(scaled < MAX_EXACT_SCALED_FACTOR)) {
+            return UNDECIDED;
+        }
+
+        double errorBound = scaled * (8.0 * exponent + 32.0) * UNIT_ROUNDOFF;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) <= errorBound) {
+            return UNDECIDED;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    /**
+     * Evaluates the factor with exponentiation by squaring at a fixed precision.
+     *
+     * @return the correctly rounded factor, or {@code null} if the error bound straddles a tie
+     */
+    private static BigDecimal squaringFactor(BigDecimal monthlyRate, int months) {
+        BigDecimal growth = powBySquaring(BigDecimal.ONE.add(monthlyRate), months);
+        BigDecimal factor = growth.subtract(BigDecimal.ONE).divide(monthlyRate, SQUARING_CONTEXT);
+
+        BigDecimal growthError = growth.abs()
+                .multiply(BigDecimal.valueOf(2L * months + 40))
+                .multiply(SQUARING_UNIT_ROUNDOFF)
+                .divide(monthlyRate.abs(), SQUARING_CONTEXT);
+        BigDecimal errorBound = growthError.add(factor.abs().multiply(SQUARING_UNIT_ROUNDOFF).multiply(BigDecimal.valueOf(2)));
+
+        BigDecimal scaled = factor.movePointRight(FACTOR_SCALE);
+        BigDecimal fraction = scaled.subtract(scaled.setScale(0, RoundingMode.FLOOR));
+        if (fraction.subtract(HALF).abs().compareTo(errorBound.movePointRight(FACTOR_SCALE)) <= 0) {
+            return null;
+        }
+        return factor.setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal powBySquaring(BigDecimal base, int exponent) {
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = base.round(SQUARING_CONTEXT);
+        int remaining = exponent;
+        while (remaining > 0) {
+            if ((remaining & 1) == 1) {
+                result = result.multiply(square, SQUARING_CONTEXT);
+            }
+            remaining >>>= 1;
+            if (remaining > 0) {
+                square = square.multiply(square, SQUARING_CONTEXT);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Scenarios evaluated together by {@link FutureValueEngine#futureValues(FutureValueBatch)}.
+ * <p>
+ * Holds the inputs and results as parallel primitive arrays, so an engine can process a whole
+ * batch without allocating per scenario. Amounts are stored in cents and monthly rates scaled
+ * by {@code 10^8}, the precision {@link RetirementCalculation#toMonthlyRate} produces, so
+ * every value is exact and the results equal those of
+ * {@link FutureValueEngine#futureValue(BigDecimal, BigDecimal, int)}. Future values must fit
+ * in a {@code long} number of cents, which covers any realistic deposit, rate and horizon.
+ * </p>
+ */
+public final class FutureValueBatch {
+
+    /**
+     * Decimal places of the stored monthly rates.
+     */
+    public static final int RATE_SCALE = 8;
+
+    private static final long FACTOR_UNIT = 100_000_000L;
+
+    final long[] depositCents;
+    final long[] scaledMonthlyRates;
+    final int[] months;
+    final long[] futureValueCents;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param size the number of scenarios
+     */
+    public FutureValueBatch(int size) {
+        this.depositCents = new long[size];
+        this.scaledMonthlyRates = new long[size];
+        this.months = new int[size];
+        this.futureValueCents = new long[size];
+    }
+
+    /**
+     * Multiplies a deposit by a scaled annuity factor and rounds to cents like
+     * {@link FutureValueEngine#futureValue(BigDecimal, BigDecimal, int)}.
+     * <p>
+     * Splitting the factor into its integer and fractional part keeps every product within a
+     * {@code long}, so the result is exact without {@link BigDecimal}.
+     * </p>
+     *
+     * @param depositCents the monthly deposit in cents, not negative
+     * @param scaledFactor the annuity factor scaled by {@code 10^}{@value FutureValueEngine#FACTOR_SCALE}
+     * @return the future value in cents, rounded half up
+     * @throws ArithmeticException if the result does not fit in a {@code long}
+     */
+    static long futureValueCents(long depositCents, long scaledFactor) {
+        long whole = Math.multiplyExact(depositCents, scaledFactor / FACTOR_UNIT);
+        long fraction = Math.multiplyExact(depositCents, scaledFactor % FACTOR_UNIT);
+        return Math.addExact(whole, (fraction + FACTOR_UNIT / 2) / FACTOR_UNIT);
+    }
+
+    /**
+     * Returns the number of scenarios.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return months.length;
+    }
+
+    /**
+     * Sets the inputs of one scenario.
+     *
+     * @param index the scenario index
+     * @param depositCents the monthly deposit in cents
+     * @param scaledMonthlyRate the monthly interest rate as a fraction, scaled by {@code 10^8}
+     * @param months the number of monthly deposits
+     */
+    public void set(int index, long depositCents, long scaledMonthlyRate, int months) {
+        this.depositCents[index] = depositCents;
+        this.scaledMonthlyRates[index] = scaledMonthlyRate;
+        this.months[index] = months;
+    }
+
+    /**
+     * Sets the inputs of one scenario.
+     *
+     * @param index the scenario index
+     * @param monthlyDeposit the monthly deposit, with at most two decimal places
+     * @param monthlyRate the monthly interest rate as a fraction, with at most {@value #RATE_SCALE} decimal places
+     * @param months the number of monthly deposits
+     * @throws ArithmeticException if a value has more decimal places or does not fit
+     */
+    public void set(int index, BigDecimal monthlyDeposit, BigDecimal monthlyRate, int months) {
+        set(index, monthlyDeposit.movePointRight(2).longValueExact(),
+                monthlyRate.movePointRight(RATE_SCALE).longValueExact(), months);
+    }
+
+    /**
+     * Returns the monthly deposit of one scenario.
+     *
+     * @param index the scenario index
+     * @return the monthly deposit
+     */
+    public BigDecimal monthlyDeposit(int index) {
+        return BigDecimal.valueOf(depositCents[index], 2);
+    }
+
+    /**
+     * Returns the monthly interest rate of one scenario.
+     *
+     * @param index the scenario index
+     * @return the monthly interest rate as a fraction
+     */
+    public BigDecimal monthlyRate(int index) {
+        return BigDecimal.valueOf(scaledMonthlyRates[index], RATE_SCALE);
+    }
+
+    /**
+     * Returns the number of monthly deposits of one scenario.
+     *
+     * @param index the scenario index
+     * @return the number of months
+     */
+    public int months(int index) {
+        return months[index];
+    }
+
+    /**
+     * Returns the evaluated future value of one scenario.
+     *
+     * @param index the scenario index
+     * @return the future value in cents
+     */
+    public long futureValueCents(int index) {
+        return futureValueCents[index];
+    }
+
+    /**
+     * Returns the evaluated future value of one scenario.
+     *
+     * @param index the scenario index
+     * @return the future value rounded to cents
+     */
+    public BigDecimal futureValue(int index) {
+        return BigDecimal.valueOf(futureValueCents[index], 2);
+    }
+}
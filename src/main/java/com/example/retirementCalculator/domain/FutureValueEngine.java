@@ -0,0 +1,64 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Strategy for evaluating the future value of a stream of monthly deposits.
+ * <p>
+ * Every implementation must reproduce the reference rounding contract used by
+ * {@link RetirementCalculation}: the annuity factor {@code ((1 + r)^n - 1) / r} is rounded
+ * to {@value #FACTOR_SCALE} decimal places using {@link RoundingMode#HALF_UP}, and the
+ * future value is the monthly deposit multiplied by that factor, rounded to cents.
+ * Implementations differ only in how fast they get there.
+ * </p>
+ */
+public interface FutureValueEngine {
+
+    /**
+     * Number of decimal places the annuity factor is rounded to.
+     */
+    int FACTOR_SCALE = 8;
+
+    /**
+     * Calculates the annuity factor {@code ((1 + r)^n - 1) / r}.
+     * <p>
+     * A zero rate yields {@code n}, the limit of the formula as {@code r} approaches zero.
+     * </p>
+     *
+     * @param monthlyRate the monthly interest rate as a fraction (e.g. 0.005 for 0.5%)
+     * @param months the number of monthly deposits
+     * @return the annuity factor rounded to {@value #FACTOR_SCALE} decimal places
+     */
+    BigDecimal annuityFactor(BigDecimal monthlyRate, int months);
+
+    /**
+     * Calculates the future value of a series of equal monthly deposits.
+     *
+     * @param monthlyDeposit the amount deposited at the end of every month
+     * @param monthlyRate the monthly interest rate as a fraction
+     * @param months the number of monthly deposits
+     * @return the future value rounded to cents
+     */
+    default BigDecimal futureValue(BigDecimal monthlyDeposit, BigDecimal monthlyRate, int months) {
+        return monthlyDeposit.multiply(annuityFactor(monthlyRate, months)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calculates the future values of a batch of scenarios.
+     * <p>
+     * The default evaluates every scenario with
+     * {@link #futureValue(BigDecimal, BigDecimal, int)} and is the reference that faster
+     * implementations must match exactly.
+     * </p>
+     *
+     * @param batch the scenarios, receiving their future values
+     * @throws ArithmeticException if a future value does not fit in a {@code long} number of cents
+     */
+    default void futureValues(FutureValueBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.futureValueCents[i] = futureValue(batch.monthlyDeposit(i), batch.monthlyRate(i), batch.months(i))
+                    .unscaledValue().longValueExact();
+        }
+    }
+}
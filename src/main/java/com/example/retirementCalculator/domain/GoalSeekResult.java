@@ -0,0 +1,17 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Inputs found by a goal-seek solve, together with the savings they project.
+ *
+ * @param solvedFor the input that was solved for
+ * @param currentAge the current age
+ * @param retirementAge the retirement age, solved or given
+ * @param interestRate the annual interest rate as a percentage, solved or given
+ * @param monthlyDeposit the monthly deposit, solved or given
+ * @param projectedSavings the savings these inputs project, at least the target
+ */
+public record GoalSeekResult(GoalSeekVariable solvedFor, int currentAge, int retirementAge, BigDecimal interestRate,
+                             BigDecimal monthlyDeposit, BigDecimal projectedSavings) {
+}
@@ -0,0 +1,215 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidCalculationException;
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Solves a retirement projection backwards: which input reaches a target balance.
+ * <p>
+ * Every solution is checked against {@link RetirementCalculation} with the configured
+ * {@link FutureValueEngine}, so the projected savings returned are exactly what the
+ * calculation endpoint reports for the same inputs, and never below the target.
+ * </p>
+ * <ul>
+ *     <li>The monthly deposit is the target divided by the annuity factor, rounded up to cents.</li>
+ *     <li>The retirement age is found by bisection over whole years, since calculations run
+ *     over whole years.</li>
+ *     <li>The interest rate is found by Newton's method on the annuity formula in
+ *     {@code double}, falling back to bisection whenever a step leaves the bracket, and then
+ *     rounded up to four decimal places of a percent.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class GoalSeekSolver {
+
+    /**
+     * Oldest retirement age the API accepts.
+     */
+    static final int MAX_RETIREMENT_AGE = 100;
+
+    /**
+     * Highest annual interest rate, as a percentage, the API accepts.
+     */
+    static final BigDecimal MAX_INTEREST_RATE = BigDecimal.valueOf(100);
+
+    private static final int RATE_SCALE = 4;
+    private static final BigDecimal RATE_STEP = BigDecimal.ONE.movePointLeft(RATE_SCALE);
+    private static final BigDecimal CENT = new BigDecimal("0.01");
+    private static final int MAX_NEWTON_ITERATIONS = 100;
+
+    private final FutureValueEngine futureValueEngine;
+
+    /**
+     * Finds the smallest monthly deposit reaching the target.
+     *
+     * @param currentAge the current age
+     * @param retirementAge the retirement age
+     * @param interestRate the annual interest rate as a percentage
+     * @param targetSavings the savings to reach
+     * @return the solution
+     * @throws InvalidCalculationException if the ages or the rate are invalid
+     */
+    public GoalSeekResult solveMonthlyDeposit(int currentAge, int retirementAge, BigDecimal interestRate,
+                                              BigDecimal targetSavings) {
+        checkAges(currentAge, retirementAge);
+        checkRate(interestRate);
+
+        BigDecimal factor = futureValueEngine.annuityFactor(
+                RetirementCalculation.toMonthlyRate(interestRate), (retirementAge - currentAge) * 12);
+        BigDecimal deposit = targetSavings.divide(factor, 2, RoundingMode.CEILING).max(CENT);
+        // Rounding the future value to cents may let one cent less still reach the target
+        BigDecimal lower = deposit.subtract(CENT);
+        if (lower.signum() > 0 && reaches(project(currentAge, retirementAge, interestRate, lower), targetSavings)) {
+            deposit = lower;
+        }
+        return result(GoalSeekVariable.MONTHLY_DEPOSIT, currentAge, retirementAge, interestRate, deposit);
+    }
+
+    /**
+     * Finds the earliest retirement age reaching the target.
+     *
+     * @param currentAge the current age
+     * @param interestRate the annual interest rate as a percentage
+     * @param monthlyDeposit the monthly deposit
+     * @param targetSavings the savings to reach
+     * @return the solution
+     * @throws InvalidCalculationException if the rate or deposit are invalid
+     * @throws InvalidParameterException if the target cannot be reached by the oldest accepted age
+     */
+    public GoalSeekResult solveRetirementAge(int currentAge, BigDecimal interestRate, BigDecimal monthlyDeposit,
+                                             BigDecimal targetSavings) {
+        checkAges(currentAge, MAX_RETIREMENT_AGE);
+        checkRate(interestRate);
+        checkDeposit(monthlyDeposit);
+
+        if (!reaches(project(currentAge, MAX_RETIREMENT_AGE, interestRate, monthlyDeposit), targetSavings)) {
+            throw new InvalidParameterException("Target savings cannot be reached by age " + MAX_RETIREMENT_AGE);
+        }
+        // Savings grow with every year: keep the invariant that high reaches the target and low does not
+        int low = currentAge;
+        int high = MAX_RETIREMENT_AGE;
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (reaches(project(currentAge, mid, interestRate, monthlyDeposit), targetSavings)) {
+                high = mid;
+            } else {
+                low = mid;
+            }
+        }
+        return result(GoalSeekVariable.RETIREMENT_AGE, currentAge, high, interestRate, monthlyDeposit);
+    }
+
+    /**
+     * Finds the lowest annual interest rate reaching the target.
+     * <p>
+     * A target reachable by the deposits alone yields a rate of zero.
+     * </p>
+     *
+     * @param currentAge the current age
+     * @param retirementAge the retirement age
+     * @param monthlyDeposit the monthly deposit
+     * @param targetSavings the savings to reach
+     * @return the solution
+     * @throws InvalidCalculationException if the ages or the deposit are invalid
+     * @throws InvalidParameterException if the target needs a rate above the highest accepted one
+     */
+    public GoalSeekResult solveInterestRate(int currentAge, int retirementAge, BigDecimal monthlyDeposit,
+                                            BigDecimal targetSavings) {
+        checkAges(currentAge, retirementAge);
+        checkDeposit(monthlyDeposit);
+
+        int months = (retirementAge - currentAge) * 12;
+        if (!reaches(project(currentAge, retirementAge, MAX_INTEREST_RATE, monthlyDeposit), targetSavings)) {
+            throw new InvalidParameterException("Target savings cannot be reached at an interest rate of up to "
+                    + MAX_INTEREST_RATE + "%");
+        }
+        if (reaches(project(currentAge, retirementAge, BigDecimal.ZERO, monthlyDeposit), targetSavings)) {
+            return result(GoalSeekVariable.INTEREST_RATE, currentAge, retirementAge, BigDecimal.ZERO.setScale(RATE_SCALE), monthlyDeposit);
+        }
+
+        double monthlyRate = solveMonthlyRate(targetSavings.doubleValue() / monthlyDeposit.doubleValue(), months,
+                MAX_INTEREST_RATE.doubleValue() / 100 / 12);
+        BigDecimal rate = BigDecimal.valueOf(monthlyRate * 12 * 100).setScale(RATE_SCALE, RoundingMode.CEILING)
+                .min(MAX_INTEREST_RATE);
+        // The double solution can be off by a step either way once the rate is rounded to the contract's 8 places
+        while (!reaches(project(currentAge, retirementAge, rate, monthlyDeposit), targetSavings)) {
+            rate = rate.add(RATE_STEP);
+        }
+        while (rate.compareTo(RATE_STEP) >= 0
+                && reaches(project(currentAge, retirementAge, rate.subtract(RATE_STEP), monthlyDeposit), targetSavings)) {
+            rate = rate.subtract(RATE_STEP);
+        }
+        return result(GoalSeekVariable.INTEREST_RATE, currentAge, retirementAge, rate, monthlyDeposit);
+    }
+
+    /**
+     * Solves {@code ((1 + r)^n - 1) / r = factor} for {@code r} in {@code (0, maxRate]}.
+     * <p>
+     * The annuity factor grows with the rate, so the root is bracketed; Newton steps that
+     * leave the bracket are replaced by bisection.
+     * </p>
+     */
+    static double solveMonthlyRate(double factor, int months, double maxRate) {
+        double low = 0;
+        double high = maxRate;
+        double rate = high / 2;
+        for (int i = 0; i < MAX_NEWTON_ITERATIONS && high - low > 1e-15; i++) {
+            double growth = Math.pow(1 + rate, months);
+            double value = (growth - 1) / rate - factor;
+            if (value > 0) {
+                high = rate;
+            } else {
+                low = rate;
+            }
+            double slope = (months * growth / (1 + rate) * rate - (growth - 1)) / (rate * rate);
+            double next = rate - value / slope;
+            rate = next > low && next < high ? next : (low + high) / 2;
+        }
+        return rate;
+    }
+
+    private BigDecimal project(int currentAge, int retirementAge, BigDecimal interestRate, BigDecimal monthlyDeposit) {
+        return RetirementCalculation.builder()
+                .currentAge(currentAge)
+                .retirementAge(retirementAge)
+                .interestRate(interestRate)
+                .monthlyDeposit(monthlyDeposit)
+                .futureValueEngine(futureValueEngine)
+                .build()
+                .calculateFutureValue();
+    }
+
+    private GoalSeekResult result(GoalSeekVariable solvedFor, int currentAge, int retirementAge,
+                                  BigDecimal interestRate, BigDecimal monthlyDeposit) {
+        return new GoalSeekResult(solvedFor, currentAge, retirementAge, interestRate, monthlyDeposit,
+                project(currentAge, retirementAge, interestRate, monthlyDeposit));
+    }
+
+    private static boolean reaches(BigDecimal savings, BigDecimal targetSavings) {
+        return savings.compareTo(targetSavings) >= 0;
+    }
+
+    private static void checkAges(int currentAge, int retirementAge) {
+        if (retirementAge <= currentAge) {
+            throw new InvalidCalculationException("Retirement age must be greater than current age");
+        }
+    }
+
+    private static void checkRate(BigDecimal interestRate) {
+        if (interestRate == null || interestRate.signum() <= 0) {
+            throw new InvalidCalculationException("Interest rate must be positive");
+        }
+    }
+
+    private static void checkDeposit(BigDecimal monthlyDeposit) {
+        if (monthlyDeposit == null || monthlyDeposit.signum() <= 0) {
+            throw new InvalidCalculationException("Monthly deposit must be positive");
+        }
+    }
+}
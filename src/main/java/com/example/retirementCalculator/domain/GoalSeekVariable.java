@@ -0,0 +1,22 @@
+package com.example.retirementCalculator.domain;
+
+/**
+ * The input a goal-seek solve determines so that the projection reaches the target.
+ */
+public enum GoalSeekVariable {
+
+    /**
+     * The smallest monthly deposit, in cents.
+     */
+    MONTHLY_DEPOSIT,
+
+    /**
+     * The earliest whole-year retirement age.
+     */
+    RETIREMENT_AGE,
+
+    /**
+     * The lowest annual interest rate, to four decimal places of a percent.
+     */
+    INTEREST_RATE
+}
@@ -0,0 +1,13 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Cached inputs for one lifestyle type, resolved once and shared by many calculations.
+ *
+ * @param lifestyleType the lifestyle type as requested
+ * @param monthlyDeposit the monthly deposit for the lifestyle
+ * @param interestRate the cached annual interest rate, or {@code null} if none is cached
+ */
+public record LifestyleProfile(String lifestyleType, BigDecimal monthlyDeposit, BigDecimal interestRate) {
+}
@@ -0,0 +1,236 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates retirement savings under randomized monthly returns.
+ * <p>
+ * Every path starts from zero and, for each month until retirement, grows the balance by a
+ * normally distributed return and then adds the monthly deposit, the same end-of-month order
+ * as {@link FutureValueEngine}. The monthly return has a mean of the monthly rate used by
+ * {@link RetirementCalculation#toMonthlyRate} and a standard deviation of the annual volatility divided by the square root of 12. With
+ * zero volatility every path therefore equals the deterministic calculation.
+ * </p>
+ * <p>
+ * Paths are split recursively over a {@link ForkJoinPool} owned by this component. Each
+ * split hands one half a {@link SplittableRandom#split()} of the parent's generator, and
+ * splits happen at a fixed number of paths, so a seed yields the same paths whatever the
+ * pool size or scheduling. Balances are written to one primitive array indexed by year and
+ * path; simulating a path allocates nothing. Percentiles are then read from each year's
+ * sorted slice of that array.
+ * </p>
+ */
+@Component
+@Slf4j
+public class MonteCarloSimulator {
+
+    /**
+     * Paths simulated sequentially by one task. Fixed, as it determines how the seed is split.
+     */
+    static final int PATHS_PER_TASK = 256;
+
+    private static final double SQRT_12 = Math.sqrt(12);
+
+    private final int defaultPaths;
+    private final int maxPaths;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator with its own fork/join pool.
+     *
+     * @param parallelism the pool parallelism, or zero for one per available processor
+     * @param defaultPaths the number of paths simulated when none is requested
+     * @param maxPaths the largest accepted number of paths
+     */
+    public MonteCarloSimulator(@Value("${calculator.simulation.parallelism:0}") int parallelism,
+                               @Value("${calculator.simulation.default-paths:10000}") int defaultPaths,
+                               @Value("${calculator.simulation.max-paths:50000}") int maxPaths) {
+        this.defaultPaths = Math.min(defaultPaths, maxPaths);
+        this.maxPaths = maxPaths;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        log.info("Configured Monte Carlo simulator with parallelism {}, {} paths by default and max paths {}",
+                threads, this.defaultPaths, maxPaths);
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param scenario the simulation parameters
+     * @return the yearly percentile bands and, if a target was given, the probability of reaching it
+     * @throws InvalidParameterException if the number of paths or years is out of range, or the volatility is negative
+     */
+    public SimulationResult simulate(SimulationScenario scenario) {
+        int paths = scenario.paths();
+        int years = scenario.years();
+        if (paths < 1 || paths > maxPaths) {
+            throw new InvalidParameterException("Number of paths must be between 1 and " + maxPaths);
+        }
+        if (years < 1) {
+            throw new InvalidParameterException("Retirement age must be greater than current age");
+        }
+        if (scenario.annualVolatility().signum() < 0) {
+            throw new InvalidParameterException("Volatility must not be negative");
+        }
+
+        double monthlyMean = RetirementCalculation.toMonthlyRate(scenario.annualInterestRate()).doubleValue();
+        double monthlyDeviation = scenario.annualVolatility().doubleValue() / 100 / SQRT_12;
+        double[] balances = new double[years * paths];
+        pool.invoke(new PathTask(balances, paths, years, scenario.monthlyDeposit().doubleValue(),
+                monthlyMean, monthlyDeviation, 0, paths, new SplittableRandom(scenario.seed())));
+        pool.invoke(new SortTask(balances, paths, 0, years));
+
+        List<SimulationResult.PercentileBand> bands = new ArrayList<>(years);
+        for (int year = 0; year < years; year++) {
+            int offset = year * paths;
+            bands.add(new SimulationResult.PercentileBand(year + 1,
+                    percentile(balances, offset, paths, 5),
+                    percentile(balances, offset, paths, 50),
+                    percentile(balances, offset, paths, 95)));
+        }
+
+        Double probabilityOfSuccess = null;
+        if (scenario.targetSavings() != null) {
+            int offset = (years - 1) * paths;
+            int below = firstAtLeast(balances, offset, paths, scenario.targetSavings().doubleValue()) - offset;
+            probabilityOfSuccess = (double) (paths - below) / paths;
+        }
+        return new SimulationResult(paths, scenario.seed(), bands, probabilityOfSuccess);
+    }
+
+    /**
+     * Returns the number of paths simulated when a request does not specify one.
+     *
+     * @return the default number of paths
+     */
+    public int getDefaultPaths() {
+        return defaultPaths;
+    }
+
+    /**
+     * Stops the fork/join pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted slice, rounded to cents.
+     */
+    private static BigDecimal percentile(double[] sorted, int offset, int length, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * length);
+        return BigDecimal.valueOf(sorted[offset + Math.max(rank, 1) - 1]).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Index of the first value in a sorted slice that is at least {@code target}.
+     */
+    private static int firstAtLeast(double[] sorted, int offset, int length, double target) {
+        int low = offset;
+        int high = offset + length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class PathTask extends RecursiveAction {
+
+        private final double[] balances;
+        private final int paths;
+        private final int years;
+        private final double monthlyDeposit;
+        private final double monthlyMean;
+        private final double monthlyDeviation;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private PathTask(double[] balances, int paths, int years, double monthlyDeposit,
+                         double monthlyMean, double monthlyDeviation, int from, int to, SplittableRandom random) {
+            this.balances = balances;
+            this.paths = paths;
+            this.years = years;
+            this.monthlyDeposit = monthlyDeposit;
+            this.monthlyMean = monthlyMean;
+            this.monthlyDeviation = monthlyDeviation;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PATHS_PER_TASK) {
+                simulatePaths();
+                return;
+            }
+            int mid = from + ((to - from) / PATHS_PER_TASK / 2) * PATHS_PER_TASK;
+            if (mid == from) {
+                mid += PATHS_PER_TASK;
+            }
+            PathTask left = new PathTask(balances, paths, years, monthlyDeposit, monthlyMean, monthlyDeviation, from, mid, random.split());
+            PathTask right = new PathTask(balances, paths, years, monthlyDeposit, monthlyMean, monthlyDeviation, mid, to, random);
+            invokeAll(left, right);
+        }
+
+        private void simulatePaths() {
+            for (int path = from; path < to; path++) {
+                double balance = 0;
+                for (int year = 0; year < years; year++) {
+                    for (int month = 0; month < 12; month++) {
+                        double monthlyReturn = monthlyDeviation == 0
+                                ? monthlyMean
+                                : monthlyMean + monthlyDeviation * random.nextGaussian();
+                        balance = balance * (1 + monthlyReturn) + monthlyDeposit;
+                    }
+                    balances[year * paths + path] = balance;
+                }
+            }
+        }
+    }
+
+    private static final class SortTask extends RecursiveAction {
+
+        private final double[] balances;
+        private final int paths;
+        private final int fromYear;
+        private final int toYear;
+
+        private SortTask(double[] balances, int paths, int fromYear, int toYear) {
+            this.balances = balances;
+            this.paths = paths;
+            this.fromYear = fromYear;
+            this.toYear = toYear;
+        }
+
+        @Override
+        protected void compute() {
+            if (toYear - fromYear == 1) {
+                Arrays.sort(balances, fromYear * paths, toYear * paths);
+                return;
+            }
+            int mid = (fromYear + toYear) >>> 1;
+            invokeAll(new SortTask(balances, paths, fromYear, mid), new SortTask(balances, paths, mid, toYear));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.retirementCalculator.domain;
+
+/**
+ * How often a projection schedule reports the balance.
+ */
+public enum ProjectionFrequency {
+
+    /**
+     * One period per year of saving.
+     */
+    YEARLY(12),
+
+    /**
+     * One period per monthly deposit.
+     */
+    MONTHLY(1);
+
+    private final int monthsPerPeriod;
+
+    ProjectionFrequency(int monthsPerPeriod) {
+        this.monthsPerPeriod = monthsPerPeriod;
+    }
+
+    /**
+     * Returns the number of monthly deposits in one period.
+     *
+     * @return the months per period
+     */
+    public int getMonthsPerPeriod() {
+        return monthsPerPeriod;
+    }
+}
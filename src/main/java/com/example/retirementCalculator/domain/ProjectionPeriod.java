@@ -0,0 +1,19 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Savings at the end of one period of a {@link ProjectionSchedule}.
+ *
+ * @param period the period, starting at 1
+ * @param month the number of monthly deposits made by the end of the period
+ * @param age the age in whole years at the end of the period
+ * @param contribution the deposits made during the period
+ * @param interest the interest earned during the period
+ * @param totalContributions the deposits made so far
+ * @param totalInterest the interest earned so far
+ * @param balance the savings at the end of the period
+ */
+public record ProjectionPeriod(int period, int month, int age, BigDecimal contribution, BigDecimal interest,
+                               BigDecimal totalContributions, BigDecimal totalInterest, BigDecimal balance) {
+}
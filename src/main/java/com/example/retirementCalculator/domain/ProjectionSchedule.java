@@ -0,0 +1,84 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Balance, contributions and interest of a calculation at the end of every period until retirement.
+ * <p>
+ * Periods are generated lazily, one at a time, while the schedule is iterated, so a schedule
+ * holds no rows and can be written out as it is produced. Each iteration makes one pass over
+ * the months with {@link AnnuityFactorRecurrence}, so the whole schedule costs {@code O(n)}.
+ * </p>
+ * <p>
+ * The balance at the end of a period is exactly what {@link RetirementCalculation} returns
+ * for a retirement after the same number of months, so the last balance equals the
+ * calculation's future value. Interest is whatever the balance gained beyond the deposits.
+ * </p>
+ */
+public final class ProjectionSchedule implements Iterable<ProjectionPeriod> {
+
+    private final int currentAge;
+    private final int totalMonths;
+    private final int monthsPerPeriod;
+    private final BigDecimal monthlyDeposit;
+    private final BigDecimal monthlyRate;
+    private final FutureValueEngine futureValueEngine;
+
+    ProjectionSchedule(int currentAge, int retirementAge, BigDecimal monthlyDeposit, BigDecimal interestRate,
+                       ProjectionFrequency frequency, FutureValueEngine futureValueEngine) {
+        this.currentAge = currentAge;
+        this.totalMonths = (retirementAge - currentAge) * 12;
+        this.monthsPerPeriod = frequency.getMonthsPerPeriod();
+        this.monthlyDeposit = monthlyDeposit;
+        this.monthlyRate = RetirementCalculation.toMonthlyRate(interestRate);
+        this.futureValueEngine = futureValueEngine;
+    }
+
+    /**
+     * Returns the number of periods in the schedule.
+     *
+     * @return the number of periods
+     */
+    public int size() {
+        return totalMonths / monthsPerPeriod;
+    }
+
+    @Override
+    public Iterator<ProjectionPeriod> iterator() {
+        return new PeriodIterator();
+    }
+
+    private final class PeriodIterator implements Iterator<ProjectionPeriod> {
+
+        private final AnnuityFactorRecurrence recurrence = new AnnuityFactorRecurrence(monthlyRate, futureValueEngine);
+        private final BigDecimal periodContribution =
+                monthlyDeposit.multiply(BigDecimal.valueOf(monthsPerPeriod)).setScale(2, RoundingMode.HALF_UP);
+        private int period;
+        private BigDecimal totalContributions = BigDecimal.ZERO.setScale(2);
+        private BigDecimal balance = BigDecimal.ZERO.setScale(2);
+
+        @Override
+        public boolean hasNext() {
+            return recurrence.months() < totalMonths;
+        }
+
+        @Override
+        public ProjectionPeriod next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            period++;
+            recurrence.advanceTo(period * monthsPerPeriod);
+            BigDecimal previousBalance = balance;
+            balance = monthlyDeposit.multiply(recurrence.roundedFactor()).setScale(2, RoundingMode.HALF_UP);
+            totalContributions = totalContributions.add(periodContribution);
+
+            return new ProjectionPeriod(period, recurrence.months(), currentAge + recurrence.months() / 12,
+                    periodContribution, balance.subtract(previousBalance).subtract(periodContribution),
+                    totalContributions, balance.subtract(totalContributions), balance);
+        }
+    }
+}
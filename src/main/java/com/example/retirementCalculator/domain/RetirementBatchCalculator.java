@@ -0,0 +1,185 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import com.example.retirementCalculator.exception.RetirementCalculatorException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates many retirement scenarios in one call.
+ * <p>
+ * Each distinct lifestyle type is resolved from the cache once, before any calculation runs.
+ * The scenarios are then split into chunks and evaluated in parallel on a fixed-size pool
+ * owned by this component. The future values of a chunk are evaluated together with
+ * {@link RetirementCalculationBuilder#calculateFutureValues}, so the configured engine sees
+ * whole batches. The pool has a bounded queue, and when the queue is full the
+ * submitting thread runs the chunk itself, so a large batch cannot exhaust memory or threads.
+ * </p>
+ * <p>
+ * A failing scenario never fails the batch. Its exception is returned in its
+ * {@link ScenarioOutcome} so the caller can report it next to the successful results.
+ * </p>
+ */
+@Component
+@Slf4j
+public class RetirementBatchCalculator {
+
+    private final RetirementCalculationBuilder calculationBuilder;
+    private final int maxBatchSize;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a batch calculator with its own worker pool.
+     *
+     * @param calculationBuilder the builder used for every scenario
+     * @param parallelism the number of worker threads, or zero for one per available processor
+     * @param queueCapacity the number of chunks that may wait for a worker
+     * @param chunkSize the number of scenarios evaluated per task
+     * @param maxBatchSize the largest accepted batch
+     */
+    public RetirementBatchCalculator(RetirementCalculationBuilder calculationBuilder,
+                                     @Value("${calculator.batch.parallelism:0}") int parallelism,
+                                     @Value("${calculator.batch.queue-capacity:64}") int queueCapacity,
+                                     @Value("${calculator.batch.chunk-size:256}") int chunkSize,
+                                     @Value("${calculator.batch.max-size:10000}") int maxBatchSize) {
+        this.calculationBuilder = calculationBuilder;
+        this.chunkSize = chunkSize;
+        this.maxBatchSize = maxBatchSize;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "batch-calc-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        log.info("Configured batch calculator with {} threads, chunk size {} and max batch size {}",
+                threads, chunkSize, maxBatchSize);
+    }
+
+    /**
+     * Evaluates every scenario and returns the outcomes in input order.
+     *
+     * @param scenarios the scenarios to evaluate
+     * @return one outcome per scenario, at the same index
+     * @throws InvalidParameterException if the batch is empty or larger than the configured maximum
+     */
+    public List<ScenarioOutcome> calculateAll(List<RetirementScenario> scenarios) {
+        checkBatchSize(scenarios == null ? 0 : scenarios.size());
+
+        Map<String, Object> profiles = resolveProfiles(scenarios);
+        ScenarioOutcome[] outcomes = new ScenarioOutcome[scenarios.size()];
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < scenarios.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, scenarios.size());
+            chunks.add(CompletableFuture.runAsync(() -> evaluateChunk(scenarios, profiles, outcomes, from, to), executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        return Arrays.asList(outcomes);
+    }
+
+    /**
+     * Checks that a batch of the given size is accepted.
+     *
+     * @param size the number of scenarios in the batch
+     * @throws InvalidParameterException if the batch is empty or larger than the configured maximum
+     */
+    public void checkBatchSize(int size) {
+        if (size == 0) {
+            throw new InvalidParameterException("Batch must contain at least one scenario");
+        }
+        if (size > maxBatchSize) {
+            throw new InvalidParameterException("Batch size " + size + " exceeds the maximum of " + maxBatchSize);
+        }
+    }
+
+    /**
+     * Returns the largest accepted batch.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Stops the worker pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Map<String, Object> resolveProfiles(List<RetirementScenario> scenarios) {
+        Map<String, Object> profiles = new HashMap<>();
+        for (RetirementScenario scenario : scenarios) {
+            if (scenario.lifestyleType() == null) {
+                continue;
+            }
+            profiles.computeIfAbsent(scenario.lifestyleType().toLowerCase(), key -> {
+                try {
+                    return calculationBuilder.resolveProfile(scenario.lifestyleType());
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            });
+        }
+        log.debug("Resolved {} distinct lifestyle profiles for {} scenarios", profiles.size(), scenarios.size());
+        return profiles;
+    }
+
+    private void evaluateChunk(List<RetirementScenario> scenarios, Map<String, Object> profiles,
+                               ScenarioOutcome[] outcomes, int from, int to) {
+        List<RetirementCalculation> calculations = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            outcomes[i] = build(scenarios.get(i), profiles);
+            if (outcomes[i].isSuccess()) {
+                calculations.add(outcomes[i].calculation());
+            }
+        }
+        if (!calculations.isEmpty()) {
+            calculationBuilder.calculateFutureValues(calculations);
+        }
+    }
+
+    private ScenarioOutcome build(RetirementScenario scenario, Map<String, Object> profiles) {
+        try {
+            if (scenario.lifestyleType() == null) {
+                throw new InvalidParameterException("Lifestyle type is required");
+            }
+            Object profile = profiles.get(scenario.lifestyleType().toLowerCase());
+            if (profile instanceof RuntimeException e) {
+                return ScenarioOutcome.failure(e);
+            }
+            RetirementCalculation calculation = calculationBuilder.build(scenario.currentAge(), scenario.retirementAge(),
+                    (LifestyleProfile) profile, scenario.customInterestRate());
+            return ScenarioOutcome.success(calculation);
+        } catch (RetirementCalculatorException e) {
+            return ScenarioOutcome.failure(e);
+        } catch (RuntimeException e) {
+            log.error("Unexpected error evaluating batch scenario: ", e);
+            return ScenarioOutcome.failure(e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.retirementCalculator.domain;
 
 import com.example.retirementCalculator.exception.InvalidCalculationException;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Domain object representing a retirement calculation.
@@ -25,6 +27,19 @@ public class RetirementCalculation {
     private final BigDecimal interestRate;
     private final BigDecimal monthlyDeposit;
 
+    /**
+     * Engine used to evaluate the future value formula.
+     */
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private final FutureValueEngine futureValueEngine = ClosedFormFutureValueEngine.INSTANCE;
+
+    /**
+     * The future value, computed on first access or supplied by a batch evaluation, and reused afterwards.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<BigDecimal> futureValue = new AtomicReference<>();
+
     /**
      * Validates the retirement calculation parameters.
      *
@@ -57,28 +72,68 @@ public class RetirementCalculation {
      * r = monthly interest rate
      * n = number of months until retirement
      * </p>
+     * <p>
+     * The value is evaluated once by the configured {@link FutureValueEngine} and cached,
+     * so repeated calls (e.g. from {@link #getResults()}) are free.
+     * </p>
      *
      * @return the calculated future value
      */
     public BigDecimal calculateFutureValue() {
-        // Convert annual interest rate to monthly
-        BigDecimal monthlyRate = interestRate.divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
+        BigDecimal value = futureValue.get();
+        if (value == null) {
+            value = computeFutureValue();
+            futureValue.compareAndSet(null, value);
+        }
+        return value;
+    }
+
+    /**
+     * Supplies the future value evaluated for this calculation as part of a batch.
+     *
+     * @param value the future value, equal to what {@link #calculateFutureValue()} would compute
+     */
+    void setFutureValue(BigDecimal value) {
+        futureValue.compareAndSet(null, value);
+    }
+
+    /**
+     * Returns the balance, contributions and interest at the end of every period until retirement.
+     * <p>
+     * The schedule is generated lazily from the same rounding contract as
+     * {@link #calculateFutureValue()}, and its last balance equals the future value.
+     * </p>
+     *
+     * @param frequency how often the schedule reports the balance
+     * @return the projection schedule
+     */
+    public ProjectionSchedule projectionSchedule(ProjectionFrequency frequency) {
+        return new ProjectionSchedule(currentAge, retirementAge, monthlyDeposit, interestRate, frequency, futureValueEngine);
+    }
+
+    /**
+     * Converts an annual percentage rate into the monthly fraction used by the formula.
+     * <p>
+     * The result is rounded to 8 decimal places, matching the precision every
+     * {@link FutureValueEngine} is validated against.
+     * </p>
+     *
+     * @param annualInterestRate the annual interest rate as a percentage (e.g. 5.5)
+     * @return the monthly interest rate as a fraction
+     */
+    public static BigDecimal toMonthlyRate(BigDecimal annualInterestRate) {
+        return annualInterestRate.divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
                 .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal computeFutureValue() {
+        // Convert annual interest rate to monthly
+        BigDecimal monthlyRate = toMonthlyRate(interestRate);
 
         // Calculate number of months until retirement
         int monthsUntilRetirement = (retirementAge - currentAge) * 12;
 
-        // Calculate (1 + r)^n
-        BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRateToN = onePlusRate.pow(monthsUntilRetirement);
-
-        // Calculate ((1 + r)^n - 1) / r
-        BigDecimal numerator = onePlusRateToN.subtract(BigDecimal.ONE);
-        BigDecimal denominator = monthlyRate;
-        BigDecimal multiplier = numerator.divide(denominator, 8, RoundingMode.HALF_UP);
-
-        // Calculate final future value
-        return monthlyDeposit.multiply(multiplier).setScale(2, RoundingMode.HALF_UP);
+        return futureValueEngine.futureValue(monthlyDeposit, monthlyRate, monthsUntilRetirement);
     }
 
     /**
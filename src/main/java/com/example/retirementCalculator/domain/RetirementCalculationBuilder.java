@@ -1,15 +1,17 @@
 package com.example.retirementCalculator.domain;
 
-import com.example.retirementCalculator.cache.InterestRateCacheService;
-import com.example.retirementCalculator.cache.LifestyleCacheService;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
 import com.example.retirementCalculator.exception.InvalidCalculationException;
 import com.example.retirementCalculator.exception.LifestyleNotFoundException;
 import com.example.retirementCalculator.exception.RateNotFoundException;
-import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,15 +19,38 @@ import java.util.Optional;
  * <p>
  * This class handles the construction of RetirementCalculation objects from various sources,
  * including request DTOs and other input formats. It also handles the retrieval of
- * interest rates and monthly deposits from the cache.
+ * interest rates and monthly deposits from the cache, both in a single lookup through
+ * {@link LifestyleProfileCacheService}, and supplies the configured
+ * {@link FutureValueEngine} to every calculation.
+ * </p>
+ * <p>
+ * Builds that look a lifestyle up are timed as {@code calculator.calculation.build}, and every
+ * future value the calculations it creates evaluate on their own as
+ * {@code calculator.calculation.future-value}.
  * </p>
  */
 @Component
-@RequiredArgsConstructor
 public class RetirementCalculationBuilder {
 
-    private final InterestRateCacheService interestRateCacheService;
-    private final LifestyleCacheService lifestyleCacheService;
+    private final LifestyleProfileCacheService lifestyleProfileCacheService;
+    private final FutureValueEngine futureValueEngine;
+    private final Timer buildTimer;
+
+    /**
+     * Creates a builder.
+     *
+     * @param lifestyleProfileCacheService the cache lifestyle profiles are looked up in
+     * @param futureValueEngine the engine supplied to every calculation
+     * @param meterRegistry the registry the build and calculation timers are registered with
+     */
+    public RetirementCalculationBuilder(LifestyleProfileCacheService lifestyleProfileCacheService,
+                                        FutureValueEngine futureValueEngine, MeterRegistry meterRegistry) {
+        this.lifestyleProfileCacheService = lifestyleProfileCacheService;
+        this.futureValueEngine = new TimedFutureValueEngine(futureValueEngine,
+                timer(meterRegistry, "calculator.calculation.future-value", "Time spent evaluating the future value formula"));
+        this.buildTimer = timer(meterRegistry, "calculator.calculation.build",
+                "Time spent looking up a lifestyle and assembling its calculation");
+    }
 
     /**
      * Builds a RetirementCalculation from the provided parameters.
@@ -39,25 +64,20 @@ public class RetirementCalculationBuilder {
      * @throws RateNotFoundException if the interest rate is not found
      */
     public RetirementCalculation build(int currentAge, int retirementAge, String lifestyleType) {
-        // Get interest rate from cache
-        BigDecimal interestRate = interestRateCacheService.getInterestRateByLifestyleType(lifestyleType)
-                .orElseThrow(() -> new RateNotFoundException("Interest rate not found for lifestyle type: " + lifestyleType));
+        return buildTimer.record(() -> lookUpAndBuild(currentAge, retirementAge, lifestyleType));
+    }
+
+    private RetirementCalculation lookUpAndBuild(int currentAge, int retirementAge, String lifestyleType) {
+        // Get interest rate and monthly deposit from cache in one lookup
+        CachedLifestyleProfile profile = lifestyleProfileCacheService.getProfile(lifestyleType);
 
-        // Get monthly deposit from cache
-        LifestyleDepositsEntity lifestyle = lifestyleCacheService.getLifestyleByType(lifestyleType)
+        BigDecimal interestRate = Optional.ofNullable(profile.interestRate())
+                .orElseThrow(() -> new RateNotFoundException("Interest rate not found for lifestyle type: " + lifestyleType));
+        CachedLifestyle lifestyle = Optional.ofNullable(profile.lifestyle())
                 .orElseThrow(() -> new LifestyleNotFoundException("Lifestyle not found: " + lifestyleType));
 
         // Build and validate the calculation
-        RetirementCalculation calculation = RetirementCalculation.builder()
-                .currentAge(currentAge)
-                .retirementAge(retirementAge)
-                .lifestyleType(lifestyleType)
-                .interestRate(interestRate)
-                .monthlyDeposit(lifestyle.getMonthlyDeposit())
-                .build();
-
-        calculation.validate();
-        return calculation;
+        return assemble(currentAge, retirementAge, lifestyleType, interestRate, lifestyle.monthlyDeposit());
     }
 
     /**
@@ -73,25 +93,110 @@ public class RetirementCalculationBuilder {
      * @throws RateNotFoundException if the interest rate is not found and no custom rate is provided
      */
     public RetirementCalculation build(int currentAge, int retirementAge, String lifestyleType, BigDecimal customInterestRate) {
-        // Get monthly deposit from cache
-        LifestyleDepositsEntity lifestyle = lifestyleCacheService.getLifestyleByType(lifestyleType)
+        return buildTimer.record(() -> build(currentAge, retirementAge, resolveProfile(lifestyleType), customInterestRate));
+    }
+
+    /**
+     * Resolves the cached monthly deposit and interest rate for a lifestyle type.
+     * <p>
+     * Both values are read in a single cache lookup. Callers that build many calculations
+     * for the same lifestyle resolve the profile once and reuse it.
+     * </p>
+     *
+     * @param lifestyleType the lifestyle type
+     * @return the resolved lifestyle profile
+     * @throws LifestyleNotFoundException if the lifestyle type is not found
+     */
+    public LifestyleProfile resolveProfile(String lifestyleType) {
+        return toLifestyleProfile(lifestyleType, lifestyleProfileCacheService.getProfile(lifestyleType));
+    }
+
+    /**
+     * Converts a cached lifestyle profile into the profile calculations are built from.
+     * <p>
+     * Used by callers that looked the profile up themselves, such as the reactive API.
+     * </p>
+     *
+     * @param lifestyleType the lifestyle type that was looked up
+     * @param profile the cached profile
+     * @return the lifestyle profile
+     * @throws LifestyleNotFoundException if the cached profile has no lifestyle
+     */
+    public LifestyleProfile toLifestyleProfile(String lifestyleType, CachedLifestyleProfile profile) {
+        CachedLifestyle lifestyle = Optional.ofNullable(profile.lifestyle())
                 .orElseThrow(() -> new LifestyleNotFoundException("Lifestyle not found: " + lifestyleType));
+        return new LifestyleProfile(lifestyleType, lifestyle.monthlyDeposit(), profile.interestRate());
+    }
 
-        // Use custom interest rate if provided, otherwise get from cache
-        BigDecimal interestRate = customInterestRate != null ? customInterestRate :
-                interestRateCacheService.getInterestRateByLifestyleType(lifestyleType)
-                        .orElseThrow(() -> new RateNotFoundException("Interest rate not found for lifestyle type: " + lifestyleType));
+    /**
+     * Builds a RetirementCalculation from an already resolved lifestyle profile.
+     *
+     * @param currentAge the current age
+     * @param retirementAge the retirement age
+     * @param profile the resolved lifestyle profile
+     * @param customInterestRate optional custom interest rate to use instead of the cached rate
+     * @return a new RetirementCalculation instance
+     * @throws InvalidCalculationException if the calculation parameters are invalid
+     * @throws RateNotFoundException if the profile has no interest rate and no custom rate is provided
+     */
+    public RetirementCalculation build(int currentAge, int retirementAge, LifestyleProfile profile, BigDecimal customInterestRate) {
+        BigDecimal interestRate = customInterestRate != null ? customInterestRate : profile.interestRate();
+        if (interestRate == null) {
+            throw new RateNotFoundException("Interest rate not found for lifestyle type: " + profile.lifestyleType());
+        }
+        return assemble(currentAge, retirementAge, profile.lifestyleType(), interestRate, profile.monthlyDeposit());
+    }
 
-        // Build and validate the calculation
+    /**
+     * Evaluates the future values of calculations built by this builder in one
+     * {@link FutureValueEngine#futureValues(FutureValueBatch)} call.
+     * <p>
+     * Lets the engine process the whole list without allocating per scenario, and with SIMD
+     * instructions when the vector engine is enabled. If the list cannot be represented as a
+     * {@link FutureValueBatch}, such as a future value beyond a {@code long} number of cents,
+     * every calculation is evaluated on its own instead. The results are identical either way.
+     * </p>
+     *
+     * @param calculations the calculations, receiving their future values
+     */
+    public void calculateFutureValues(List<RetirementCalculation> calculations) {
+        FutureValueBatch batch = new FutureValueBatch(calculations.size());
+        try {
+            for (int i = 0; i < calculations.size(); i++) {
+                RetirementCalculation calculation = calculations.get(i);
+                batch.set(i, calculation.getMonthlyDeposit(), RetirementCalculation.toMonthlyRate(calculation.getInterestRate()),
+                        (calculation.getRetirementAge() - calculation.getCurrentAge()) * 12);
+            }
+            futureValueEngine.futureValues(batch);
+        } catch (ArithmeticException e) {
+            calculations.forEach(RetirementCalculation::calculateFutureValue);
+            return;
+        }
+        for (int i = 0; i < calculations.size(); i++) {
+            calculations.get(i).setFutureValue(batch.futureValue(i));
+        }
+    }
+
+    private RetirementCalculation assemble(int currentAge, int retirementAge, String lifestyleType,
+                                           BigDecimal interestRate, BigDecimal monthlyDeposit) {
         RetirementCalculation calculation = RetirementCalculation.builder()
                 .currentAge(currentAge)
                 .retirementAge(retirementAge)
                 .lifestyleType(lifestyleType)
                 .interestRate(interestRate)
-                .monthlyDeposit(lifestyle.getMonthlyDeposit())
+                .monthlyDeposit(monthlyDeposit)
+                .futureValueEngine(futureValueEngine)
                 .build();
 
         calculation.validate();
         return calculation;
     }
-} 
\ No newline at end of file
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Input parameters for a single calculation within a batch.
+ *
+ * @param currentAge the current age
+ * @param retirementAge the retirement age
+ * @param lifestyleType the lifestyle type
+ * @param customInterestRate optional custom interest rate, or {@code null} to use the cached rate
+ */
+public record RetirementScenario(int currentAge, int retirementAge, String lifestyleType, BigDecimal customInterestRate) {
+}
@@ -0,0 +1,39 @@
+package com.example.retirementCalculator.domain;
+
+/**
+ * Result of evaluating one {@link RetirementScenario}: either a calculation or the error that prevented it.
+ *
+ * @param calculation the calculation with its future value already evaluated, or {@code null} on error
+ * @param error the failure, or {@code null} on success
+ */
+public record ScenarioOutcome(RetirementCalculation calculation, RuntimeException error) {
+
+    /**
+     * Creates a successful outcome.
+     *
+     * @param calculation the evaluated calculation
+     * @return the outcome
+     */
+    public static ScenarioOutcome success(RetirementCalculation calculation) {
+        return new ScenarioOutcome(calculation, null);
+    }
+
+    /**
+     * Creates a failed outcome.
+     *
+     * @param error the failure
+     * @return the outcome
+     */
+    public static ScenarioOutcome failure(RuntimeException error) {
+        return new ScenarioOutcome(null, error);
+    }
+
+    /**
+     * Returns whether the scenario was calculated successfully.
+     *
+     * @return true if a calculation is present
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
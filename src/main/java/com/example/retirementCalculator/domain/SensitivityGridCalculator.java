@@ -0,0 +1,109 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates future values for every combination of interest rate and retirement age.
+ * <p>
+ * Each rate row is one pass over the months up to the latest retirement age, carrying the
+ * annuity factor forward with the recurrence {@code F(n + 1) = F(n) * (1 + r) + 1} and reading
+ * it off at every requested age. Rows are independent and run in parallel on a pool owned by
+ * this component.
+ * </p>
+ * <p>
+ * The recurrence is evaluated by {@link AnnuityFactorRecurrence}, which takes any factor it
+ * cannot prove correctly rounded from the configured {@link FutureValueEngine}. Every cell
+ * therefore equals what the calculation endpoint returns for the same inputs.
+ * </p>
+ */
+@Component
+@Slf4j
+public class SensitivityGridCalculator {
+
+    private final FutureValueEngine futureValueEngine;
+    private final int maxCells;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a grid calculator with its own pool.
+     *
+     * @param futureValueEngine the engine deciding cells the recurrence cannot
+     * @param parallelism the pool parallelism, or zero for one per available processor
+     * @param maxCells the largest accepted number of cells
+     */
+    public SensitivityGridCalculator(FutureValueEngine futureValueEngine,
+                                     @Value("${calculator.grid.parallelism:0}") int parallelism,
+                                     @Value("${calculator.grid.max-cells:10000}") int maxCells) {
+        this.futureValueEngine = futureValueEngine;
+        this.maxCells = maxCells;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        log.info("Configured sensitivity grid calculator with parallelism {} and max cells {}", threads, maxCells);
+    }
+
+    /**
+     * Calculates the future value for every rate and retirement age.
+     *
+     * @param currentAge the current age
+     * @param monthlyDeposit the monthly deposit
+     * @param interestRates the annual interest rates as percentages, one row each
+     * @param retirementAges the retirement ages in ascending order, one column each
+     * @return the future values rounded to cents, indexed by rate and then by age
+     * @throws InvalidParameterException if the grid is empty or larger than the configured maximum,
+     * or an age is not after the current age
+     */
+    public BigDecimal[][] calculate(int currentAge, BigDecimal monthlyDeposit,
+                                    List<BigDecimal> interestRates, int[] retirementAges) {
+        long cells = (long) interestRates.size() * retirementAges.length;
+        if (cells == 0) {
+            throw new InvalidParameterException("Grid must contain at least one rate and one retirement age");
+        }
+        if (cells > maxCells) {
+            throw new InvalidParameterException("Grid size " + cells + " exceeds the maximum of " + maxCells + " cells");
+        }
+        if (retirementAges[0] <= currentAge) {
+            throw new InvalidParameterException("Retirement age must be greater than current age");
+        }
+        for (int column = 1; column < retirementAges.length; column++) {
+            if (retirementAges[column] <= retirementAges[column - 1]) {
+                throw new InvalidParameterException("Retirement ages must be in ascending order");
+            }
+        }
+
+        BigDecimal[][] balances = new BigDecimal[interestRates.size()][];
+        pool.submit(() -> IntStream.range(0, balances.length).parallel().forEach(row ->
+                balances[row] = calculateRow(currentAge, monthlyDeposit, interestRates.get(row), retirementAges)))
+                .join();
+        return balances;
+    }
+
+    /**
+     * Stops the pool.
+     */
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private BigDecimal[] calculateRow(int currentAge, BigDecimal monthlyDeposit, BigDecimal interestRate, int[] retirementAges) {
+        AnnuityFactorRecurrence recurrence =
+                new AnnuityFactorRecurrence(RetirementCalculation.toMonthlyRate(interestRate), futureValueEngine);
+
+        BigDecimal[] row = new BigDecimal[retirementAges.length];
+        for (int column = 0; column < retirementAges.length; column++) {
+            recurrence.advanceTo((retirementAges[column] - currentAge) * 12);
+            row[column] = monthlyDeposit.multiply(recurrence.roundedFactor()).setScale(2, RoundingMode.HALF_UP);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Outcome of a Monte Carlo simulation.
+ *
+ * @param paths the number of simulated paths
+ * @param seed the seed the paths were derived from
+ * @param bands the savings percentiles at the end of every year, first year first
+ * @param probabilityOfSuccess the fraction of paths reaching the target, or {@code null} if no target was given
+ */
+public record SimulationResult(int paths, long seed, List<PercentileBand> bands, Double probabilityOfSuccess) {
+
+    /**
+     * Savings percentiles across all paths at the end of one year.
+     *
+     * @param year the year, starting at 1
+     * @param p5 the 5th percentile
+     * @param p50 the median
+     * @param p95 the 95th percentile
+     */
+    public record PercentileBand(int year, BigDecimal p5, BigDecimal p50, BigDecimal p95) {
+    }
+}
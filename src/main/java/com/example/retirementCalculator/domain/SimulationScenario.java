@@ -0,0 +1,18 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Input parameters for a Monte Carlo simulation of retirement savings.
+ *
+ * @param years the number of years until retirement
+ * @param monthlyDeposit the amount deposited at the end of every month
+ * @param annualInterestRate the mean annual return as a percentage (e.g. 5.5)
+ * @param annualVolatility the standard deviation of the annual return as a percentage
+ * @param paths the number of simulated paths
+ * @param seed the seed all paths are derived from; equal seeds give equal results
+ * @param targetSavings the savings counted as success, or {@code null} for no success estimate
+ */
+public record SimulationScenario(int years, BigDecimal monthlyDeposit, BigDecimal annualInterestRate,
+                                 BigDecimal annualVolatility, int paths, long seed, BigDecimal targetSavings) {
+}
@@ -0,0 +1,67 @@
+package com.example.retirementCalculator.domain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * {@link FutureValueEngine} that serves factors from a precomputed {@link AnnuityFactorTable}.
+ * <p>
+ * Rates known in advance (those loaded into the interest rate cache) are answered with a
+ * single table lookup. Anything else, such as an arbitrary custom interest rate, falls back
+ * to the delegate engine. The table is replaced atomically by {@link #rebuild(Collection)},
+ * so concurrent calculations see either the old or the new table, never a partial one.
+ * </p>
+ */
+public final class TabulatedFutureValueEngine implements FutureValueEngine {
+
+    private final FutureValueEngine delegate;
+    private volatile AnnuityFactorTable table = AnnuityFactorTable.EMPTY;
+
+    /**
+     * Creates an engine with an empty table.
+     *
+     * @param delegate the engine used to build the table and to answer untabulated lookups
+     */
+    public TabulatedFutureValueEngine(FutureValueEngine delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+        long scaledFactor = table.scaledFactor(monthlyRate, months);
+        if (scaledFactor != AnnuityFactorTable.NOT_TABULATED) {
+            return BigDecimal.valueOf(scaledFactor, FACTOR_SCALE);
+        }
+        return delegate.annuityFactor(monthlyRate, months);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Batches bypass the table and go to the delegate, which may evaluate them faster as a
+     * whole; the table holds the delegate's own factors, so the results are the same.
+     * </p>
+     */
+    @Override
+    public void futureValues(FutureValueBatch batch) {
+        delegate.futureValues(batch);
+    }
+
+    /**
+     * Rebuilds the table for the given annual rates and publishes it atomically.
+     *
+     * @param annualInterestRates annual interest rates as percentages
+     */
+    public void rebuild(Collection<BigDecimal> annualInterestRates) {
+        table = AnnuityFactorTable.build(annualInterestRates, delegate);
+    }
+
+    /**
+     * Returns the table currently in use.
+     *
+     * @return the current annuity factor table
+     */
+    public AnnuityFactorTable getTable() {
+        return table;
+    }
+}
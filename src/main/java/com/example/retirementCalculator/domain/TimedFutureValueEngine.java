@@ -0,0 +1,48 @@
+package com.example.retirementCalculator.domain;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FutureValueEngine} that records how long each future value evaluation takes.
+ * <p>
+ * Used by {@link RetirementCalculationBuilder} so that the time spent in
+ * {@link RetirementCalculation#calculateFutureValue()} is measured without the calculation
+ * itself knowing about metrics.
+ * </p>
+ */
+final class TimedFutureValueEngine implements FutureValueEngine {
+
+    private final FutureValueEngine delegate;
+    private final Timer timer;
+
+    TimedFutureValueEngine(FutureValueEngine delegate, Timer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+        return delegate.annuityFactor(monthlyRate, months);
+    }
+
+    @Override
+    public BigDecimal futureValue(BigDecimal monthlyDeposit, BigDecimal monthlyRate, int months) {
+        long start = System.nanoTime();
+        try {
+            return delegate.futureValue(monthlyDeposit, monthlyRate, months);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Delegates without recording, so the timer keeps measuring single evaluations only.
+     */
+    @Override
+    public void futureValues(FutureValueBatch batch) {
+        delegate.futureValues(batch);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.retirementCalculator.domain;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link FutureValueEngine} that evaluates batches with SIMD instructions through the
+ * incubating Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Single evaluations go to the delegate unchanged. A batch is evaluated a whole vector of
+ * scenarios at a time with the same closed form and error bound as the first tier of
+ * {@link ClosedFormFutureValueEngine}; the Vector API computes {@code log1p} and {@code expm1}
+ * within 1 ulp, which is all that bound assumes. Lanes the bound cannot decide, zero rates and
+ * the tail of the batch are finished by the delegate, so every result equals what the
+ * delegate returns.
+ * </p>
+ * <p>
+ * The module is only resolved when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}; check {@link #isAvailable()} before creating
+ * an instance. On hardware without vectors of at least 128 bits batches are evaluated by the
+ * delegate as well.
+ * </p>
+ */
+public final class VectorFutureValueEngine implements FutureValueEngine {
+
+    private static final double UNIT_ROUNDOFF = 0x1.0p-53;
+    private static final double FACTOR_MULTIPLIER = 1e8;
+    private static final double RATE_MULTIPLIER = 1e8;
+    private static final double MAX_EXACT_SCALED_FACTOR = 0x1.0p52;
+    private static final long UNDECIDED = -1L;
+
+    private final FutureValueEngine delegate;
+
+    /**
+     * Creates an engine that vectorizes batches and defers everything else to the given engine.
+     *
+     * @param delegate the engine answering single evaluations and undecided lanes
+     */
+    public VectorFutureValueEngine(FutureValueEngine delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Checks whether the Vector API module was resolved at startup.
+     * <p>
+     * Only touches {@link ModuleLayer}, so it is safe to call without the module; the Vector
+     * API classes are first loaded when {@link Kernel} is initialized.
+     * </p>
+     *
+     * @return true if this engine can be created
+     */
+    public static boolean isAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    /**
+     * Returns whether batches are evaluated with SIMD instructions on this hardware.
+     *
+     * @return false if batches are handed to the delegate
+     */
+    public static boolean isVectorized() {
+        return Kernel.VECTORIZED;
+    }
+
+    @Override
+    public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+        return delegate.annuityFactor(monthlyRate, months);
+    }
+
+    @Override
+    public BigDecimal futureValue(BigDecimal monthlyDeposit, BigDecimal monthlyRate, int months) {
+        return delegate.futureValue(monthlyDeposit, monthlyRate, months);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The vector pass leaves the scaled factor of every lane it decides in the result array and
+     * {@code -1} in the others; a scalar pass then resolves the undecided lanes with the
+     * delegate and multiplies by the deposits in exact {@code long} arithmetic.
+     * </p>
+     */
+    @Override
+    public void futureValues(FutureValueBatch batch) {
+        if (!Kernel.VECTORIZED) {
+            delegate.futureValues(batch);
+            return;
+        }
+
+        int size = batch.size();
+        int vectorized = Kernel.DOUBLES.loopBound(size);
+        for (int i = 0; i < vectorized; i += Kernel.DOUBLES.length()) {
+            Kernel.scaledFactors(batch, i);
+        }
+
+        long[] results = batch.futureValueCents;
+        for (int i = 0; i < size; i++) {
+            long scaledFactor = i < vectorized ? results[i] : UNDECIDED;
+            if (scaledFactor == UNDECIDED) {
+                scaledFactor = delegate.annuityFactor(batch.monthlyRate(i), batch.months[i])
+                        .unscaledValue().longValueExact();
+            }
+            results[i] = FutureValueBatch.futureValueCents(batch.depositCents[i], scaledFactor);
+        }
+    }
+
+    /**
+     * Vector species and the SIMD kernel, kept apart so the engine class loads without the module.
+     */
+    private static final class Kernel {
+
+        private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+        private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+        private static final boolean VECTORIZED = DOUBLES.vectorBitSize() >= 128;
+        private static final VectorSpecies<Integer> INTS = VECTORIZED
+                ? IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2))
+                : null;
+
+        /**
+         * Evaluates one vector of scaled factors starting at the given index.
+         */
+        private static void scaledFactors(FutureValueBatch batch, int offset) {
+            DoubleVector rate = ((DoubleVector) LongVector.fromArray(LONGS, batch.scaledMonthlyRates, offset)
+                    .convert(VectorOperators.L2D, 0))
+                    .div(RATE_MULTIPLIER);
+            DoubleVector months = (DoubleVector) IntVector.fromArray(INTS, batch.months, offset)
+                    .convertShape(VectorOperators.I2D, DOUBLES, 0);
+
+            DoubleVector exponent = rate.lanewise(VectorOperators.LOG1P).mul(months);
+            DoubleVector scaled = exponent.lanewise(VectorOperators.EXPM1).div(rate).mul(FACTOR_MULTIPLIER);
+            DoubleVector errorBound = scaled.mul(exponent.mul(8.0).add(32.0)).mul(UNIT_ROUNDOFF);
+
+            // Truncation is the floor here: undecided lanes are discarded, the others are positive
+            LongVector floor = (LongVector) scaled.convert(VectorOperators.D2L, 0);
+            DoubleVector fraction = scaled.sub((DoubleVector) floor.convert(VectorOperators.L2D, 0));
+
+            VectorMask<Double> decided = rate.compare(VectorOperators.GT, 0.0)
+                    .and(scaled.compare(VectorOperators.LT, MAX_EXACT_SCALED_FACTOR))
+                    .and(fraction.sub(0.5).abs().compare(VectorOperators.GT, errorBound));
+            VectorMask<Long> roundUp = fraction.compare(VectorOperators.GT, 0.5).cast(LONGS);
+
+            floor.add(1L, roundUp)
+                    .blend(UNDECIDED, decided.not().cast(LONGS))
+                    .intoArray(batch.futureValueCents, offset);
+        }
+    }
+}
@@ -27,4 +27,9 @@ public class CacheException extends RetirementCalculatorException {
     public CacheException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.SERVICE_UNAVAILABLE;
+    }
 }
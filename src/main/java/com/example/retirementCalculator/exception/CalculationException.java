@@ -27,4 +27,9 @@ public class CalculationException extends RetirementCalculatorException {
     public CalculationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.CALCULATION_ERROR;
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.retirementCalculator.exception;
+
+import com.example.retirementCalculator.api.dto.ErrorResponseDTO;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * How an application exception is reported to API clients.
+ * <p>
+ * Each {@link RetirementCalculatorException} names its kind, so mapping an exception to a
+ * response is a virtual call instead of a chain of type checks. Everything about the response
+ * except the timestamp, the path and, for client errors, the message is fixed per kind.
+ * </p>
+ */
+public enum ErrorKind {
+
+    /**
+     * A requested lifestyle type or interest rate does not exist.
+     */
+    NOT_FOUND(HttpStatus.NOT_FOUND, "Resource Not Found", null),
+
+    /**
+     * The request passed validation but cannot be calculated.
+     */
+    INVALID_PARAMETERS(HttpStatus.BAD_REQUEST, "Invalid Parameters", null),
+
+    /**
+     * The calculation itself failed.
+     */
+    CALCULATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Calculation Error", null),
+
+    /**
+     * The cache or database behind it could not be reached.
+     */
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+            "Cache service is currently unavailable. Please try again later."),
+
+    /**
+     * Any other failure. The exception message is not exposed.
+     */
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+            "An unexpected error occurred. Please try again later.");
+
+    private final HttpStatus status;
+    private final String error;
+    private final String fixedMessage;
+
+    ErrorKind(HttpStatus status, String error, String fixedMessage) {
+        this.status = status;
+        this.error = error;
+        this.fixedMessage = fixedMessage;
+    }
+
+    /**
+     * Returns the kind an exception is reported as.
+     *
+     * @param ex the exception
+     * @return the kind named by an application exception, or {@link #INTERNAL_ERROR}
+     */
+    public static ErrorKind of(Throwable ex) {
+        return ex instanceof RetirementCalculatorException e ? e.getErrorKind() : INTERNAL_ERROR;
+    }
+
+    /**
+     * Returns the response status of this kind.
+     *
+     * @return the response status
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns whether this kind is caused by the request rather than by the service.
+     * <p>
+     * Client errors are expected under normal operation, so they are logged without a stack
+     * trace and at a limited rate.
+     * </p>
+     *
+     * @return {@code true} for 4xx kinds
+     */
+    public boolean isClientError() {
+        return status.is4xxClientError();
+    }
+
+    /**
+     * Creates the error response for an exception of this kind.
+     *
+     * @param ex the exception
+     * @param path the API path the error belongs to
+     * @return the error response
+     */
+    public ErrorResponseDTO toResponse(Throwable ex, String path) {
+        return ErrorResponseDTO.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(fixedMessage != null ? fixedMessage : ex.getMessage())
+                .path(path)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.retirementCalculator.exception;
+
+import com.example.retirementCalculator.api.dto.ErrorResponseDTO;
+
+/**
+ * Builds {@link ErrorResponseDTO} instances for errors reported inside a successful response.
+ * <p>
+ * Batch endpoints report per-item failures in the response body instead of going through
+ * {@link GlobalExceptionHandler}. Both map exceptions through their {@link ErrorKind}, so an
+ * inline error looks like a top-level one.
+ * </p>
+ */
+public final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * Creates an error response for an exception.
+     *
+     * @param ex the exception
+     * @param path the API path the error belongs to
+     * @return the error response
+     */
+    public static ErrorResponseDTO forException(RuntimeException ex, String path) {
+        return ErrorKind.of(ex).toResponse(ex, path);
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.retirementCalculator.exception;
 
 import com.example.retirementCalculator.api.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -14,9 +17,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +31,12 @@ import java.util.stream.Collectors;
  * <p>
  * Provides centralized exception handling across all controller methods.
  * Maps exceptions to appropriate HTTP status codes and standardized error response formats.
+ * Every handled exception is counted as {@code calculator.errors}, tagged with the exception
+ * type and the response status.
+ * </p>
+ * <p>
+ * Application exceptions are mapped through their {@link ErrorKind}, the same mapping
+ * {@link ErrorResponses} uses for errors reported inside batch responses.
  * </p>
  *
  * @author Your Name
@@ -31,14 +44,32 @@ import java.util.stream.Collectors;
  * @since 1.0
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String ERRORS = "calculator.errors";
+
+    private static final int CLIENT_ERROR_LOGS_PER_SECOND = 10;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Error counters of application and validation exceptions, whose status is fixed per exception type.
+     */
+    private final Map<Class<?>, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    private final Map<ErrorKind, LogRateLimiter> clientErrorLogLimiters = clientErrorLogLimiters();
+
+    private final LogRateLimiter validationLogLimiter =
+            new LogRateLimiter(CLIENT_ERROR_LOGS_PER_SECOND, Duration.ofSeconds(1));
+
     /**
      * Handles validation exceptions thrown during request body validation.
      * <p>
      * Maps {@link MethodArgumentNotValidException} to HTTP 400 (Bad Request) responses
-     * with detailed field-level validation errors.
+     * with detailed field-level validation errors. Like other client errors, they are logged
+     * at warn level and at most ten times per second.
      * </p>
      *
      * @param ex The validation exception
@@ -54,8 +85,6 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             HttpStatusCode status,
             WebRequest request) {
 
-        log.error("Validation error: {}", ex.getMessage());
-
         List<ErrorResponseDTO.FieldErrorDto> fieldErrors = ex.getBindingResult()
                 .getAllErrors()
                 .stream()
@@ -72,6 +101,14 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 })
                 .collect(Collectors.toList());
 
+        long suppressed = validationLogLimiter.tryAcquire();
+        if (suppressed == 0) {
+            log.warn("Validation error: {} invalid field(s) {}", fieldErrors.size(), fieldNames(fieldErrors));
+        } else if (suppressed > 0) {
+            log.warn("Validation error: {} invalid field(s) {} ({} similar errors not logged)",
+                    fieldErrors.size(), fieldNames(fieldErrors), suppressed);
+        }
+
         ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
                 .timestamp(LocalDateTime.now())
                 .status(HttpStatus.BAD_REQUEST.value())
@@ -81,115 +118,43 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .fieldErrors(fieldErrors)
                 .build();
 
+        errorCounters.computeIfAbsent(ex.getClass(), type -> errorCounter(type, HttpStatus.BAD_REQUEST)).increment();
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     /**
-     * Handles {@link LifestyleNotFoundException}.
-     * <p>
-     * Maps to HTTP 404 (Not Found) responses when a requested lifestyle type is not found.
-     * </p>
-     *
-     * @param ex The exception
-     * @param request The current request
-     * @return A {@link ResponseEntity} with an appropriate error response
-     */
-    @ExceptionHandler(LifestyleNotFoundException.class)
-    public ResponseEntity<ErrorResponseDTO> handleLifestyleNotFoundException(
-            LifestyleNotFoundException ex, WebRequest request) {
-
-        log.error("Lifestyle not found: {}", ex.getMessage());
-
-        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error("Resource Not Found")
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
-    }
-
-    /**
-     * Handles {@link InvalidParameterException}.
-     * <p>
-     * Maps to HTTP 400 (Bad Request) responses when input parameters are logically invalid.
-     * </p>
-     *
-     * @param ex The exception
-     * @param request The current request
-     * @return A {@link ResponseEntity} with an appropriate error response
-     */
-    @ExceptionHandler(InvalidParameterException.class)
-    public ResponseEntity<ErrorResponseDTO> handleInvalidParameterException(
-            InvalidParameterException ex, WebRequest request) {
-
-        log.error("Invalid parameter: {}", ex.getMessage());
-
-        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Invalid Parameters")
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
-    }
-
-    /**
-     * Handles {@link CalculationException}.
+     * Handles every {@link RetirementCalculatorException}.
      * <p>
-     * Maps to HTTP 500 (Internal Server Error) responses when a calculation error occurs.
+     * The status, error summary and, for server errors, the message come from the exception's
+     * {@link ErrorKind}. Client errors are expected under normal operation, so they are logged
+     * at warn level without a stack trace and at most ten times per second for each kind. Server errors are logged with their stack trace.
      * </p>
      *
      * @param ex The exception
      * @param request The current request
      * @return A {@link ResponseEntity} with an appropriate error response
      */
-    @ExceptionHandler(CalculationException.class)
-    public ResponseEntity<ErrorResponseDTO> handleCalculationException(
-            CalculationException ex, WebRequest request) {
-
-        log.error("Calculation error: {}", ex.getMessage(), ex);
-
-        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Calculation Error")
-                .message(ex.getMessage())
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
-    }
-
-    /**
-     * Handles {@link CacheException}.
-     * <p>
-     * Maps to HTTP 503 (Service Unavailable) responses when the cache is unavailable.
-     * </p>
-     *
-     * @param ex The exception
-     * @param request The current request
-     * @return A {@link ResponseEntity} with an appropriate error response
-     */
-    @ExceptionHandler(CacheException.class)
-    public ResponseEntity<ErrorResponseDTO> handleCacheException(
-            CacheException ex, WebRequest request) {
-
-        log.error("Cache error: {}", ex.getMessage(), ex);
-
-        ErrorResponseDTO errorResponse = ErrorResponseDTO.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
-                .error("Service Unavailable")
-                .message("Cache service is currently unavailable. Please try again later.")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    @ExceptionHandler(RetirementCalculatorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRetirementCalculatorException(
+            RetirementCalculatorException ex, WebRequest request) {
+
+        ErrorKind kind = ex.getErrorKind();
+        if (kind.isClientError()) {
+            long suppressed = clientErrorLogLimiters.get(kind).tryAcquire();
+            if (suppressed == 0) {
+                log.warn("{}: {}", kind.getStatus().getReasonPhrase(), ex.getMessage());
+            } else if (suppressed > 0) {
+                log.warn("{}: {} ({} similar errors not logged)", kind.getStatus().getReasonPhrase(),
+                        ex.getMessage(), suppressed);
+            }
+        } else {
+            log.error("{}: {}", kind.getStatus().getReasonPhrase(), ex.getMessage(), ex);
+        }
+
+        ErrorResponseDTO errorResponse = kind.toResponse(ex, request.getDescription(false).replace("uri=", ""));
+
+        errorCounters.computeIfAbsent(ex.getClass(), type -> errorCounter(type, kind.getStatus())).increment();
+        return new ResponseEntity<>(errorResponse, kind.getStatus());
     }
 
 //    /**
@@ -257,6 +222,33 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
 
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    private static Map<ErrorKind, LogRateLimiter> clientErrorLogLimiters() {
+        Map<ErrorKind, LogRateLimiter> limiters = new EnumMap<>(ErrorKind.class);
+        for (ErrorKind kind : ErrorKind.values()) {
+            if (kind.isClientError()) {
+                limiters.put(kind, new LogRateLimiter(CLIENT_ERROR_LOGS_PER_SECOND, Duration.ofSeconds(1)));
+            }
+        }
+        return limiters;
+    }
+
+    private static List<String> fieldNames(List<ErrorResponseDTO.FieldErrorDto> fieldErrors) {
+        return fieldErrors.stream().map(ErrorResponseDTO.FieldErrorDto::getField).toList();
+    }
+
+    private void countError(Exception ex, HttpStatus status) {
+        errorCounter(ex.getClass(), status).increment();
+    }
+
+    private Counter errorCounter(Class<?> exceptionType, HttpStatus status) {
+        return Counter.builder(ERRORS)
+                .description("Requests answered with an error, by exception type")
+                .tag("exception", exceptionType.getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry);
+    }
+}
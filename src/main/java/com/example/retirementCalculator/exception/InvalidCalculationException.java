@@ -15,7 +15,7 @@ public class InvalidCalculationException extends RetirementCalculatorException {
      * @param message the detail message
      */
     public InvalidCalculationException(String message) {
-        super(message);
+        super(message, null, false);
     }
 
     /**
@@ -25,6 +25,11 @@ public class InvalidCalculationException extends RetirementCalculatorException {
      * @param cause the cause
      */
     public InvalidCalculationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.INVALID_PARAMETERS;
+    }
+}
@@ -15,6 +15,11 @@ public class InvalidParameterException extends RetirementCalculatorException {
      * @param message the detail message
      */
     public InvalidParameterException(String message) {
-        super(message);
+        super(message, null, false);
+    }
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.INVALID_PARAMETERS;
     }
 }
@@ -15,6 +15,11 @@ public class LifestyleNotFoundException extends RetirementCalculatorException {
      * @param lifestyleType the lifestyle type that was not found
      */
     public LifestyleNotFoundException(String lifestyleType) {
-        super("Lifestyle type not found: " + lifestyleType);
+        super("Lifestyle type not found: " + lifestyleType, null, false);
+    }
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.NOT_FOUND;
     }
 }
@@ -0,0 +1,66 @@
+package com.example.retirementCalculator.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how often a recurring message is logged.
+ * <p>
+ * Allows a fixed number of messages per interval and counts the rest, so a flood of bad
+ * requests cannot turn logging into the bottleneck. The next message that is let through
+ * reports how many were suppressed before it. The limit is approximate: a few extra messages
+ * may pass while a new interval starts under contention.
+ * </p>
+ */
+public final class LogRateLimiter {
+
+    private final int permitsPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier ticker;
+
+    private final AtomicLong intervalStart;
+    private final AtomicInteger used = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param permitsPerInterval how many messages are logged per interval
+     * @param interval the interval length
+     */
+    public LogRateLimiter(int permitsPerInterval, Duration interval) {
+        this(permitsPerInterval, interval, System::nanoTime);
+    }
+
+    LogRateLimiter(int permitsPerInterval, Duration interval, LongSupplier ticker) {
+        if (permitsPerInterval < 1) {
+            throw new IllegalArgumentException("Permits per interval must be positive: " + permitsPerInterval);
+        }
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.ticker = ticker;
+        this.intervalStart = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * Asks to log one message.
+     *
+     * @return the number of messages suppressed since the last one let through, or {@code -1}
+     * if this message should be suppressed as well
+     */
+    public long tryAcquire() {
+        long now = ticker.getAsLong();
+        long start = intervalStart.get();
+        if (now - start >= intervalNanos && intervalStart.compareAndSet(start, now)) {
+            used.set(0);
+        }
+        if (used.get() < permitsPerInterval && used.incrementAndGet() <= permitsPerInterval) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1;
+    }
+}
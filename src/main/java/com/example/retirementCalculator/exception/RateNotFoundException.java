@@ -15,7 +15,7 @@ public class RateNotFoundException extends RetirementCalculatorException {
      * @param message the detail message
      */
     public RateNotFoundException(String message) {
-        super(message);
+        super(message, null, false);
     }
 
     /**
@@ -25,6 +25,11 @@ public class RateNotFoundException extends RetirementCalculatorException {
      * @param cause the cause
      */
     public RateNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public ErrorKind getErrorKind() {
+        return ErrorKind.NOT_FOUND;
+    }
+}
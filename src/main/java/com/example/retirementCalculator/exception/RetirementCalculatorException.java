@@ -5,6 +5,11 @@ package com.example.retirementCalculator.exception;
  * <p>
  * Serves as the parent exception for all application-specific exceptions.
  * </p>
+ * <p>
+ * Exceptions caused by the request, such as an unknown lifestyle type or invalid ages, are
+ * created without a stack trace. They are thrown on every bad request and always handled, so
+ * capturing the stack would only cost time on the error path.
+ * </p>
  *
  * @author Your Name
  * @version 1.0
@@ -30,5 +35,27 @@ public class RetirementCalculatorException extends RuntimeException {
     public RetirementCalculatorException(String message, Throwable cause) {
         super(message, cause);
     }
-}
 
+    /**
+     * Constructs a new retirement calculator exception, optionally without a stack trace.
+     * <p>
+     * An exception without a stack trace also does not record suppressed exceptions.
+     * </p>
+     *
+     * @param message the detail message
+     * @param cause the cause, or {@code null}
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    protected RetirementCalculatorException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
+    }
+
+    /**
+     * Returns how this exception is reported to API clients.
+     *
+     * @return the error kind
+     */
+    public ErrorKind getErrorKind() {
+        return ErrorKind.INTERNAL_ERROR;
+    }
+}
@@ -0,0 +1,14 @@
+-- Audit trail of every projection served by the calculator endpoints, written in batches by CalculationAuditLog.
+CREATE TABLE IF NOT EXISTS staging.calculation_audit (
+    id BIGSERIAL PRIMARY KEY,
+    served_at TIMESTAMP NOT NULL,
+    current_age SMALLINT NOT NULL,
+    retirement_age SMALLINT NOT NULL,
+    lifestyle_type VARCHAR(20) NOT NULL,
+    interest_rate NUMERIC(7, 4) NOT NULL,  -- annual rate in percent
+    monthly_deposit NUMERIC(10, 2) NOT NULL,
+    future_value NUMERIC(1000, 2) NOT NULL  -- custom rates up to 100% over 82 years reach far beyond 19 digits
+);
+
+-- Widen the column of tables created when it was NUMERIC(19, 2)
+ALTER TABLE staging.calculation_audit ALTER COLUMN future_value TYPE NUMERIC(1000, 2);
@@ -0,0 +1,147 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.cache.ReactiveLifestyleProfileCacheService;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementBatchCalculator;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import com.example.retirementCalculator.exception.CacheException;
+import com.example.retirementCalculator.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRetirementCalculatorControllerTest {
+
+    private static final String PATH = "/api/v1/calculator/reactive/retirement";
+
+    @Mock
+    private ReactiveLifestyleProfileCacheService reactiveProfileCacheService;
+
+    @Mock
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    @Mock
+    private CalculationAuditLog calculationAuditLog;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetirementBatchCalculator batchCalculator;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CachedLifestyle fancy = new CachedLifestyle(null, "fancy", new BigDecimal("5000.00"), null);
+        lenient().when(reactiveProfileCacheService.getProfile(anyString())).thenReturn(Mono.just(new CachedLifestyleProfile(null, null)));
+        lenient().when(reactiveProfileCacheService.getProfile("fancy")).thenReturn(Mono.just(new CachedLifestyleProfile(fancy, new BigDecimal("5.5"))));
+        lenient().when(reactiveProfileCacheService.getProfile("broken")).thenReturn(Mono.error(new CacheException("Redis down")));
+
+        RetirementCalculationBuilder calculationBuilder = new RetirementCalculationBuilder(
+                lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE, meterRegistry);
+        batchCalculator = new RetirementBatchCalculator(calculationBuilder, 1, 1, 1, 1);
+        ScenarioBatchProcessor processor = new ScenarioBatchProcessor(
+                batchCalculator, Validation.buildDefaultValidatorFactory().getValidator(), calculationAuditLog);
+        ReactiveRetirementCalculatorController controller = new ReactiveRetirementCalculatorController(
+                reactiveProfileCacheService, calculationBuilder, processor, calculationAuditLog);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(meterRegistry))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchCalculator.shutdown();
+    }
+
+    @Test
+    @DisplayName("A valid request should be answered asynchronously with the calculated savings")
+    void shouldCalculateAsynchronously() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lifestyleType", is("fancy")))
+                .andExpect(jsonPath("$.interestRate", is(5.5)))
+                .andExpect(jsonPath("$.totalRetirementSavings", is(6354611.43)));
+        verifyNoInteractions(lifestyleProfileCacheService);
+        verify(calculationAuditLog).record(any(RetirementCalculation.class));
+    }
+
+    @Test
+    @DisplayName("Unknown lifestyles should be reported as 404 like the blocking endpoint")
+    void shouldReportUnknownLifestyleAsNotFound() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"unknown\"}"))
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.path", is(PATH)));
+        assertEquals(1, meterRegistry.get("calculator.errors")
+                .tags("exception", "LifestyleNotFoundException", "status", "404")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Invalid requests should be rejected before any lookup")
+    void shouldRejectInvalidRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentAge\":10,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors[0].field", is("currentAge")));
+    }
+
+    @Test
+    @DisplayName("Cache failures should be reported through the global exception handler")
+    void shouldReportCacheFailures() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(post(PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"broken\"}"))
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.CalculationResultCache;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.cache.NearCache;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetirementCalculatorEtagTest {
+
+    private static final String REQUEST_BODY = "{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}";
+
+    @Mock
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ScenarioBatchProcessor scenarioBatchProcessor;
+
+    @Mock
+    private CalculationAuditLog calculationAuditLog;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CachedLifestyle fancy = new CachedLifestyle(null, "fancy", new BigDecimal("5000.00"), null);
+        when(lifestyleProfileCacheService.getProfile("fancy")).thenReturn(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")));
+
+        CalculationResultCache resultCache = new CalculationResultCache(
+                redisTemplate, new NearCache<CachedCalculationResult>("calculation_result", 16, Duration.ofMinutes(5)));
+        RetirementCalculatorController controller = new RetirementCalculatorController(
+                new RetirementCalculationBuilder(lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE, new SimpleMeterRegistry()),
+                scenarioBatchProcessor, resultCache, calculationAuditLog);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("A matching If-None-Match should be answered with 304 and no body")
+    void shouldAnswerNotModifiedForMatchingEtag() throws Exception {
+        // Act
+        String etag = mockMvc.perform(post("/api/v1/calculator/retirement")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRetirementSavings").value(6354611.43))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Assert
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("W/\""), etag);
+        mockMvc.perform(post("/api/v1/calculator/retirement")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0000000000000000\", " + etag)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+        mockMvc.perform(post("/api/v1/calculator/retirement")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0000000000000000\"")
+                        .content(REQUEST_BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        // If-None-Match uses weak comparison, so the tag without its weak prefix matches too
+        mockMvc.perform(post("/api/v1/calculator/retirement")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag.substring(2))
+                        .content(REQUEST_BODY))
+                .andExpect(status().isNotModified());
+
+        // The profile was resolved for the first request only, but every served result was audited
+        verify(lifestyleProfileCacheService, times(1)).getProfile("fancy");
+        verify(calculationAuditLog, times(4)).record(any(CachedCalculationResult.class));
+    }
+}
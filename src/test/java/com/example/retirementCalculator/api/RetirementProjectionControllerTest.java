@@ -0,0 +1,84 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetirementProjectionControllerTest {
+
+    private static final String REQUEST_BODY = "{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}";
+
+    @Mock
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    @Mock
+    private CalculationAuditLog calculationAuditLog;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CachedLifestyle fancy = new CachedLifestyle(null, "fancy", new BigDecimal("5000.00"), null);
+        when(lifestyleProfileCacheService.getProfile("fancy")).thenReturn(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")));
+
+        RetirementProjectionController controller = new RetirementProjectionController(
+                new RetirementCalculationBuilder(lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE, new SimpleMeterRegistry()),
+                calculationAuditLog);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("A yearly projection should list one period per year ending at the calculated savings")
+    void shouldProjectYearlyBalances() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/retirement/projection")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.frequency").value("YEARLY"))
+                .andExpect(jsonPath("$.totalRetirementSavings").value(6354611.43))
+                .andExpect(jsonPath("$.periods.length()").value(35))
+                .andExpect(jsonPath("$.periods[0].age").value(31))
+                .andExpect(jsonPath("$.periods[0].contribution").value(60000.00))
+                .andExpect(jsonPath("$.periods[34].month").value(420))
+                .andExpect(jsonPath("$.periods[34].balance").value(6354611.43));
+        verify(calculationAuditLog).record(any(RetirementCalculation.class));
+    }
+
+    @Test
+    @DisplayName("A monthly projection should list one period per deposit")
+    void shouldProjectMonthlyBalances() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/calculator/retirement/projection")
+                        .param("frequency", "MONTHLY")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST_BODY))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periods.length()").value(420))
+                .andExpect(jsonPath("$.periods[0].balance").value(5000.00))
+                .andExpect(jsonPath("$.periods[0].interest").value(0.00))
+                .andExpect(jsonPath("$.periods[419].balance").value(6354611.43));
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.retirementCalculator.api.controllers;
+
+import com.example.retirementCalculator.audit.CalculationAuditLog;
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.domain.ClosedFormFutureValueEngine;
+import com.example.retirementCalculator.domain.RetirementBatchCalculator;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import com.example.retirementCalculator.domain.RetirementCalculationBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RetirementStreamControllerTest {
+
+    @Mock
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    @Mock
+    private CalculationAuditLog calculationAuditLog;
+
+    private RetirementBatchCalculator batchCalculator;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        CachedLifestyle fancy = new CachedLifestyle(null, "fancy", new BigDecimal("5000.00"), null);
+        lenient().when(lifestyleProfileCacheService.getProfile(anyString())).thenReturn(new CachedLifestyleProfile(null, null));
+        lenient().when(lifestyleProfileCacheService.getProfile("fancy")).thenReturn(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")));
+
+        batchCalculator = new RetirementBatchCalculator(new RetirementCalculationBuilder(
+                lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE, new SimpleMeterRegistry()), 2, 4, 8, 100);
+        ScenarioBatchProcessor processor = new ScenarioBatchProcessor(
+                batchCalculator, Validation.buildDefaultValidatorFactory().getValidator(), calculationAuditLog);
+        RetirementStreamController controller = new RetirementStreamController(
+                processor, Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(controller, "windowSize", 2);
+        ReflectionTestUtils.setField(controller, "maxLineLength", 100);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchCalculator.shutdown();
+    }
+
+    @Test
+    @DisplayName("NDJSON rows should be answered in order across windows with inline errors")
+    void ndjsonShouldStreamResultsInOrder() throws Exception {
+        // Arrange
+        String body = """
+                {"currentAge":30,"retirementAge":65,"lifestyleType":"fancy"}
+                {not json
+
+                {"currentAge":10,"retirementAge":65,"lifestyleType":"fancy"}
+                {"currentAge":30,"retirementAge":65,"lifestyleType":"unknown"}
+                {"currentAge":64,"retirementAge":65,"lifestyleType":"fancy","customInterestRate":6.5}
+                """;
+
+        // Act
+        String response = mockMvc.perform(post("/api/v1/calculator/retirement/stream")
+                        .contentType(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .accept(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = response.split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith("{\"index\":0,\"result\":") && lines[0].contains("\"totalRetirementSavings\":6354611.43"));
+        assertTrue(lines[1].startsWith("{\"index\":1,\"error\":") && lines[1].contains("Malformed scenario"));
+        assertTrue(lines[2].startsWith("{\"index\":2,\"error\":") && lines[2].contains("\"field\":\"currentAge\""));
+        assertTrue(lines[3].startsWith("{\"index\":3,\"error\":") && lines[3].contains("\"status\":404"));
+        assertTrue(lines[4].startsWith("{\"index\":4,\"result\":") && lines[4].contains("\"totalRetirementSavings\":61820.17"));
+        // Only the calculated rows are audited, one call per window
+        ArgumentCaptor<List<RetirementCalculation>> audited = ArgumentCaptor.captor();
+        verify(calculationAuditLog, times(3)).recordAll(audited.capture());
+        assertEquals(2, audited.getAllValues().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    @DisplayName("CSV rows should be answered with a CSV result per row")
+    void csvShouldStreamResults() throws Exception {
+        // Arrange
+        String body = """
+                currentAge,retirementAge,lifestyleType,customInterestRate
+                30,65,fancy,
+                thirty,65,fancy
+                64,65,fancy,6.5
+                """;
+
+        // Act
+        String response = mockMvc.perform(post("/api/v1/calculator/retirement/stream")
+                        .contentType(RetirementStreamController.TEXT_CSV_VALUE)
+                        .accept(RetirementStreamController.TEXT_CSV_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = response.split("\n");
+        assertEquals(RetirementStreamController.CSV_RESPONSE_HEADER, lines[0]);
+        assertEquals("0,30,65,fancy,5.5,5000.00,6354611.43,35,OK,", lines[1]);
+        assertTrue(lines[2].startsWith("1,,,,,,,,ERROR,\"Malformed scenario"));
+        assertEquals("2,64,65,fancy,6.5,5000.00,61820.17,1,OK,", lines[3]);
+    }
+
+    @Test
+    @DisplayName("A line over the maximum length should be skipped and reported without affecting its neighbours")
+    void oversizeLineShouldBeReportedInline() throws Exception {
+        // Arrange
+        String body = "{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}\r\n"
+                + "{\"lifestyleType\":\"" + "x".repeat(10_000) + "\"}\r\n"
+                + "{\"currentAge\":64,\"retirementAge\":65,\"lifestyleType\":\"fancy\",\"customInterestRate\":6.5}";
+
+        // Act
+        String response = mockMvc.perform(post("/api/v1/calculator/retirement/stream")
+                        .contentType(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .accept(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        String[] lines = response.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"index\":0,\"result\":"));
+        assertTrue(lines[1].startsWith("{\"index\":1,\"error\":") && lines[1].contains("line exceeds 100 characters"));
+        assertTrue(lines[2].startsWith("{\"index\":2,\"result\":") && lines[2].contains("\"totalRetirementSavings\":61820.17"));
+    }
+
+    @Test
+    @DisplayName("A stream with more rows than the audit buffer holds should audit every row without drops")
+    void streamLargerThanAuditBufferShouldNotDropRecords() throws Exception {
+        // Arrange: an 8 record buffer whose writer is only woken by bulk producers waiting for space
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:stream-audit;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS staging");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS staging.calculation_audit (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "served_at TIMESTAMP NOT NULL, current_age SMALLINT NOT NULL, retirement_age SMALLINT NOT NULL, "
+                + "lifestyle_type VARCHAR(20) NOT NULL, interest_rate NUMERIC(7, 4) NOT NULL, "
+                + "monthly_deposit NUMERIC(10, 2) NOT NULL, future_value NUMERIC(1000, 2) NOT NULL)");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 8, 1000,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+        RetirementStreamController controller = new RetirementStreamController(new ScenarioBatchProcessor(
+                batchCalculator, Validation.buildDefaultValidatorFactory().getValidator(), auditLog),
+                Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(controller, "windowSize", 8);
+        ReflectionTestUtils.setField(controller, "maxLineLength", 100);
+        String body = "{\"currentAge\":30,\"retirementAge\":65,\"lifestyleType\":\"fancy\"}\n".repeat(200);
+
+        // Act
+        MockMvcBuilders.standaloneSetup(controller).build()
+                .perform(post("/api/v1/calculator/retirement/stream")
+                        .contentType(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .accept(RetirementStreamController.APPLICATION_NDJSON_VALUE)
+                        .content(body))
+                .andExpect(status().isOk());
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(0, registry.get("calculator.audit.records").tag("outcome", "dropped").counter().count());
+        assertEquals(200, registry.get("calculator.audit.records").tag("outcome", "written").counter().count());
+        assertEquals(200, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+    }
+
+    @Test
+    @DisplayName("A CSV stream with the wrong header should be rejected")
+    void csvWithWrongHeaderShouldBeRejected() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/calculator/retirement/stream")
+                        .contentType(RetirementStreamController.TEXT_CSV_VALUE)
+                        .accept(RetirementStreamController.TEXT_CSV_VALUE)
+                        .content("age,lifestyle\n30,fancy\n"))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(response.contains("ERROR,\"Invalid CSV format"));
+    }
+
+    @Test
+    @DisplayName("CSV fields with separators, quotes or line breaks, including a lone carriage return, should be quoted")
+    void csvFieldShouldQuoteSpecialCharacters() {
+        assertEquals("", RetirementStreamController.csvField(null));
+        assertEquals("fancy", RetirementStreamController.csvField("fancy"));
+        assertEquals("\"a,b\"", RetirementStreamController.csvField("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", RetirementStreamController.csvField("say \"hi\""));
+        assertEquals("\"a\nb\"", RetirementStreamController.csvField("a\nb"));
+        assertEquals("\"a\rb\"", RetirementStreamController.csvField("a\rb"));
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.retirementCalculator.audit;
+
+import com.example.retirementCalculator.cache.CachedCalculationResult;
+import com.example.retirementCalculator.domain.RetirementCalculation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationAuditLogTest {
+
+    private static final CachedCalculationResult RESULT = CachedCalculationResult.of(30, 65, "fancy",
+            new BigDecimal("5.5"), new BigDecimal("5000.00"), new BigDecimal("6354611.43"));
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:audit;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS staging");
+        createTable("NUMERIC(1000, 2)");
+    }
+
+    @Test
+    @DisplayName("A projection too large for a bounded NUMERIC column should be written next to normal ones")
+    void shouldWriteVeryLargeFutureValues() {
+        // Arrange: a 100% custom rate from 18 to 100 is far beyond 19 digits
+        CachedCalculationResult huge = CachedCalculationResult.of(18, 100, "fancy",
+                new BigDecimal("100"), new BigDecimal("5000.00"), new BigDecimal("2.9e28").setScale(2));
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 16, 1000,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        // Act
+        auditLog.record(RESULT);
+        auditLog.record(huge);
+        auditLog.record(RESULT);
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+        BigDecimal stored = jdbcTemplate.queryForObject(
+                "SELECT future_value FROM staging.calculation_audit WHERE retirement_age = 100", BigDecimal.class);
+        assertEquals(0, huge.futureValue().compareTo(stored));
+        assertEquals(3, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    @DisplayName("A rejected batch should be retried row by row so only the offending record fails")
+    void shouldRetryRejectedBatchOneByOne() {
+        // Arrange: a table created while future_value was limited to 19 digits
+        createTable("NUMERIC(19, 2)");
+        CachedCalculationResult huge = CachedCalculationResult.of(18, 100, "fancy",
+                new BigDecimal("100"), new BigDecimal("5000.00"), new BigDecimal("2.9e28").setScale(2));
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 16, 1000,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        // Act
+        auditLog.record(RESULT);
+        auditLog.record(huge);
+        auditLog.record(RESULT);
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+        assertEquals(2, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "written").counter().count());
+        assertEquals(1, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Records from concurrent requests should all be written in batches and drained on shutdown")
+    void shouldWriteAllRecordsInBatches() throws Exception {
+        // Arrange
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 4096, 50,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+        ExecutorService requests = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+
+        // Act
+        for (int thread = 0; thread < 4; thread++) {
+            requests.execute(() -> {
+                for (int i = 0; i < 260; i++) {
+                    auditLog.record(RESULT);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        requests.shutdown();
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(1040, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM staging.calculation_audit FETCH FIRST 1 ROWS ONLY");
+        assertEquals("fancy", row.get("LIFESTYLE_TYPE"));
+        assertEquals(0, new BigDecimal("6354611.43").compareTo((BigDecimal) row.get("FUTURE_VALUE")));
+        assertEquals(1040, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "written").counter().count());
+        assertEquals(0, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Records should be dropped and counted when the buffer is full")
+    void shouldDropRecordsWhenBufferIsFull() {
+        // Arrange: nothing is flushed before shutdown since the batch and interval are never reached
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 8, 1000,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        // Act
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (auditLog.record(RESULT)) {
+                accepted++;
+            }
+        }
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(8, accepted);
+        assertEquals(2, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "dropped").counter().count());
+        assertEquals(8, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+        assertFalse(auditLog.record(RESULT));
+    }
+
+    @Test
+    @DisplayName("Bulk records should wait for the writer instead of being dropped when the buffer is full")
+    void recordAllShouldApplyBackpressure() {
+        // Arrange: as above, the writer is never woken by the batch size or the interval
+        CalculationAuditLog auditLog = new CalculationAuditLog(jdbcTemplate, registry, true, 8, 1000,
+                Duration.ofMinutes(1), Duration.ofSeconds(10), Duration.ofSeconds(10));
+        RetirementCalculation calculation = RetirementCalculation.builder()
+                .currentAge(30)
+                .retirementAge(65)
+                .lifestyleType("fancy")
+                .interestRate(new BigDecimal("5.5"))
+                .monthlyDeposit(new BigDecimal("5000.00"))
+                .build();
+
+        // Act
+        int enqueued = auditLog.recordAll(Collections.nCopies(100, calculation));
+        auditLog.shutdown();
+
+        // Assert
+        assertEquals(100, enqueued);
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM staging.calculation_audit", Integer.class));
+        assertEquals(0, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "dropped").counter().count());
+        assertEquals(0, auditLog.recordAll(List.of(calculation)));
+        assertEquals(1, registry.get(CalculationAuditLog.RECORDS).tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("The ring buffer should hand out elements in order and reuse released slots")
+    void shouldDrainRingBufferInOrder() {
+        // Arrange
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(3);
+        List<Integer> drained = new ArrayList<>();
+
+        // Act & Assert
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(2, buffer.drain(drained::add, 2));
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    private void createTable(String futureValueType) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS staging.calculation_audit");
+        jdbcTemplate.execute("CREATE TABLE staging.calculation_audit (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "served_at TIMESTAMP NOT NULL, current_age SMALLINT NOT NULL, retirement_age SMALLINT NOT NULL, "
+                + "lifestyle_type VARCHAR(20) NOT NULL, interest_rate NUMERIC(7, 4) NOT NULL, "
+                + "monthly_deposit NUMERIC(10, 2) NOT NULL, future_value " + futureValueType + " NOT NULL)");
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Redis hits, misses and database fallbacks should be counted and timed per cache")
+    void shouldRecordRedisAndDatabaseTiers() {
+        // Arrange
+        CacheMetrics metrics = new CacheMetrics(registry, "lifestyle");
+
+        // Act
+        metrics.timeRedisGet(() -> "value");
+        metrics.recordHit();
+        metrics.recordMiss();
+        Optional<String> loaded = metrics.timeDatabaseLoad(() -> Optional.of("value"));
+
+        // Assert
+        assertEquals(Optional.of("value"), loaded);
+        assertEquals(1, registry.get(CacheMetrics.GETS).tags("cache", "lifestyle", "tier", "redis", "result", "hit").counter().count());
+        assertEquals(1, registry.get(CacheMetrics.GETS).tags("cache", "lifestyle", "tier", "redis", "result", "miss").counter().count());
+        assertEquals(1, registry.get(CacheMetrics.FALLBACKS).tag("cache", "lifestyle").counter().count());
+        assertEquals(1, registry.get(CacheMetrics.REDIS_GET).tag("cache", "lifestyle").timer().count());
+        assertEquals(1, registry.get(CacheMetrics.DATABASE_LOAD).tag("cache", "lifestyle").timer().count());
+    }
+
+    @Test
+    @DisplayName("Near cache statistics should be exposed with a hit ratio")
+    void shouldBindNearCacheStatistics() {
+        // Arrange
+        NearCache<String> nearCache = new NearCache<>("lifestyle", 10, Duration.ofMinutes(1));
+        CacheMetricsConfig.bind(registry, nearCache);
+
+        // Act
+        nearCache.get("a");
+        nearCache.put("a", "value", nearCache.generation());
+        nearCache.get("a");
+        nearCache.get("a");
+
+        // Assert
+        assertEquals(2, registry.get(CacheMetrics.GETS).tags("tier", "near", "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get(CacheMetrics.GETS).tags("tier", "near", "result", "miss").functionCounter().count());
+        assertEquals(1, registry.get("calculator.cache.size").gauge().value());
+        assertEquals(2.0 / 3, registry.get("calculator.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Health should be down with details while either cache is not loaded")
+    void healthShouldReflectBothCaches() {
+        // Arrange
+        LifestyleCacheService lifestyleCacheService = mock(LifestyleCacheService.class);
+        InterestRateCacheService interestRateCacheService = mock(InterestRateCacheService.class);
+        CacheHealthIndicator healthIndicator = new CacheHealthIndicator(lifestyleCacheService, interestRateCacheService);
+        when(lifestyleCacheService.isCacheHealthy()).thenReturn(true);
+        when(interestRateCacheService.isCacheHealthy()).thenReturn(false, true);
+
+        // Act
+        Health loading = healthIndicator.health();
+        Health loaded = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.DOWN, loading.getStatus());
+        assertEquals("DOWN", loading.getDetails().get("interest_rate"));
+        assertEquals(Status.UP, loaded.getStatus());
+    }
+}
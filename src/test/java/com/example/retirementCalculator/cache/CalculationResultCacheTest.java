@@ -0,0 +1,145 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.exception.LifestyleNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalculationResultCacheTest {
+
+    private static final String KEY = CalculationResultCache.keyOf(30, 65, "fancy", null);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final NearCache<CachedCalculationResult> resultNearCache =
+            new NearCache<>("calculation_result", 16, Duration.ofMinutes(5));
+    private final CachedCalculationResult fancyResult = CachedCalculationResult.of(
+            30, 65, "fancy", new BigDecimal("5.5"), new BigDecimal("5000.00"), new BigDecimal("6354611.43"));
+    private final AtomicInteger calculations = new AtomicInteger();
+
+    private CalculationResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        resultCache = new CalculationResultCache(redisTemplate, resultNearCache);
+    }
+
+    @Test
+    @DisplayName("Equal custom rates should share a key while the cached rate gets its own")
+    void keyShouldNormalizeCustomRate() {
+        assertEquals(CalculationResultCache.keyOf(30, 65, "fancy", new BigDecimal("5.5")),
+                CalculationResultCache.keyOf(30, 65, "fancy", new BigDecimal("5.50")));
+        assertNotEquals(KEY, CalculationResultCache.keyOf(30, 65, "fancy", new BigDecimal("5.5")));
+        assertNotEquals(KEY, CalculationResultCache.keyOf(30, 66, "fancy", null));
+    }
+
+    @Test
+    @DisplayName("Repeated requests should be calculated once and served from the near cache")
+    void shouldCalculateOnce() {
+        // Act
+        CachedCalculationResult first = resultCache.get(KEY, this::calculate);
+        CachedCalculationResult second = resultCache.get(KEY, this::calculate);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, calculations.get());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Failed calculations should propagate and not be cached")
+    void shouldNotCacheFailures() {
+        assertThrows(LifestyleNotFoundException.class, () -> resultCache.get(KEY, () -> {
+            calculations.incrementAndGet();
+            throw new LifestyleNotFoundException("fancy");
+        }));
+        resultCache.get(KEY, this::calculate);
+
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    @DisplayName("Invalidating lifestyles or rates should clear results, other caches should not")
+    void shouldFollowSourceCacheInvalidations() {
+        // Arrange
+        resultCache.get(KEY, this::calculate);
+
+        // Act
+        resultCache.onApplicationEvent(new NearCacheInvalidatedEvent(this, "calculation_result", false));
+        resultCache.get(KEY, this::calculate);
+        resultCache.onApplicationEvent(new NearCacheInvalidatedEvent(this, NearCacheConfig.INTEREST_RATE_NEAR_CACHE, false));
+        resultCache.get(KEY, this::calculate);
+        resultCache.onApplicationEvent(new NearCacheInvalidatedEvent(this, NearCacheConfig.LIFESTYLE_NEAR_CACHE, false));
+        resultCache.get(KEY, this::calculate);
+
+        // Assert
+        assertEquals(3, calculations.get());
+    }
+
+    @Test
+    @DisplayName("With the shared tier enabled, a result written by another node should be reused")
+    void shouldReadSharedTier() {
+        // Arrange
+        ReflectionTestUtils.setField(resultCache, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(fancyResult);
+
+        // Act
+        CachedCalculationResult result = resultCache.get(KEY, this::calculate);
+
+        // Assert
+        assertEquals(fancyResult, result);
+        assertEquals(0, calculations.get());
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("A shared tier that is down should not fail the request")
+    void shouldCalculateWhenSharedTierFails() {
+        // Arrange
+        ReflectionTestUtils.setField(resultCache, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenThrow(new IllegalStateException("Connection refused"));
+        doThrow(new IllegalStateException("Connection refused")).when(valueOperations).set(KEY, fancyResult, Duration.ofMinutes(10));
+
+        // Act & Assert
+        assertEquals(fancyResult, resultCache.get(KEY, this::calculate));
+        assertEquals(1, calculations.get());
+    }
+
+    @Test
+    @DisplayName("Entity tags should change with the result")
+    void etagShouldReflectResult() {
+        CachedCalculationResult same = CachedCalculationResult.of(
+                30, 65, "fancy", new BigDecimal("5.5"), new BigDecimal("5000.00"), new BigDecimal("6354611.43"));
+        CachedCalculationResult changed = CachedCalculationResult.of(
+                30, 65, "fancy", new BigDecimal("6.5"), new BigDecimal("5000.00"), new BigDecimal("7590454.32"));
+
+        assertEquals(fancyResult.etag(), same.etag());
+        assertNotEquals(fancyResult.etag(), changed.etag());
+        assertTrue(fancyResult.etag().matches("\"[0-9a-f]{16}\""));
+    }
+
+    private CachedCalculationResult calculate() {
+        calculations.incrementAndGet();
+        return fancyResult;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CircuitBreaker breaker = new CircuitBreaker("redis", 3, Duration.ofSeconds(5), registry, nanos::get);
+
+    @Test
+    @DisplayName("The breaker should open after the threshold of consecutive failures and then skip the call")
+    void shouldOpenAfterConsecutiveFailures() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertEquals("fallback", breaker.call(() -> fail(calls), () -> "fallback"));
+        }
+        String whileOpen = breaker.call(() -> fail(calls), () -> "fallback");
+
+        // Assert
+        assertEquals("fallback", whileOpen);
+        assertEquals(3, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1.0, registry.get(CircuitBreaker.STATE).tag("state", "open").gauge().value());
+        assertEquals(0.0, registry.get(CircuitBreaker.STATE).tag("state", "closed").gauge().value());
+        assertEquals(3.0, registry.get(CircuitBreaker.CALLS).tag("outcome", "failure").counter().count());
+        assertEquals(1.0, registry.get(CircuitBreaker.CALLS).tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("A success should reset the count of consecutive failures")
+    void shouldResetFailuresOnSuccess() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        breaker.call(() -> fail(calls), () -> "fallback");
+        breaker.call(() -> fail(calls), () -> "fallback");
+        breaker.call(() -> "redis", () -> "fallback");
+        breaker.call(() -> fail(calls), () -> "fallback");
+        breaker.call(() -> fail(calls), () -> "fallback");
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("After the open duration a single probe should be let through and close the breaker on success")
+    void shouldCloseAfterSuccessfulProbe() {
+        // Arrange
+        open();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // Act
+        boolean probe = breaker.tryAcquirePermission();
+        boolean concurrent = breaker.tryAcquirePermission();
+        breaker.onSuccess();
+
+        // Assert
+        assertTrue(probe);
+        assertFalse(concurrent);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals("redis", breaker.call(() -> "redis", () -> "fallback"));
+    }
+
+    @Test
+    @DisplayName("A failed probe should open the breaker for another open duration")
+    void shouldReopenAfterFailedProbe() {
+        // Arrange
+        open();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        breaker.call(() -> fail(calls), () -> "fallback");
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        String beforeNextProbe = breaker.call(() -> "redis", () -> "fallback");
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals("fallback", beforeNextProbe);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("A released probe permission should let the next caller probe")
+    void shouldAllowNewProbeAfterRelease() {
+        // Arrange
+        open();
+        nanos.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertTrue(breaker.tryAcquirePermission());
+
+        // Act
+        breaker.releasePermission();
+
+        // Assert
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(new RuntimeException("Redis error"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static String fail(AtomicInteger calls) {
+        calls.incrementAndGet();
+        throw new RuntimeException("Redis error");
+    }
+}
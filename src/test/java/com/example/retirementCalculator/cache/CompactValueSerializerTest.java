@@ -0,0 +1,102 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactValueSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final CompactValueSerializer serializer = new CompactValueSerializer(json);
+
+    private final CachedLifestyle fancy =
+            new CachedLifestyle(2, "fancy", new BigDecimal("5000.00"), "Luxury lifestyle with premium expenses");
+
+    @Test
+    @DisplayName("Cached records, decimals and strings should survive a round trip")
+    void shouldRoundTripSupportedValues() {
+        List<Object> values = List.of(
+                fancy,
+                new CachedLifestyle(null, "simple", new BigDecimal("2000.00"), null),
+                new CachedLifestyle(Integer.MIN_VALUE, "", new BigDecimal("-0.5"), "ünïcødé"),
+                List.of(fancy, new CachedLifestyle(1, "simple", new BigDecimal("2000.00"), "Basic")),
+                new CachedInterestRate("fancy", new BigDecimal("5.5")),
+                CachedCalculationResult.of(30, 65, "fancy", new BigDecimal("5.5"), new BigDecimal("5000.00"), new BigDecimal("6354611.43")),
+                List.of(new CachedInterestRate("fancy", new BigDecimal("5.5")), new CachedInterestRate("simple", new BigDecimal("6.5"))),
+                new BigDecimal("6.5"),
+                new BigDecimal("123456789012345678901234567890.123456789"),
+                new BigDecimal("1E+5"),
+                "near-cache-name");
+
+        for (Object value : values) {
+            byte[] bytes = serializer.serialize(value);
+
+            assertEquals(CompactValueSerializer.MARKER, bytes[0], () -> "not compact-encoded: " + value);
+            assertEquals(value, serializer.deserialize(bytes));
+        }
+    }
+
+    @Test
+    @DisplayName("A lifestyle should be a fraction of its JSON size")
+    void shouldBeSmallerThanJson() {
+        byte[] compact = serializer.serialize(fancy);
+        byte[] entityJson = json.serialize(fancy.toEntity());
+
+        assertTrue(compact.length * 2 < entityJson.length,
+                () -> "compact " + compact.length + " bytes, JSON " + entityJson.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("Unsupported types should be written and read by the fallback serializer")
+    void shouldFallBackForUnsupportedTypes() {
+        Map<String, Integer> value = new HashMap<>(Map.of("count", 3));
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertArrayEquals(json.serialize(value), bytes);
+        assertEquals(value, serializer.deserialize(bytes));
+        assertEquals(List.of(), serializer.deserialize(serializer.serialize(new ArrayList<>())));
+    }
+
+    @Test
+    @DisplayName("JSON values written before the codec was switched should still be readable")
+    void shouldReadLegacyJson() {
+        LifestyleDepositsEntity entity = fancy.toEntity();
+
+        Object decoded = serializer.deserialize(json.serialize(entity));
+
+        LifestyleDepositsEntity lifestyle = assertInstanceOf(LifestyleDepositsEntity.class, decoded);
+        assertEquals(fancy, CachedLifestyle.of(lifestyle));
+    }
+
+    @Test
+    @DisplayName("Values from another schema version should decode as a cache miss")
+    void shouldTreatOtherVersionsAsMiss() {
+        byte[] bytes = serializer.serialize(fancy);
+        bytes[1] = CompactValueSerializer.VERSION + 1;
+
+        assertNull(serializer.deserialize(bytes));
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    @Test
+    @DisplayName("Truncated values should fail with a serialization exception")
+    void shouldRejectTruncatedValues() {
+        byte[] bytes = serializer.serialize(fancy);
+
+        assertThrows(SerializationException.class,
+                () -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.RetirementCalculatorApplication;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = RetirementCalculatorApplication.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles({"test", EmbeddedCacheConfig.EMBEDDED_PROFILE})
+@DirtiesContext
+class EmbeddedCacheProfileTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private LifestyleCacheService lifestyleCacheService;
+
+    @Autowired
+    private InterestRateCacheService interestRateCacheService;
+
+    @Autowired
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    @Autowired
+    private LifestyleDepositsRepo lifestyleRepository;
+
+    @Test
+    @DisplayName("Should start without any Redis connection or Redis-backed cache service")
+    void shouldNotCreateRedisBeans() {
+        assertTrue(context.getBeansOfType(RedisConnectionFactory.class).isEmpty());
+        assertTrue(context.getBeansOfType(RedisTemplate.class).isEmpty());
+        assertTrue(context.getBeansOfType(RedisConfig.class).isEmpty());
+        assertTrue(context.getBeansOfType(NearCacheInvalidator.class).isEmpty());
+        assertInstanceOf(EmbeddedLifestyleCacheService.class, lifestyleCacheService);
+        assertInstanceOf(EmbeddedInterestRateCacheService.class, interestRateCacheService);
+    }
+
+    @Test
+    @DisplayName("Should serve the interest rates from the CSV and lifestyles from the latest snapshot")
+    void shouldServeSnapshots() {
+        // Arrange
+        lifestyleRepository.save(new LifestyleDepositsEntity(null, "Fancy", new BigDecimal("5000.00"), null));
+
+        // Act
+        CachedLifestyleProfile beforeRefresh = lifestyleProfileCacheService.getProfile("fancy");
+        lifestyleCacheService.refreshCache();
+        CachedLifestyleProfile afterRefresh = lifestyleProfileCacheService.getProfile("FANCY");
+
+        // Assert
+        assertEquals(new BigDecimal("5.5"), interestRateCacheService.getInterestRateByLifestyleType("Fancy").orElseThrow());
+        assertNull(beforeRefresh.lifestyle());
+        assertEquals(new BigDecimal("5000.00"), afterRefresh.lifestyle().monthlyDeposit());
+        assertEquals(new BigDecimal("5.5"), afterRefresh.interestRate());
+        assertTrue(lifestyleCacheService.isCacheHealthy());
+    }
+}
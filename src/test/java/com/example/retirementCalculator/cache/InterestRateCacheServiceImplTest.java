@@ -1,21 +1,30 @@
 package com.example.retirementCalculator.cache;
 
-import com.example.retirementCalculator.exception.CacheException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,12 +40,29 @@ class InterestRateCacheServiceImplTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private NearCache<BigDecimal> interestRateNearCache = new NearCache<>("interest_rate", 16, Duration.ofMinutes(5));
+
+    @Mock
+    private NearCacheInvalidator nearCacheInvalidator;
+
+    @Spy
+    private CacheMetrics interestRateCacheMetrics = new CacheMetrics(new SimpleMeterRegistry(), "interest_rate");
+
+    @Spy
+    private CircuitBreaker redisCircuitBreaker = new CircuitBreaker("redis", 5, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+    @Spy
+    private LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache();
+
     @InjectMocks
     private InterestRateCacheServiceImpl interestRateCacheService;
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         ReflectionTestUtils.setField(interestRateCacheService, "valueOps", valueOperations);
     }
 
@@ -73,43 +99,93 @@ class InterestRateCacheServiceImplTest {
     }
 
     @Test
-    void getInterestRateByLifestyleType_ShouldThrowExceptionOnError() {
+    void getInterestRateByLifestyleType_ShouldServeLastKnownGoodRateOnError() {
         // Arrange
         String lifestyleType = "fancy";
+        BigDecimal lastKnownGoodRate = new BigDecimal("5.5");
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of(lifestyleType, lastKnownGoodRate)));
         when(valueOperations.get(anyString()))
                 .thenThrow(new RuntimeException("Redis error"));
 
-        // Act & Assert
-        assertThrows(CacheException.class, () -> 
-            interestRateCacheService.getInterestRateByLifestyleType(lifestyleType));
+        // Act
+        Optional<BigDecimal> result = interestRateCacheService.getInterestRateByLifestyleType(lifestyleType);
+
+        // Assert
+        assertEquals(Optional.of(lastKnownGoodRate), result);
+        verify(redisCircuitBreaker).onFailure(any(RuntimeException.class));
     }
 
     @Test
     void initializeCache_ShouldLoadDataFromCsv() {
         // Arrange
-        Set<String> keys = Set.of("interest_rate:fancy", "interest_rate:simple", "interest_rate:all");
-        when(redisTemplate.keys("interest_rate:*")).thenReturn(keys);
+        runPipelinedCallbacks();
 
         // Act
         interestRateCacheService.initializeCache();
 
         // Assert
-        verify(valueOperations, atLeastOnce()).set(anyString(), any(), eq(24L), eq(TimeUnit.HOURS));
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).scan(any(ScanOptions.class));
+        verify(valueOperations).set(eq("interest_rate:fancy"), any(), eq(24L), eq(TimeUnit.HOURS));
+        verify(valueOperations).set(eq("interest_rate:simple"), any(), eq(24L), eq(TimeUnit.HOURS));
+        verify(valueOperations).set(eq("interest_rate:all"), any(), eq(24L), eq(TimeUnit.HOURS));
+        ArgumentCaptor<InterestRatesLoadedEvent> event = ArgumentCaptor.forClass(InterestRatesLoadedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(0, new BigDecimal("5.5").compareTo(event.getValue().getInterestRates().get("fancy")));
+        assertEquals(0, new BigDecimal("6.5").compareTo(event.getValue().getInterestRates().get("simple")));
     }
 
     @Test
-    void refreshCache_ShouldClearAndReload() {
+    @SuppressWarnings("unchecked")
+    void refreshCache_ShouldOverwriteThenUnlinkStaleKeys() {
         // Arrange
-        Set<String> keys = Set.of("interest_rate:fancy", "interest_rate:simple", "interest_rate:all");
-        when(redisTemplate.keys("interest_rate:*")).thenReturn(keys);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, true, true, false);
+        when(cursor.next()).thenReturn("interest_rate:fancy", "interest_rate:budget", "interest_rate:simple", "interest_rate:all");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        runPipelinedCallbacks();
 
         // Act
         interestRateCacheService.refreshCache();
 
         // Assert
-        verify(redisTemplate).keys("interest_rate:*");
-        verify(redisTemplate).delete(anyList());
-        verify(valueOperations, atLeastOnce()).set(anyString(), any(), eq(24L), eq(TimeUnit.HOURS));
+        InOrder inOrder = inOrder(valueOperations, redisTemplate);
+        inOrder.verify(valueOperations, atLeastOnce()).set(anyString(), any(), eq(24L), eq(TimeUnit.HOURS));
+        inOrder.verify(redisTemplate).unlink(List.of("interest_rate:budget"));
+        verify(redisTemplate, never()).keys(anyString());
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(cursor).close();
+        verify(nearCacheInvalidator).invalidateEverywhere(interestRateNearCache);
+    }
+
+    /**
+     * Runs pipelined session callbacks against the mocked value operations.
+     */
+    @SuppressWarnings("unchecked")
+    private void runPipelinedCallbacks() {
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        when(operations.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<?>>getArgument(0).execute(operations);
+            return List.of();
+        });
+    }
+
+    @Test
+    void getInterestRateByLifestyleType_ShouldServeRepeatedLookupsFromNearCache() {
+        // Arrange
+        BigDecimal expectedRate = new BigDecimal("6.5");
+        when(valueOperations.get("interest_rate:simple")).thenReturn(expectedRate);
+
+        // Act
+        interestRateCacheService.getInterestRateByLifestyleType("simple");
+        Optional<BigDecimal> result = interestRateCacheService.getInterestRateByLifestyleType("Simple");
+
+        // Assert
+        assertEquals(Optional.of(expectedRate), result);
+        verify(valueOperations, times(1)).get("interest_rate:simple");
+        assertEquals(1, interestRateNearCache.stats().hits());
     }
 
     @Test
@@ -136,4 +212,21 @@ class InterestRateCacheServiceImplTest {
         // Assert
         assertFalse(result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getInterestRateByLifestyleType_ShouldServeRateLastReadFromRedisOnError() {
+        // Arrange
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of("fancy", new BigDecimal("5.0"))));
+        when(valueOperations.get("interest_rate:fancy"))
+                .thenReturn(new BigDecimal("5.5"))
+                .thenThrow(new RuntimeException("Redis error"));
+
+        // Act
+        interestRateCacheService.getInterestRateByLifestyleType("fancy");
+        interestRateNearCache.invalidateAll();
+        Optional<BigDecimal> result = interestRateCacheService.getInterestRateByLifestyleType("fancy");
+
+        // Assert
+        assertEquals(Optional.of(new BigDecimal("5.5")), result);
+    }
+}
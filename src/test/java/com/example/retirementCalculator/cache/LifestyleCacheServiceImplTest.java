@@ -1,254 +1,295 @@
-//package com.example.retirementCalculator.cache;
-//
-//import com.example.retirementCalculator.exception.CacheException;
-//import com.example.retirementCalculator.exception.LifestyleNotFoundException;
-//import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
-//import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
-//import org.junit.jupiter.api.BeforeEach;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.extension.ExtendWith;
-//import org.mockito.InjectMocks;
-//import org.mockito.Mock;
-//import org.mockito.junit.jupiter.MockitoExtension;
-//import org.springframework.boot.test.context.SpringBootTest;
-//import org.springframework.boot.test.context.TestConfiguration;
-//import org.springframework.context.annotation.Bean;
-//import org.springframework.context.annotation.Primary;
-//import org.springframework.data.redis.connection.RedisConnectionFactory;
-//import org.springframework.data.redis.core.RedisTemplate;
-//import org.springframework.data.redis.core.ValueOperations;
-//import org.springframework.test.context.ActiveProfiles;
-//
-//import java.math.BigDecimal;
-//import java.util.Arrays;
-//import java.util.List;
-//import java.util.Optional;
-//import java.util.Set;
-//import java.util.concurrent.TimeUnit;
-//
-//import static org.junit.jupiter.api.Assertions.*;
-//import static org.mockito.ArgumentMatchers.*;
-//import static org.mockito.Mockito.*;
-//
-//@SpringBootTest
-//@ActiveProfiles("test")
-//public class LifestyleCacheServiceImplTest {
-//
-//    @TestConfiguration
-//    public class RedisTestConfig {
-//
-//        @Bean
-//        @Primary
-//        public RedisConnectionFactory redisConnectionFactory() {
-//            return mock(RedisConnectionFactory.class);
-//        }
-//
-//        @Bean
-//        @Primary
-//        public RedisTemplate<String, Object> redisTemplate() {
-//            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-//            redisTemplate.setConnectionFactory(redisConnectionFactory());
-//            return redisTemplate;
-//        }
-//    }
-//
-//    @Mock
-//    private RedisTemplate<String, Object> redisTemplate;
-//
-//    @Mock
-//    private LifestyleDepositsRepo lifestyleRepository;
-//
-//    @Mock
-//    private ValueOperations<String, Object> valueOperations;
-//
-//    @InjectMocks
-//    private LifestyleCacheServiceImpl lifestyleCacheService;
-//
-//    private LifestyleDepositsEntity fancyLifestyle;
-//    private LifestyleDepositsEntity simpleLifestyle;
-//    private List<LifestyleDepositsEntity> allLifestyles;
-//
-//    @BeforeEach
-//    void setUp() {
-//        // Setup test data
-//        fancyLifestyle = new LifestyleDepositsEntity();
-//        fancyLifestyle.setLifestyleType("fancy");
-//        fancyLifestyle.setMonthlyDeposit(BigDecimal.valueOf(5000.0));
-//
-//        simpleLifestyle = new LifestyleDepositsEntity();
-//        simpleLifestyle.setLifestyleType("simple");
-//        simpleLifestyle.setMonthlyDeposit(BigDecimal.valueOf(2000.0));
-//
-//        allLifestyles = Arrays.asList(fancyLifestyle, simpleLifestyle);
-//
-//        // Setup mocks
-//        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-//    }
-//
-//    @Test
-//    void initShouldInitializeValueOpsAndCache() {
-//        // Arrange
-//        when(lifestyleRepository.findAll()).thenReturn(allLifestyles);
-//
-//        // Act
-//        lifestyleCacheService.init();
-//
-//        // Assert
-//        verify(redisTemplate).opsForValue();
-//        verify(lifestyleRepository).findAll();
-//        verify(valueOperations, times(3)).set(anyString(), any(), anyLong(), any(TimeUnit.class));
-//    }
-//
-//    @Test
-//    void getLifestyleByTypeShouldReturnFromCacheWhenAvailable() {
-//        // Arrange
-//        when(valueOperations.get("lifestyle:fancy")).thenReturn(fancyLifestyle);
-//
-//        // Act
-//        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("fancy");
-//
-//        // Assert
-//        assertTrue(result.isPresent());
-//        assertEquals("fancy", result.get().getLifestyleType());
-//        verify(valueOperations).get("lifestyle:fancy");
-//        verify(lifestyleRepository, never()).findByLifestyleTypeIgnoreCase(anyString());
-//    }
-//
-//    @Test
-//    void getLifestyleByTypeShouldFetchFromDatabaseOnCacheMiss() {
-//        // Arrange
-//        when(valueOperations.get("lifestyle:simple")).thenReturn(null);
-//        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("simple")).thenReturn(Optional.of(simpleLifestyle));
-//
-//        // Act
-//        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("simple");
-//
-//        // Assert
-//        assertTrue(result.isPresent());
-//        assertEquals("simple", result.get().getLifestyleType());
-//        verify(valueOperations).get("lifestyle:simple");
-//        verify(lifestyleRepository).findByLifestyleTypeIgnoreCase("simple");
-//        verify(valueOperations).set(eq("lifestyle:simple"), eq(simpleLifestyle), eq(24L), eq(TimeUnit.HOURS));
-//    }
-//
-//    @Test
-//    void getLifestyleByTypeShouldReturnEmptyWhenNotFound() {
-//        // Arrange
-//        when(valueOperations.get("lifestyle:budget")).thenReturn(null);
-//        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("Budget")).thenReturn(Optional.empty());
-//
-//        // Act & Assert
-//        assertThrows(LifestyleNotFoundException.class, () -> {
-//            lifestyleCacheService.getLifestyleByType("Budget");
-//        });
-//    }
-//
-//    @Test
-//    void getAllLifestylesShouldReturnFromCacheWhenAvailable() {
-//        // Arrange
-//        when(valueOperations.get("lifestyle:all")).thenReturn(allLifestyles);
-//
-//        // Act
-//        List<LifestyleDepositsEntity> result = lifestyleCacheService.getAllLifestyles();
-//
-//        // Assert
-//        assertEquals(2, result.size());
-//        verify(valueOperations).get("lifestyle:all");
-//        verify(lifestyleRepository, never()).findAll();
-//    }
-//
-//    @Test
-//    void getAllLifestylesShouldFetchFromDatabaseOnCacheMiss() {
-//        // Arrange
-//        when(valueOperations.get("lifestyle:all")).thenReturn(null);
-//        when(lifestyleRepository.findAll()).thenReturn(allLifestyles);
-//
-//        // Act
-//        List<LifestyleDepositsEntity> result = lifestyleCacheService.getAllLifestyles();
-//
-//        // Assert
-//        assertEquals(2, result.size());
-//        verify(valueOperations).get("lifestyle:all");
-//        verify(lifestyleRepository).findAll();
-//        verify(valueOperations).set(eq("lifestyle:all"), eq(allLifestyles), eq(24L), eq(TimeUnit.HOURS));
-//    }
-//
-//    @Test
-//    void initializeCacheShouldPopulateCache() {
-//        // Arrange
-//        when(lifestyleRepository.findAll()).thenReturn(allLifestyles);
-//
-//        // Act
-//        lifestyleCacheService.initializeCache();
-//
-//        // Assert
-//        verify(lifestyleRepository).findAll();
-//        verify(valueOperations).set(eq("lifestyle:fancy"), eq(fancyLifestyle), eq(24L), eq(TimeUnit.HOURS));
-//        verify(valueOperations).set(eq("lifestyle:simple"), eq(simpleLifestyle), eq(24L), eq(TimeUnit.HOURS));
-//        verify(valueOperations).set(eq("lifestyle:all"), eq(allLifestyles), eq(24L), eq(TimeUnit.HOURS));
-//    }
-//
-//    @Test
-//    void refreshCacheShouldClearAndReload() {
-//        // Arrange
-//        Set<String> keys = Set.of("lifestyle:fancy", "lifestyle:simple", "lifestyle:all");
-//        when(redisTemplate.keys("lifestyle:*")).thenReturn(keys);
-//        when(lifestyleRepository.findAll()).thenReturn(allLifestyles);
-//
-//        // Act
-//        lifestyleCacheService.refreshCache();
-//
-//        // Assert
-//        verify(redisTemplate).keys("lifestyle:*");
-//        verify(redisTemplate).delete(anyList());
-//        verify(lifestyleRepository).findAll();
-//        verify(valueOperations, times(3)).set(anyString(), any(), eq(24L), eq(TimeUnit.HOURS));
-//    }
-//
-//    @Test
-//    void isCacheHealthyShouldReturnTrueWhenAllKeysExist() {
-//        // Arrange
-//        when(redisTemplate.hasKey("lifestyle:all")).thenReturn(true);
-//
-//        // Act
-//        boolean result = lifestyleCacheService.isCacheHealthy();
-//
-//        // Assert
-//        assertTrue(result);
-//        verify(redisTemplate).hasKey("lifestyle:all");
-//    }
-//
-//    @Test
-//    void isCacheHealthyShouldReturnFalseWhenExceptionOccurs() {
-//        // Arrange
-//        when(redisTemplate.hasKey(anyString())).thenThrow(new RuntimeException("Redis connection failed"));
-//
-//        // Act
-//        boolean result = lifestyleCacheService.isCacheHealthy();
-//
-//        // Assert
-//        assertFalse(result);
-//    }
-//
-//    @Test
-//    void initializeCacheShouldHandleEmptyRepositoryResult() {
-//        // Arrange
-//        when(lifestyleRepository.findAll()).thenReturn(List.of());
-//
-//        // Act
-//        lifestyleCacheService.initializeCache();
-//
-//        // Assert
-//        verify(lifestyleRepository).findAll();
-//        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
-//    }
-//
-//    @Test
-//    void initializeCacheShouldPropagateExceptions() {
-//        // Arrange
-//        when(lifestyleRepository.findAll()).thenThrow(new RuntimeException("Database error"));
-//
-//        // Act & Assert
-//        assertThrows(CacheException.class, () -> lifestyleCacheService.initializeCache());
-//    }
-//}
\ No newline at end of file
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.exception.CacheException;
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import com.example.retirementCalculator.persistance.repositories.LifestyleDepositsRepo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LifestyleCacheServiceImplTest {
+
+    private static final String FANCY_KEY = "lifestyle:fancy";
+    private static final String FANCY_LOCK_KEY = "lock:lifestyle:fancy";
+    private static final String UNKNOWN_KEY = "lifestyle:unknown";
+    private static final String UNKNOWN_LOCK_KEY = "lock:lifestyle:unknown";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private LifestyleDepositsRepo lifestyleRepository;
+
+    @Spy
+    private NearCache<CachedLifestyle> lifestyleNearCache = new NearCache<>("lifestyle", 16, Duration.ofMinutes(5));
+
+    @Mock
+    private NearCacheInvalidator nearCacheInvalidator;
+
+    @Spy
+    private CacheMetrics lifestyleCacheMetrics = new CacheMetrics(new SimpleMeterRegistry(), "lifestyle");
+
+    @Spy
+    private CircuitBreaker redisCircuitBreaker = new CircuitBreaker("redis", 2, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+    @Spy
+    private LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache();
+
+    @InjectMocks
+    private LifestyleCacheServiceImpl lifestyleCacheService;
+
+    private final LifestyleDepositsEntity fancy = LifestyleDepositsEntity.builder()
+            .id(1)
+            .lifestyleType("fancy")
+            .monthlyDeposit(new BigDecimal("5000.00"))
+            .description("Fancy lifestyle")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(lifestyleCacheService, "valueOps", valueOperations);
+        ReflectionTestUtils.setField(lifestyleCacheService, "cacheTtl", new JitteredTtl(Duration.ofHours(24), 0));
+    }
+
+    @Test
+    @DisplayName("A failing database should fail the lookup without opening the Redis breaker")
+    void databaseOutageShouldNotOpenRedisBreaker() {
+        // Arrange
+        when(valueOperations.get(FANCY_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(FANCY_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("fancy"))
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CacheException.class, () -> lifestyleCacheService.getLifestyleByType("fancy"));
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, redisCircuitBreaker.getState());
+        verify(valueOperations, times(3)).get(FANCY_KEY);
+        verify(lifestyleRepository, times(3)).findByLifestyleTypeIgnoreCase("fancy");
+        verify(redisTemplate, times(3)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(FANCY_LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("A lifestyle loaded from the database should be written to Redis and the load lock released")
+    void cacheMissShouldLoadFromDatabaseAndReleaseLock() {
+        // Arrange
+        when(valueOperations.get(FANCY_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(FANCY_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("fancy")).thenReturn(Optional.of(fancy));
+
+        // Act
+        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("fancy");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(new BigDecimal("5000.00"), result.get().getMonthlyDeposit());
+        verify(valueOperations).set(eq(FANCY_KEY), eq(CachedLifestyle.of(fancy)), any(Duration.class));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(FANCY_LOCK_KEY)), anyString());
+        assertEquals(CachedLifestyle.of(fancy), lastKnownGoodCache.getLifestyle("fancy"));
+    }
+
+    @Test
+    @DisplayName("Waiting for the lock holder should serve the lifestyle it writes without querying the database")
+    void lockContentionShouldServeLifestyleLoadedByHolder() {
+        // Arrange
+        when(valueOperations.get(FANCY_KEY)).thenReturn(null, CachedLifestyle.of(fancy));
+        when(valueOperations.setIfAbsent(eq(FANCY_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // Act
+        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("fancy");
+
+        // Assert
+        assertEquals("fancy", result.orElseThrow().getLifestyleType());
+        verifyNoInteractions(lifestyleRepository);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("A lock holder that does not write the lifestyle in time should leave the caller to load it without the lock")
+    void awaitTimeoutShouldLoadFromDatabaseWithoutLock() {
+        // Arrange
+        ReflectionTestUtils.setField(lifestyleCacheService, "loadLockWait", Duration.ofMillis(200));
+        when(valueOperations.get(FANCY_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(FANCY_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisTemplate.hasKey(FANCY_LOCK_KEY)).thenReturn(true);
+        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("fancy")).thenReturn(Optional.of(fancy));
+
+        // Act
+        long startNanos = System.nanoTime();
+        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("fancy");
+        long waitedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        // Assert
+        assertEquals("fancy", result.orElseThrow().getLifestyleType());
+        assertTrue(waitedMillis >= 200, "gave up after " + waitedMillis + " ms");
+        verify(valueOperations).set(eq(FANCY_KEY), eq(CachedLifestyle.of(fancy)), any(Duration.class));
+        // The lock belongs to the other node
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("A lifestyle type missing from the database should be remembered in Redis")
+    void unknownTypeShouldBeRememberedAsMissing() {
+        // Arrange
+        when(valueOperations.get(UNKNOWN_KEY)).thenReturn(null);
+        when(valueOperations.setIfAbsent(eq(UNKNOWN_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(lifestyleRepository.findByLifestyleTypeIgnoreCase("unknown")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("unknown");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(valueOperations).setIfAbsent(UNKNOWN_KEY, LifestyleCacheServiceImpl.MISSING_LIFESTYLE, Duration.ofSeconds(30));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(UNKNOWN_LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("A remembered missing type should be answered by a single Redis read")
+    void missingMarkerShouldSkipLockAndDatabase() {
+        // Arrange
+        when(valueOperations.get(UNKNOWN_KEY)).thenReturn(LifestyleCacheServiceImpl.MISSING_LIFESTYLE);
+
+        // Act
+        Optional<LifestyleDepositsEntity> first = lifestyleCacheService.getLifestyleByType("unknown");
+        Optional<LifestyleDepositsEntity> second = lifestyleCacheService.getLifestyleByType("Unknown");
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(valueOperations, times(2)).get(UNKNOWN_KEY);
+        verify(valueOperations, never()).setIfAbsent(anyString(), any(), any(Duration.class));
+        verifyNoInteractions(lifestyleRepository);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Waiting for the lock holder should stop as soon as it remembers the type as missing")
+    void lockContentionShouldServeMissingMarkerOfHolder() {
+        // Arrange
+        when(valueOperations.get(UNKNOWN_KEY)).thenReturn(null, LifestyleCacheServiceImpl.MISSING_LIFESTYLE);
+        when(valueOperations.setIfAbsent(eq(UNKNOWN_LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // Act
+        Optional<LifestyleDepositsEntity> result = lifestyleCacheService.getLifestyleByType("unknown");
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(lifestyleRepository);
+    }
+
+    @Test
+    @DisplayName("Releasing an expired load lock should not delete the lock another node has taken since")
+    void staleTokenShouldNotReleaseLockOfAnotherNode() throws IOException {
+        // Arrange
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        RedisServer server = RedisServer.newRedisServer().port(port).build();
+        server.start();
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        try {
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+            RedisTemplate<String, Object> template = new RedisConfig().redisTemplate(connectionFactory);
+            template.afterPropertiesSet();
+            LifestyleCacheServiceImpl service = new LifestyleCacheServiceImpl(template, lifestyleRepository, lifestyleNearCache,
+                    nearCacheInvalidator, lifestyleCacheMetrics, redisCircuitBreaker, lastKnownGoodCache);
+            ReflectionTestUtils.setField(service, "valueOps", template.opsForValue());
+            ReflectionTestUtils.setField(service, "cacheTtl", new JitteredTtl(Duration.ofHours(24), 0));
+            when(lifestyleRepository.findByLifestyleTypeIgnoreCase("fancy")).thenAnswer(invocation -> {
+                // The caller's lock expires during a slow load and another node takes it
+                assertNotNull(template.opsForValue().get(FANCY_LOCK_KEY));
+                template.opsForValue().set(FANCY_LOCK_KEY, "other-node");
+                return Optional.of(fancy);
+            });
+
+            // Act
+            Optional<LifestyleDepositsEntity> result = service.getLifestyleByType("fancy");
+
+            // Assert
+            assertEquals("fancy", result.orElseThrow().getLifestyleType());
+            assertEquals("other-node", template.opsForValue().get(FANCY_LOCK_KEY));
+            assertEquals(CachedLifestyle.of(fancy), template.opsForValue().get(FANCY_KEY));
+        } finally {
+            connectionFactory.destroy();
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("A failing Redis should open the breaker and serve the last known good lifestyle")
+    void redisOutageShouldOpenBreakerAndServeLastKnownGood() {
+        // Arrange
+        lastKnownGoodCache.putLifestyle(CachedLifestyle.of(fancy));
+        when(valueOperations.get(FANCY_KEY)).thenThrow(new RedisConnectionFailureException("Redis down"));
+
+        // Act
+        Optional<LifestyleDepositsEntity> first = lifestyleCacheService.getLifestyleByType("fancy");
+        lifestyleNearCache.invalidateAll();
+        Optional<LifestyleDepositsEntity> second = lifestyleCacheService.getLifestyleByType("fancy");
+        lifestyleNearCache.invalidateAll();
+        Optional<LifestyleDepositsEntity> whileOpen = lifestyleCacheService.getLifestyleByType("fancy");
+
+        // Assert
+        assertEquals("fancy", first.orElseThrow().getLifestyleType());
+        assertEquals("fancy", second.orElseThrow().getLifestyleType());
+        assertEquals("fancy", whileOpen.orElseThrow().getLifestyleType());
+        assertEquals(CircuitBreaker.State.OPEN, redisCircuitBreaker.getState());
+        verify(valueOperations, times(2)).get(FANCY_KEY);
+        verifyNoInteractions(lifestyleRepository);
+    }
+
+    @Test
+    @DisplayName("A failing database should fail the list of all lifestyles without opening the Redis breaker")
+    void databaseOutageShouldNotOpenRedisBreakerForAllLifestyles() {
+        // Arrange
+        when(valueOperations.get("lifestyle:all")).thenReturn(null);
+        when(lifestyleRepository.findAll()).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CacheException.class, () -> lifestyleCacheService.getAllLifestyles());
+        }
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, redisCircuitBreaker.getState());
+        verify(valueOperations, times(3)).get("lifestyle:all");
+    }
+}
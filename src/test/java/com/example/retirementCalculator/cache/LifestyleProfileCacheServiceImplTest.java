@@ -0,0 +1,155 @@
+package com.example.retirementCalculator.cache;
+
+import com.example.retirementCalculator.persistance.entities.LifestyleDepositsEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LifestyleProfileCacheServiceImplTest {
+
+    private static final List<String> FANCY_KEYS = List.of("lifestyle:fancy", "interest_rate:fancy");
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private LifestyleCacheService lifestyleCacheService;
+
+    private final NearCache<CachedLifestyle> lifestyleNearCache = new NearCache<>("lifestyle", 16, Duration.ofMinutes(5));
+    private final NearCache<BigDecimal> interestRateNearCache = new NearCache<>("interest_rate", 16, Duration.ofMinutes(5));
+    private final CachedLifestyle fancy = new CachedLifestyle(2, "fancy", new BigDecimal("5000.00"), null);
+    private final LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache();
+
+    private LifestyleProfileCacheServiceImpl profileCacheService;
+
+    @BeforeEach
+    void setUp() {
+        profileCacheService = new LifestyleProfileCacheServiceImpl(
+                redisTemplate, lifestyleCacheService, lifestyleNearCache, interestRateNearCache,
+                new CacheMetrics(new SimpleMeterRegistry(), "lifestyle_profile"),
+                new CircuitBreaker("redis", 1, Duration.ofMinutes(1), new SimpleMeterRegistry()), lastKnownGoodCache);
+    }
+
+    @Test
+    @DisplayName("Lifestyle and rate should be read with one MGET and then served from the near caches")
+    void shouldReadBothKeysInOneRoundTrip() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(FANCY_KEYS)).thenReturn(List.of(fancy, new BigDecimal("5.5")));
+
+        // Act
+        CachedLifestyleProfile first = profileCacheService.getProfile("Fancy");
+        CachedLifestyleProfile second = profileCacheService.getProfile("fancy");
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), first);
+        assertEquals(first, second);
+        verify(valueOperations, times(1)).multiGet(anyCollection());
+        verifyNoMoreInteractions(valueOperations);
+        verifyNoInteractions(lifestyleCacheService);
+    }
+
+    @Test
+    @DisplayName("A lifestyle missing from Redis should be loaded through the lifestyle cache service")
+    void shouldDelegateLifestyleMisses() {
+        // Arrange
+        LifestyleDepositsEntity entity = fancy.toEntity();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(FANCY_KEYS)).thenReturn(Arrays.asList(null, new BigDecimal("5.5")));
+        when(lifestyleCacheService.getLifestyleByType("fancy")).thenReturn(Optional.of(entity));
+
+        // Act
+        CachedLifestyleProfile profile = profileCacheService.getProfile("fancy");
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), profile);
+        verify(lifestyleCacheService).getLifestyleByType("fancy");
+    }
+
+    @Test
+    @DisplayName("Unknown lifestyles should yield an empty profile")
+    void shouldReturnEmptyProfileForUnknownLifestyle() {
+        // Arrange
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("lifestyle:unknown", "interest_rate:unknown"))).thenReturn(Arrays.asList(null, null));
+        when(lifestyleCacheService.getLifestyleByType("unknown")).thenReturn(Optional.empty());
+
+        // Act
+        CachedLifestyleProfile profile = profileCacheService.getProfile("unknown");
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(null, null), profile);
+        assertEquals(0, lifestyleNearCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Redis failures should be answered from the last known good values without calling Redis again")
+    void shouldServeLastKnownGoodValuesWhileRedisFails() {
+        // Arrange
+        lastKnownGoodCache.putLifestyle(fancy);
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of("fancy", new BigDecimal("5.5"))));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyCollection())).thenThrow(new RuntimeException("Redis error"));
+
+        // Act
+        CachedLifestyleProfile first = profileCacheService.getProfile("fancy");
+        lifestyleNearCache.invalidateAll();
+        interestRateNearCache.invalidateAll();
+        CachedLifestyleProfile second = profileCacheService.getProfile("fancy");
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), first);
+        assertEquals(first, second);
+        verify(valueOperations, times(1)).multiGet(anyCollection());
+        verifyNoInteractions(lifestyleCacheService);
+    }
+
+    @Test
+    @DisplayName("Values refreshed by another node and read from Redis should be served once Redis fails")
+    void shouldServeValuesReadAfterRemoteRefreshWhileBreakerIsOpen() {
+        // Arrange
+        CachedLifestyle beforeRefresh = new CachedLifestyle(2, "fancy", new BigDecimal("4000.00"), null);
+        lastKnownGoodCache.putLifestyle(beforeRefresh);
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of("fancy", new BigDecimal("5.0"))));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(FANCY_KEYS))
+                .thenReturn(List.of(fancy, new BigDecimal("5.5")))
+                .thenThrow(new RuntimeException("Redis error"));
+
+        // Act
+        CachedLifestyleProfile fromRedis = profileCacheService.getProfile("fancy");
+        lifestyleNearCache.invalidateAll();
+        interestRateNearCache.invalidateAll();
+        CachedLifestyleProfile redisFailing = profileCacheService.getProfile("fancy");
+        CachedLifestyleProfile breakerOpen = profileCacheService.getProfile("fancy");
+
+        // Assert
+        CachedLifestyleProfile refreshed = new CachedLifestyleProfile(fancy, new BigDecimal("5.5"));
+        assertEquals(refreshed, fromRedis);
+        assertEquals(refreshed, redisFailing);
+        assertEquals(refreshed, breakerOpen);
+        verify(valueOperations, times(2)).multiGet(anyCollection());
+        verifyNoInteractions(lifestyleCacheService);
+    }
+}
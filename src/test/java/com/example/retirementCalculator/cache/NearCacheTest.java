@@ -0,0 +1,111 @@
+package com.example.retirementCalculator.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Stored values should be returned and counted as hits")
+    void shouldReturnStoredValue() {
+        NearCache<String> cache = new NearCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+
+        assertNull(cache.get("a"));
+        cache.put("a", "value", cache.generation());
+
+        assertEquals("value", cache.get("a"));
+        assertEquals(new NearCache.Stats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    @DisplayName("Entries should expire after the TTL")
+    void shouldExpireEntries() {
+        NearCache<String> cache = new NearCache<>("test", 10, Duration.ofSeconds(30), clock::get);
+        cache.put("a", "value", cache.generation());
+
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        assertEquals("value", cache.get("a"));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("The oldest entry should be evicted when the cache is full")
+    void shouldEvictOldestEntryWhenFull() {
+        NearCache<String> cache = new NearCache<>("test", 2, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "1", cache.generation());
+        clock.incrementAndGet();
+        cache.put("b", "2", cache.generation());
+        clock.incrementAndGet();
+        cache.put("c", "3", cache.generation());
+
+        assertNull(cache.get("a"));
+        assertEquals("2", cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Overwriting a key should make it the newest entry")
+    void shouldTreatOverwrittenEntryAsNewest() {
+        NearCache<String> cache = new NearCache<>("test", 2, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "1", cache.generation());
+        cache.put("b", "2", cache.generation());
+        cache.put("a", "1'", cache.generation());
+        cache.put("c", "3", cache.generation());
+
+        assertEquals("1'", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("The size should stay bounded while many distinct keys expire and are replaced")
+    void shouldStayBoundedUnderChurn() {
+        NearCache<String> cache = new NearCache<>("test", 100, Duration.ofSeconds(1), clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("key-" + i, "value", cache.generation());
+            cache.get("key-" + (i - 50));
+            clock.addAndGet(Duration.ofMillis(50).toNanos());
+        }
+
+        assertTrue(cache.stats().size() <= 100, "size " + cache.stats().size());
+        assertEquals("value", cache.get("key-9999"));
+    }
+
+    @Test
+    @DisplayName("Values loaded before an invalidation should not be cached")
+    void shouldDropValuesLoadedBeforeInvalidation() {
+        NearCache<String> cache = new NearCache<>("test", 10, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "old", cache.generation());
+        long generation = cache.generation();
+
+        cache.invalidateAll();
+        cache.put("b", "stale", generation);
+
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    @DisplayName("A zero-sized cache should never store values")
+    void zeroSizedCacheShouldStoreNothing() {
+        NearCache<String> cache = new NearCache<>("test", 0, Duration.ofMinutes(1), clock::get);
+        cache.put("a", "value", cache.generation());
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.stats().size());
+    }
+}
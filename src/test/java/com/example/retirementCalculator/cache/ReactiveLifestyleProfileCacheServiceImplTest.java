@@ -0,0 +1,173 @@
+package com.example.retirementCalculator.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLifestyleProfileCacheServiceImplTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private LifestyleCacheService lifestyleCacheService;
+
+    private final NearCache<CachedLifestyle> lifestyleNearCache = new NearCache<>("lifestyle", 16, Duration.ofMinutes(5));
+    private final NearCache<BigDecimal> interestRateNearCache = new NearCache<>("interest_rate", 16, Duration.ofMinutes(5));
+    private final CachedLifestyle fancy = new CachedLifestyle(2, "fancy", new BigDecimal("5000.00"), null);
+    private final LastKnownGoodCache lastKnownGoodCache = new LastKnownGoodCache();
+
+    private ReactiveLifestyleProfileCacheServiceImpl profileCacheService;
+
+    @BeforeEach
+    void setUp() {
+        profileCacheService = new ReactiveLifestyleProfileCacheServiceImpl(
+                reactiveRedisTemplate, lifestyleCacheService, lifestyleNearCache, interestRateNearCache,
+                new CircuitBreaker("redis", 1, Duration.ofMinutes(1), new SimpleMeterRegistry()), lastKnownGoodCache);
+        profileCacheService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        profileCacheService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Lifestyle and rate should both be requested before either answers, then served from the near caches")
+    void shouldLookUpBothKeysConcurrently() throws Exception {
+        // Arrange
+        Sinks.One<Object> lifestyleReply = Sinks.one();
+        Sinks.One<Object> rateReply = Sinks.one();
+        AtomicInteger pendingLookups = new AtomicInteger();
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("lifestyle:fancy"))
+                .thenReturn(lifestyleReply.asMono().doOnSubscribe(s -> pendingLookups.incrementAndGet()));
+        when(valueOperations.get("interest_rate:fancy"))
+                .thenReturn(rateReply.asMono().doOnSubscribe(s -> pendingLookups.incrementAndGet()));
+
+        // Act
+        CompletableFuture<CachedLifestyleProfile> first = profileCacheService.getProfile("Fancy").toFuture();
+        int lookupsBeforeAnyReply = pendingLookups.get();
+        lifestyleReply.tryEmitValue(fancy);
+        rateReply.tryEmitValue(new BigDecimal("5.5"));
+        CachedLifestyleProfile second = profileCacheService.getProfile("fancy").block();
+
+        // Assert
+        assertEquals(2, lookupsBeforeAnyReply);
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), first.get(5, TimeUnit.SECONDS));
+        assertEquals(first.get(), second);
+        verify(valueOperations, times(2)).get(anyString());
+        verifyNoInteractions(lifestyleCacheService);
+    }
+
+    @Test
+    @DisplayName("A lifestyle missing from Redis should be loaded off the caller's thread")
+    void shouldLoadMissingLifestyleOnFallbackScheduler() {
+        // Arrange
+        AtomicReference<String> loadingThread = new AtomicReference<>();
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("lifestyle:fancy")).thenReturn(Mono.empty());
+        when(valueOperations.get("interest_rate:fancy")).thenReturn(Mono.just(new BigDecimal("5.5")));
+        when(lifestyleCacheService.getLifestyleByType("fancy")).thenAnswer(invocation -> {
+            loadingThread.set(Thread.currentThread().getName());
+            return Optional.of(fancy.toEntity());
+        });
+
+        // Act
+        CachedLifestyleProfile profile = profileCacheService.getProfile("fancy").block();
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), profile);
+        assertTrue(loadingThread.get().startsWith("lifestyle-db-fallback"), loadingThread.get());
+    }
+
+    @Test
+    @DisplayName("Unknown lifestyles should yield an empty profile")
+    void shouldReturnEmptyProfileForUnknownLifestyle() {
+        // Arrange
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(Mono.empty());
+        when(lifestyleCacheService.getLifestyleByType("unknown")).thenReturn(Optional.empty());
+
+        // Act
+        CachedLifestyleProfile profile = profileCacheService.getProfile("unknown").block();
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(null, null), profile);
+        assertEquals(0, lifestyleNearCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Redis failures should be answered from the last known good values without calling Redis again")
+    void shouldServeLastKnownGoodValuesWhileRedisFails() {
+        // Arrange
+        lastKnownGoodCache.putLifestyle(fancy);
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of("fancy", new BigDecimal("5.5"))));
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn(Mono.error(new RuntimeException("Redis error")));
+
+        // Act
+        CachedLifestyleProfile first = profileCacheService.getProfile("fancy").block();
+        CachedLifestyleProfile second = profileCacheService.getProfile("fancy").block();
+
+        // Assert
+        assertEquals(new CachedLifestyleProfile(fancy, new BigDecimal("5.5")), first);
+        assertEquals(first, second);
+        verify(valueOperations, times(1)).get(anyString());
+        verifyNoInteractions(lifestyleCacheService);
+    }
+
+    @Test
+    @DisplayName("Values refreshed by another node and read from Redis should be served once Redis fails")
+    void shouldServeValuesReadAfterRemoteRefreshWhileBreakerIsOpen() {
+        // Arrange
+        CachedLifestyle beforeRefresh = new CachedLifestyle(2, "fancy", new BigDecimal("4000.00"), null);
+        lastKnownGoodCache.putLifestyle(beforeRefresh);
+        lastKnownGoodCache.onInterestRatesLoaded(new InterestRatesLoadedEvent(this, Map.of("fancy", new BigDecimal("5.0"))));
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("lifestyle:fancy"))
+                .thenReturn(Mono.just(fancy))
+                .thenReturn(Mono.error(new RuntimeException("Redis error")));
+        when(valueOperations.get("interest_rate:fancy")).thenReturn(Mono.just(new BigDecimal("5.5")));
+
+        // Act
+        CachedLifestyleProfile fromRedis = profileCacheService.getProfile("fancy").block();
+        lifestyleNearCache.invalidateAll();
+        interestRateNearCache.invalidateAll();
+        CachedLifestyleProfile redisFailing = profileCacheService.getProfile("fancy").block();
+        CachedLifestyleProfile breakerOpen = profileCacheService.getProfile("fancy").block();
+
+        // Assert
+        CachedLifestyleProfile refreshed = new CachedLifestyleProfile(fancy, new BigDecimal("5.5"));
+        assertEquals(refreshed, fromRedis);
+        assertEquals(refreshed, redisFailing);
+        assertEquals(refreshed, breakerOpen);
+        verifyNoInteractions(lifestyleCacheService);
+    }
+}
@@ -3,38 +3,45 @@ package com.example.retirementCalculator.cache;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 public class RedisConfigTest {
 
     private RedisConfig redisConfig;
+    private RedisProperties redisProperties;
 
     @BeforeEach
     void setUp() throws Exception {
         redisConfig = new RedisConfig();
 
-        // Inject test property values using reflection (or use @TestPropertySource if Spring context is used)
-        Field hostField = RedisConfig.class.getDeclaredField("redisHost");
-        hostField.setAccessible(true);
-        hostField.set(redisConfig, "test-host");
-
-        Field portField = RedisConfig.class.getDeclaredField("redisPort");
-        portField.setAccessible(true);
-        portField.set(redisConfig, 1234);
+        redisProperties = new RedisProperties();
+        redisProperties.setHost("test-host");
+        redisProperties.setPort(1234);
     }
 
     @Test
     void testRedisConnectionFactory() {
-        RedisConnectionFactory factory = redisConfig.redisConnectionFactory();
+        RedisConnectionFactory factory = redisConfig.redisConnectionFactory(redisProperties);
         assertNotNull(factory);
         assertTrue(factory instanceof LettuceConnectionFactory);
 
@@ -47,6 +54,70 @@ public class RedisConfigTest {
         assertEquals(1234, standaloneConfig.getPort());
     }
 
+    @Test
+    void testRedisConnectionFactoryDefaultsToTightTimeoutsWithoutPool() {
+        LettuceClientConfiguration clientConfig = redisConfig.clientConfiguration(redisProperties);
+
+        assertEquals(RedisConfig.DEFAULT_COMMAND_TIMEOUT, clientConfig.getCommandTimeout());
+        assertEquals(RedisConfig.DEFAULT_CONNECT_TIMEOUT,
+                clientConfig.getClientOptions().orElseThrow().getSocketOptions().getConnectTimeout());
+        // No read preference, so a standalone connection does not discover replicas
+        assertEquals(Optional.empty(), clientConfig.getReadFrom());
+        assertFalse(clientConfig instanceof LettucePoolingClientConfiguration);
+    }
+
+    @Test
+    void testRedisConnectionFactoryAppliesTimeoutsPoolAndReadFrom() throws Exception {
+        redisProperties.setTimeout(Duration.ofMillis(100));
+        redisProperties.setConnectTimeout(Duration.ofMillis(500));
+        redisProperties.getLettuce().getPool().setEnabled(true);
+        redisProperties.getLettuce().getPool().setMaxActive(16);
+        redisProperties.getLettuce().getPool().setMaxWait(Duration.ofMillis(50));
+        Field readFromField = RedisConfig.class.getDeclaredField("readFrom");
+        readFromField.setAccessible(true);
+        readFromField.set(redisConfig, "replicaPreferred");
+
+        LettuceClientConfiguration clientConfig = redisConfig.clientConfiguration(redisProperties);
+
+        assertEquals(Duration.ofMillis(100), clientConfig.getCommandTimeout());
+        assertEquals(Duration.ofMillis(500),
+                clientConfig.getClientOptions().orElseThrow().getSocketOptions().getConnectTimeout());
+        assertEquals(Optional.of(ReadFrom.REPLICA_PREFERRED), clientConfig.getReadFrom());
+        GenericObjectPoolConfig<?> poolConfig = ((LettucePoolingClientConfiguration) clientConfig).getPoolConfig();
+        assertEquals(16, poolConfig.getMaxTotal());
+        assertEquals(Duration.ofMillis(50), poolConfig.getMaxWaitDuration());
+    }
+
+    @Test
+    void testRedisConnectionFactoryForSentinel() {
+        redisProperties.setSentinel(new RedisProperties.Sentinel());
+        redisProperties.getSentinel().setMaster("cache");
+        redisProperties.getSentinel().setNodes(List.of("sentinel-1:26379", "sentinel-2:26379"));
+
+        LettuceConnectionFactory factory = redisConfig.redisConnectionFactory(redisProperties);
+
+        RedisSentinelConfiguration sentinelConfig = factory.getSentinelConfiguration();
+        assertNotNull(sentinelConfig);
+        assertEquals("cache", sentinelConfig.getMaster().getName());
+        assertEquals(2, sentinelConfig.getSentinels().size());
+        assertNull(factory.getClusterConfiguration());
+    }
+
+    @Test
+    void testRedisConnectionFactoryForCluster() {
+        redisProperties.setCluster(new RedisProperties.Cluster());
+        redisProperties.getCluster().setNodes(List.of("node-1:6379", "node-2:6379", "node-3:6379"));
+        redisProperties.getCluster().setMaxRedirects(3);
+
+        LettuceConnectionFactory factory = redisConfig.redisConnectionFactory(redisProperties);
+
+        RedisClusterConfiguration clusterConfig = factory.getClusterConfiguration();
+        assertNotNull(clusterConfig);
+        assertEquals(3, clusterConfig.getClusterNodes().size());
+        assertEquals(3, clusterConfig.getMaxRedirects());
+        assertInstanceOf(ClusterClientOptions.class, factory.getClientConfiguration().getClientOptions().orElseThrow());
+    }
+
     @Test
     void testRedisTemplateSerializers() {
         RedisConnectionFactory mockFactory = mock(RedisConnectionFactory.class);
@@ -55,6 +126,18 @@ public class RedisConfigTest {
         assertNotNull(template);
         assertEquals(StringRedisSerializer.class, template.getKeySerializer().getClass());
         assertEquals(StringRedisSerializer.class, template.getHashKeySerializer().getClass());
+        assertEquals(CompactValueSerializer.class, template.getValueSerializer().getClass());
+        assertEquals(CompactValueSerializer.class, template.getHashValueSerializer().getClass());
+    }
+
+    @Test
+    void testRedisTemplateJsonCodec() throws Exception {
+        Field codecField = RedisConfig.class.getDeclaredField("cacheCodec");
+        codecField.setAccessible(true);
+        codecField.set(redisConfig, "json");
+
+        RedisTemplate<String, Object> template = redisConfig.redisTemplate(mock(RedisConnectionFactory.class));
+
         assertEquals(GenericJackson2JsonRedisSerializer.class, template.getValueSerializer().getClass());
         assertEquals(GenericJackson2JsonRedisSerializer.class, template.getHashValueSerializer().getClass());
     }
@@ -0,0 +1,179 @@
+package com.example.retirementCalculator.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.Redis;
+import redis.embedded.RedisSentinel;
+import redis.embedded.RedisServer;
+import redis.embedded.RedisShardedCluster;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Connects {@link RedisConfig}'s connection factory to locally started Redis processes in
+ * each supported topology.
+ */
+class RedisTopologyTest {
+
+    private final List<Redis> processes = new ArrayList<>();
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        factories.forEach(LettuceConnectionFactory::destroy);
+        for (Redis process : processes.reversed()) {
+            process.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Reads should be served by a replica of the configured primary when reading from replicas")
+    void shouldReadFromReplica() throws Exception {
+        // Arrange
+        int primaryPort = freePort();
+        int replicaPort = freePort();
+        start(RedisServer.newRedisServer().port(primaryPort).build());
+        start(RedisServer.newRedisServer().port(replicaPort).slaveOf("127.0.0.1", primaryPort)
+                .setting("replica-read-only no").build());
+        StringRedisTemplate replica = template(new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", replicaPort)));
+        awaitReplicationLink(replica);
+        // Written to the replica only, so it can only be read there
+        replica.opsForValue().set("lifestyle:replica-only", "replica");
+
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost("127.0.0.1");
+        redisProperties.setPort(primaryPort);
+
+        // Act
+        String fromPrimary = template(redisConfig("upstream").redisConnectionFactory(redisProperties))
+                .opsForValue().get("lifestyle:replica-only");
+        String fromReplica = template(redisConfig("replica").redisConnectionFactory(redisProperties))
+                .opsForValue().get("lifestyle:replica-only");
+
+        // Assert
+        assertNull(fromPrimary);
+        assertEquals("replica", fromReplica);
+    }
+
+    @Test
+    @DisplayName("The primary should be discovered through Sentinel")
+    void shouldConnectThroughSentinel() throws Exception {
+        // Arrange
+        int primaryPort = freePort();
+        int sentinelPort = freePort();
+        start(RedisServer.newRedisServer().port(primaryPort).build());
+        start(RedisSentinel.newRedisSentinel().bind("127.0.0.1").port(sentinelPort)
+                .masterName("cache").masterPort(primaryPort).build());
+
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setSentinel(new RedisProperties.Sentinel());
+        redisProperties.getSentinel().setMaster("cache");
+        redisProperties.getSentinel().setNodes(List.of("127.0.0.1:" + sentinelPort));
+
+        // Act
+        template(redisConfig("upstream").redisConnectionFactory(redisProperties))
+                .opsForValue().set("lifestyle:fancy", "sentinel");
+
+        // Assert
+        StringRedisTemplate primary = template(new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", primaryPort)));
+        assertEquals("sentinel", primary.opsForValue().get("lifestyle:fancy"));
+    }
+
+    @Test
+    @DisplayName("Keys should be spread over the shards of a Redis Cluster")
+    void shouldShardAcrossCluster() throws Exception {
+        // Arrange
+        RedisShardedCluster cluster = RedisShardedCluster.newRedisCluster()
+                .shard("a", 0).shard("b", 0).shard("c", 0)
+                .ephemeralServers()
+                .initializationTimeout(Duration.ofSeconds(10))
+                .build();
+        start(cluster);
+        List<Integer> ports = cluster.serverPorts();
+        for (int port : ports) {
+            awaitClusterState(template(new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port))));
+        }
+
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setCluster(new RedisProperties.Cluster());
+        redisProperties.getCluster().setNodes(ports.stream().map(port -> "127.0.0.1:" + port).toList());
+        StringRedisTemplate template = template(redisConfig("upstream").redisConnectionFactory(redisProperties));
+
+        // Act
+        for (int i = 0; i < 30; i++) {
+            template.opsForValue().set("lifestyle:type-" + i, Integer.toString(i));
+        }
+
+        // Assert
+        for (int i = 0; i < 30; i++) {
+            assertEquals(Integer.toString(i), template.opsForValue().get("lifestyle:type-" + i));
+        }
+        for (int port : ports) {
+            StringRedisTemplate node = template(new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port)));
+            Long keys = node.execute(connection -> connection.serverCommands().dbSize(), true);
+            assertTrue(keys != null && keys > 0, "no keys on node " + port);
+        }
+    }
+
+    private RedisConfig redisConfig(String readFrom) {
+        RedisConfig redisConfig = new RedisConfig();
+        ReflectionTestUtils.setField(redisConfig, "readFrom", readFrom);
+        return redisConfig;
+    }
+
+    private StringRedisTemplate template(LettuceConnectionFactory factory) {
+        factory.afterPropertiesSet();
+        factory.start();
+        factories.add(factory);
+        return new StringRedisTemplate(factory);
+    }
+
+    private void start(Redis process) throws IOException {
+        process.start();
+        processes.add(process);
+    }
+
+    private static void awaitReplicationLink(StringRedisTemplate replica) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Properties replication = replica.execute(connection -> connection.serverCommands().info("replication"), true);
+            if (replication != null && "up".equals(replication.getProperty("master_link_status"))) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("replica did not connect to its primary");
+    }
+
+    private static void awaitClusterState(StringRedisTemplate node) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Object info = node.execute(connection -> connection.execute("CLUSTER", "INFO".getBytes(StandardCharsets.UTF_8)), true);
+            if (info instanceof byte[] bytes && new String(bytes, StandardCharsets.UTF_8).contains("cluster_state:ok")) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("cluster did not reach state ok");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
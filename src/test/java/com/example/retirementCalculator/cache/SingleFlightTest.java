@@ -0,0 +1,102 @@
+package com.example.retirementCalculator.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Concurrent callers for the same key should share a single load")
+    void shouldCoalesceConcurrentLoads() throws Exception {
+        // Arrange
+        int followers = 7;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // Act
+        Thread leader = new Thread(() -> results.add(singleFlight.execute("fancy", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "loaded";
+        })));
+        leader.start();
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Thread> waiting = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            Thread follower = new Thread(() -> results.add(singleFlight.execute("fancy", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+            follower.start();
+            waiting.add(follower);
+        }
+        // Release the leader only once every follower is parked on the shared load
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiting.stream().anyMatch(follower -> follower.getState() != Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the load in flight");
+            Thread.sleep(1);
+        }
+        releaseLoader.countDown();
+
+        leader.join(5000);
+        for (Thread follower : waiting) {
+            follower.join(5000);
+        }
+
+        // Assert
+        assertEquals(Collections.nCopies(followers + 1, "loaded"), results);
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    @DisplayName("A failed load should be rethrown and not remembered")
+    void shouldPropagateFailureAndReleaseKey() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        // Act & Assert
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("fancy", () -> { throw failure; }));
+        assertSame(failure, thrown);
+        assertEquals(0, singleFlight.inFlight());
+        assertEquals("retried", singleFlight.execute("fancy", () -> "retried"));
+    }
+
+    @Test
+    @DisplayName("Loads for different keys should not be coalesced")
+    void shouldLoadDistinctKeysSeparately() {
+        // Act
+        String fancy = singleFlight.execute("fancy", () -> "fancy-value");
+        String simple = singleFlight.execute("simple", () -> "simple-value");
+
+        // Assert
+        assertEquals("fancy-value", fancy);
+        assertEquals("simple-value", simple);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
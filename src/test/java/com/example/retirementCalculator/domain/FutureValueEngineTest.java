@@ -0,0 +1,158 @@
+package com.example.retirementCalculator.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FutureValueEngineTest {
+
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final BigDecimal MONTHLY_DEPOSIT = new BigDecimal("1000.00");
+
+    private final FutureValueEngine closedForm = ClosedFormFutureValueEngine.INSTANCE;
+    private final FutureValueEngine reference = BigDecimalFutureValueEngine.INSTANCE;
+
+    private static BigDecimal monthlyRate(double annualRate) {
+        return BigDecimal.valueOf(annualRate / MONTHS_IN_YEAR);
+    }
+
+    /**
+     * Random scenarios up to 20% a year over 82 years, with an odd size so a vector tail remains.
+     */
+    private static FutureValueBatch randomBatch() {
+        Random random = new Random(42);
+        FutureValueBatch batch = new FutureValueBatch(2_001);
+        for (int i = 0; i < batch.size(); i++) {
+            long depositCents = random.nextInt(10_000_000);
+            long scaledMonthlyRate = i % 97 == 0 ? 0 : random.nextLong(1_666_667);
+            int months = i % 89 == 0 ? 0 : random.nextInt(985);
+            batch.set(i, depositCents, scaledMonthlyRate, months);
+        }
+        return batch;
+    }
+
+    private void assertMatchesReference(FutureValueBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(reference.futureValue(batch.monthlyDeposit(i), batch.monthlyRate(i), batch.months(i)),
+                    batch.futureValue(i), "Future value mismatch for scenario " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should calculate future value correctly for different time periods")
+    void calculateFutureValueForDifferentPeriods() {
+        BigDecimal rate = monthlyRate(0.06);
+
+        assertEquals(new BigDecimal("12335.56"), closedForm.futureValue(MONTHLY_DEPOSIT, rate, MONTHS_IN_YEAR));
+        assertEquals(new BigDecimal("69770.03"), closedForm.futureValue(MONTHLY_DEPOSIT, rate, MONTHS_IN_YEAR * 5));
+        assertEquals(new BigDecimal("462040.90"), closedForm.futureValue(MONTHLY_DEPOSIT, rate, MONTHS_IN_YEAR * 20));
+    }
+
+    @Test
+    @DisplayName("Should calculate future value correctly for different interest rates")
+    void calculateFutureValueForDifferentRates() {
+        int months = MONTHS_IN_YEAR * 10;
+
+        assertEquals(new BigDecimal("139741.42"), closedForm.futureValue(MONTHLY_DEPOSIT, monthlyRate(0.03), months));
+        assertEquals(new BigDecimal("173084.81"), closedForm.futureValue(MONTHLY_DEPOSIT, monthlyRate(0.07), months));
+        assertEquals(new BigDecimal("230038.69"), closedForm.futureValue(MONTHLY_DEPOSIT, monthlyRate(0.12), months));
+    }
+
+    @Test
+    @DisplayName("Should calculate future value correctly with zero interest rate")
+    void calculateFutureValueWithZeroInterest() {
+        BigDecimal result = closedForm.futureValue(new BigDecimal("2000.00"), BigDecimal.ZERO, MONTHS_IN_YEAR * 5);
+
+        assertEquals(new BigDecimal("120000.00"), result);
+    }
+
+    @Test
+    @DisplayName("Should calculate future value correctly with very small interest rate")
+    void calculateFutureValueWithSmallInterestRate() {
+        BigDecimal result = closedForm.futureValue(MONTHLY_DEPOSIT, monthlyRate(0.0001), MONTHS_IN_YEAR * 5);
+
+        BigDecimal diff = new BigDecimal("60000").subtract(result).abs();
+        assertTrue(diff.compareTo(new BigDecimal("60")) < 0,
+                "With tiny interest, expected close to 60000 but got " + result);
+    }
+
+    @Test
+    @DisplayName("Closed form engine should match the exact engine for every supported age range")
+    void closedFormShouldMatchReferenceAcrossAgeRange() {
+        // Lifestyle rates from the CSV plus the bounds and awkward values of custom rates
+        List<String> annualRates = List.of("5.5", "6.5", "0.01", "1", "3.333", "12", "47.25", "100");
+
+        for (String annualRate : annualRates) {
+            BigDecimal rate = new BigDecimal(annualRate).divide(BigDecimal.valueOf(100), 8, RoundingMode.HALF_UP)
+                    .divide(BigDecimal.valueOf(12), 8, RoundingMode.HALF_UP);
+
+            for (int years = 1; years <= 82; years++) {
+                int months = years * MONTHS_IN_YEAR;
+                assertEquals(reference.annuityFactor(rate, months), closedForm.annuityFactor(rate, months),
+                        "Factor mismatch for rate " + annualRate + "% over " + years + " years");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Closed form engine should fall back correctly for rates without an exact double")
+    void closedFormShouldMatchReferenceForLongDecimalRates() {
+        BigDecimal rate = new BigDecimal("0.00416666666666666666666667");
+
+        for (int months = 1; months <= 984; months += 7) {
+            assertEquals(reference.annuityFactor(rate, months), closedForm.annuityFactor(rate, months),
+                    "Factor mismatch over " + months + " months");
+        }
+    }
+
+    @Test
+    @DisplayName("Retirement calculation should produce the same value with either engine")
+    void retirementCalculationShouldBeEngineIndependent() {
+        RetirementCalculation.RetirementCalculationBuilder builder = RetirementCalculation.builder()
+                .currentAge(30)
+                .retirementAge(65)
+                .lifestyleType("fancy")
+                .interestRate(new BigDecimal("5.5"))
+                .monthlyDeposit(new BigDecimal("5000.00"));
+
+        BigDecimal fast = builder.futureValueEngine(closedForm).build().calculateFutureValue();
+        BigDecimal exact = builder.futureValueEngine(reference).build().calculateFutureValue();
+
+        assertEquals(exact, fast);
+    }
+
+    @Test
+    @DisplayName("Closed form engine should evaluate a batch exactly like the exact engine")
+    void closedFormBatchShouldMatchReference() {
+        // Arrange
+        FutureValueBatch batch = randomBatch();
+
+        // Act
+        closedForm.futureValues(batch);
+
+        // Assert
+        assertMatchesReference(batch);
+    }
+
+    @Test
+    @DisplayName("Vector engine should evaluate a batch exactly like the exact engine")
+    void vectorBatchShouldMatchReference() {
+        assumeTrue(VectorFutureValueEngine.isAvailable(), "jdk.incubator.vector is not resolved");
+
+        // Arrange
+        FutureValueBatch batch = randomBatch();
+
+        // Act
+        new VectorFutureValueEngine(closedForm).futureValues(batch);
+
+        // Assert
+        assertMatchesReference(batch);
+    }
+}
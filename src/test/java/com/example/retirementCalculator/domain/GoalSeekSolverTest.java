@@ -0,0 +1,111 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidCalculationException;
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoalSeekSolverTest {
+
+    private final GoalSeekSolver solver = new GoalSeekSolver(ClosedFormFutureValueEngine.INSTANCE);
+
+    @Test
+    @DisplayName("Solving the deposit of a known projection should return its deposit")
+    void shouldInvertKnownProjection() {
+        // Act
+        GoalSeekResult result = solver.solveMonthlyDeposit(30, 65, new BigDecimal("5.5"), new BigDecimal("6354611.43"));
+
+        // Assert
+        assertEquals(new BigDecimal("5000.00"), result.monthlyDeposit());
+        assertEquals(new BigDecimal("6354611.43"), result.projectedSavings());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"30, 65, 5.5, 1000000", "18, 100, 0.01, 123456.78", "64, 65, 12, 50000", "40, 67, 6.5, 0.01"})
+    @DisplayName("The solved deposit should be the smallest reaching the target")
+    void solvedDepositShouldBeMinimal(int currentAge, int retirementAge, BigDecimal rate, BigDecimal target) {
+        // Act
+        GoalSeekResult result = solver.solveMonthlyDeposit(currentAge, retirementAge, rate, target);
+
+        // Assert
+        assertTrue(result.projectedSavings().compareTo(target) >= 0);
+        BigDecimal lower = result.monthlyDeposit().subtract(new BigDecimal("0.01"));
+        if (lower.signum() > 0) {
+            assertTrue(project(currentAge, retirementAge, rate, lower).compareTo(target) < 0);
+        }
+    }
+
+    @Test
+    @DisplayName("The solved retirement age should be the earliest reaching the target")
+    void solvedRetirementAgeShouldBeEarliest() {
+        // Act
+        GoalSeekResult result = solver.solveRetirementAge(30, new BigDecimal("6.5"), new BigDecimal("2000.00"), new BigDecimal("3200635.38"));
+        GoalSeekResult oneCentMore = solver.solveRetirementAge(30, new BigDecimal("6.5"), new BigDecimal("2000.00"), new BigDecimal("3200635.39"));
+
+        // Assert
+        assertEquals(65, result.retirementAge());
+        assertEquals(66, oneCentMore.retirementAge());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"30, 65, 5000.00, 6354611.43", "30, 65, 2000.00, 3200635.38", "18, 100, 10.00, 1000000", "64, 65, 1000.00, 12100"})
+    @DisplayName("The solved rate should be the lowest reaching the target")
+    void solvedRateShouldBeLowest(int currentAge, int retirementAge, BigDecimal deposit, BigDecimal target) {
+        // Act
+        GoalSeekResult result = solver.solveInterestRate(currentAge, retirementAge, deposit, target);
+
+        // Assert
+        assertTrue(result.projectedSavings().compareTo(target) >= 0);
+        BigDecimal lower = result.interestRate().subtract(new BigDecimal("0.0001"));
+        assertTrue(project(currentAge, retirementAge, lower, deposit).compareTo(target) < 0);
+    }
+
+    @Test
+    @DisplayName("Known rates should be recovered from their projections")
+    void shouldRecoverKnownRates() {
+        // Act & Assert
+        assertEquals(new BigDecimal("5.5000"),
+                solver.solveInterestRate(30, 65, new BigDecimal("5000.00"), new BigDecimal("6354611.43")).interestRate());
+        assertEquals(new BigDecimal("6.5000"),
+                solver.solveInterestRate(30, 65, new BigDecimal("2000.00"), new BigDecimal("3200635.38")).interestRate());
+    }
+
+    @Test
+    @DisplayName("Targets reachable by deposits alone should need no interest")
+    void depositsAloneShouldNeedZeroRate() {
+        // Act
+        GoalSeekResult result = solver.solveInterestRate(30, 65, new BigDecimal("1000.00"), new BigDecimal("420000"));
+
+        // Assert
+        assertEquals(0, result.interestRate().signum());
+        assertEquals(0, new BigDecimal("420000").compareTo(result.projectedSavings()));
+    }
+
+    @Test
+    @DisplayName("Unreachable targets and invalid inputs should be rejected")
+    void shouldRejectUnreachableTargets() {
+        // Act & Assert
+        assertThrows(InvalidParameterException.class,
+                () -> solver.solveRetirementAge(90, new BigDecimal("1"), new BigDecimal("100.00"), new BigDecimal("1000000")));
+        assertThrows(InvalidParameterException.class,
+                () -> solver.solveInterestRate(64, 65, new BigDecimal("100.00"), new BigDecimal("1000000")));
+        assertThrows(InvalidCalculationException.class,
+                () -> solver.solveMonthlyDeposit(65, 65, new BigDecimal("5.5"), new BigDecimal("1000")));
+    }
+
+    private static BigDecimal project(int currentAge, int retirementAge, BigDecimal rate, BigDecimal deposit) {
+        return RetirementCalculation.builder()
+                .currentAge(currentAge)
+                .retirementAge(retirementAge)
+                .interestRate(rate)
+                .monthlyDeposit(deposit)
+                .build()
+                .calculateFutureValue();
+    }
+}
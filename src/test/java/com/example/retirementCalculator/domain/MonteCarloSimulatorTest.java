@@ -0,0 +1,96 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTest {
+
+    private static final BigDecimal FANCY_DEPOSIT = new BigDecimal("5000.00");
+    private static final BigDecimal FANCY_RATE = new BigDecimal("5.5");
+
+    private MonteCarloSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        simulator = new MonteCarloSimulator(4, 1000, 20000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    @DisplayName("Without volatility every percentile should equal the deterministic future value")
+    void zeroVolatilityShouldMatchDeterministicCalculation() {
+        // Act
+        SimulationResult result = simulator.simulate(scenario(BigDecimal.ZERO, 300, 1L, null));
+
+        // Assert
+        SimulationResult.PercentileBand last = result.bands().get(34);
+        assertEquals(35, result.bands().size());
+        assertEquals(35, last.year());
+        assertEquals(0, new BigDecimal("6354611.43").compareTo(last.p5()), last.p5().toPlainString());
+        assertEquals(last.p5(), last.p50());
+        assertEquals(last.p5(), last.p95());
+    }
+
+    @Test
+    @DisplayName("The same seed should give the same result whatever the parallelism")
+    void sameSeedShouldBeReproducibleAcrossPoolSizes() {
+        // Arrange
+        MonteCarloSimulator sequential = new MonteCarloSimulator(1, 1000, 20000);
+        SimulationScenario scenario = scenario(new BigDecimal("15"), 5000, 42L, new BigDecimal("6354611.43"));
+
+        try {
+            // Act
+            SimulationResult parallelResult = simulator.simulate(scenario);
+            SimulationResult sequentialResult = sequential.simulate(scenario);
+            SimulationResult otherSeed = simulator.simulate(scenario(new BigDecimal("15"), 5000, 43L, null));
+
+            // Assert
+            assertEquals(parallelResult, sequentialResult);
+            assertNotEquals(parallelResult.bands(), otherSeed.bands());
+        } finally {
+            sequential.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Percentile bands should be ordered and the success probability consistent with them")
+    void bandsShouldBeOrderedAndProbabilityConsistent() {
+        // Act
+        SimulationResult result = simulator.simulate(scenario(new BigDecimal("15"), 10000, 7L, new BigDecimal("6354611.43")));
+
+        // Assert
+        for (SimulationResult.PercentileBand band : result.bands()) {
+            assertTrue(band.p5().compareTo(band.p50()) < 0, "P5 below P50 in year " + band.year());
+            assertTrue(band.p50().compareTo(band.p95()) < 0, "P50 below P95 in year " + band.year());
+        }
+        SimulationResult.PercentileBand last = result.bands().get(34);
+        // Volatility drag puts the median below the deterministic value, so fewer than half the paths reach it
+        assertTrue(last.p50().compareTo(new BigDecimal("6354611.43")) < 0);
+        assertTrue(result.probabilityOfSuccess() > 0.05 && result.probabilityOfSuccess() < 0.5,
+                "probability " + result.probabilityOfSuccess());
+    }
+
+    @Test
+    @DisplayName("Path counts above the configured maximum should be rejected")
+    void shouldRejectTooManyPaths() {
+        // Act & Assert
+        assertThrows(InvalidParameterException.class,
+                () -> simulator.simulate(scenario(new BigDecimal("15"), 20001, 1L, null)));
+        assertEquals(1000, simulator.getDefaultPaths());
+    }
+
+    private static SimulationScenario scenario(BigDecimal volatility, int paths, long seed, BigDecimal target) {
+        return new SimulationScenario(35, FANCY_DEPOSIT, FANCY_RATE, volatility, paths, seed, target);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.retirementCalculator.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectionScheduleTest {
+
+    private static RetirementCalculation calculation(int currentAge, int retirementAge, String deposit, String rate) {
+        return RetirementCalculation.builder()
+                .currentAge(currentAge)
+                .retirementAge(retirementAge)
+                .lifestyleType("fancy")
+                .monthlyDeposit(new BigDecimal(deposit))
+                .interestRate(new BigDecimal(rate))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Every yearly balance should equal the calculation for retiring at that age")
+    void yearlyBalancesShouldMatchSingleCalculations() {
+        // Arrange
+        RetirementCalculation calculation = calculation(18, 100, "1234.56", "7.3");
+
+        // Act
+        List<ProjectionPeriod> periods = new ArrayList<>();
+        calculation.projectionSchedule(ProjectionFrequency.YEARLY).forEach(periods::add);
+
+        // Assert
+        assertEquals(82, periods.size());
+        for (ProjectionPeriod period : periods) {
+            BigDecimal expected = calculation(18, period.age(), "1234.56", "7.3").calculateFutureValue();
+            assertEquals(expected, period.balance(), "age " + period.age());
+            assertEquals(period.balance(), period.totalContributions().add(period.totalInterest()));
+        }
+        assertEquals(calculation.calculateFutureValue(), periods.get(periods.size() - 1).balance());
+    }
+
+    @Test
+    @DisplayName("Monthly periods should add up to the future value")
+    void monthlyPeriodsShouldAddUpToFutureValue() {
+        // Arrange
+        RetirementCalculation calculation = calculation(30, 65, "5000.00", "5.5");
+        ProjectionSchedule schedule = calculation.projectionSchedule(ProjectionFrequency.MONTHLY);
+
+        // Act
+        BigDecimal contributions = BigDecimal.ZERO;
+        BigDecimal interest = BigDecimal.ZERO;
+        ProjectionPeriod last = null;
+        for (ProjectionPeriod period : schedule) {
+            contributions = contributions.add(period.contribution());
+            interest = interest.add(period.interest());
+            last = period;
+        }
+
+        // Assert
+        assertEquals(420, schedule.size());
+        assertNotNull(last);
+        assertEquals(420, last.month());
+        assertEquals(65, last.age());
+        assertEquals(new BigDecimal("6354611.43"), last.balance());
+        assertEquals(new BigDecimal("2100000.00"), contributions);
+        assertEquals(last.balance(), contributions.add(interest));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.cache.CachedLifestyle;
+import com.example.retirementCalculator.cache.CachedLifestyleProfile;
+import com.example.retirementCalculator.cache.LifestyleProfileCacheService;
+import com.example.retirementCalculator.exception.InvalidCalculationException;
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import com.example.retirementCalculator.exception.LifestyleNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetirementBatchCalculatorTest {
+
+    @Mock
+    private LifestyleProfileCacheService lifestyleProfileCacheService;
+
+    private RetirementCalculationBuilder singleBuilder;
+    private RetirementBatchCalculator batchCalculator;
+
+    @BeforeEach
+    void setUp() {
+        singleBuilder = new RetirementCalculationBuilder(lifestyleProfileCacheService, ClosedFormFutureValueEngine.INSTANCE, new SimpleMeterRegistry());
+        batchCalculator = new RetirementBatchCalculator(singleBuilder, 4, 2, 16, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchCalculator.shutdown();
+    }
+
+    @Test
+    @DisplayName("Each distinct lifestyle should be resolved once and results kept in order")
+    void shouldResolveEachLifestyleOnceAndPreserveOrder() {
+        // Arrange
+        stubLifestyle("fancy", "5000.00", "5.5");
+        stubLifestyle("simple", "2000.00", "6.5");
+        List<RetirementScenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            scenarios.add(new RetirementScenario(18 + i % 50, 70, i % 2 == 0 ? "fancy" : "Simple", null));
+        }
+
+        // Act
+        List<ScenarioOutcome> outcomes = batchCalculator.calculateAll(scenarios);
+
+        // Assert
+        assertEquals(500, outcomes.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            ScenarioOutcome outcome = outcomes.get(i);
+            assertTrue(outcome.isSuccess());
+            assertEquals(18 + i % 50, outcome.calculation().getCurrentAge());
+        }
+        verify(lifestyleProfileCacheService, times(1)).getProfile("fancy");
+        verify(lifestyleProfileCacheService, times(1)).getProfile("Simple");
+        assertEquals(singleBuilder.build(18, 70, "fancy").calculateFutureValue(),
+                outcomes.get(0).calculation().calculateFutureValue());
+        assertEquals(singleBuilder.build(19, 70, "simple").calculateFutureValue(),
+                outcomes.get(1).calculation().calculateFutureValue());
+    }
+
+    @Test
+    @DisplayName("Failing scenarios should be reported inline without failing the batch")
+    void shouldReportErrorsInline() {
+        // Arrange
+        stubLifestyle("fancy", "5000.00", "5.5");
+        when(lifestyleProfileCacheService.getProfile("unknown")).thenReturn(new CachedLifestyleProfile(null, null));
+        List<RetirementScenario> scenarios = List.of(
+                new RetirementScenario(30, 65, "fancy", null),
+                new RetirementScenario(30, 65, "unknown", null),
+                new RetirementScenario(65, 30, "fancy", null),
+                new RetirementScenario(30, 65, "fancy", new BigDecimal("7.25")));
+
+        // Act
+        List<ScenarioOutcome> outcomes = batchCalculator.calculateAll(scenarios);
+
+        // Assert
+        assertTrue(outcomes.get(0).isSuccess());
+        assertInstanceOf(LifestyleNotFoundException.class, outcomes.get(1).error());
+        assertInstanceOf(InvalidCalculationException.class, outcomes.get(2).error());
+        assertEquals(new BigDecimal("7.25"), outcomes.get(3).calculation().getInterestRate());
+    }
+
+    @Test
+    @DisplayName("Future values should be evaluated one engine batch per chunk, matching single evaluations")
+    void shouldEvaluateFutureValuesInEngineBatches() {
+        // Arrange
+        stubLifestyle("fancy", "5000.00", "5.5");
+        AtomicInteger engineBatches = new AtomicInteger();
+        FutureValueEngine countingEngine = new FutureValueEngine() {
+            @Override
+            public BigDecimal annuityFactor(BigDecimal monthlyRate, int months) {
+                return ClosedFormFutureValueEngine.INSTANCE.annuityFactor(monthlyRate, months);
+            }
+
+            @Override
+            public void futureValues(FutureValueBatch batch) {
+                engineBatches.incrementAndGet();
+                ClosedFormFutureValueEngine.INSTANCE.futureValues(batch);
+            }
+        };
+        RetirementBatchCalculator calculator = new RetirementBatchCalculator(new RetirementCalculationBuilder(
+                lifestyleProfileCacheService, countingEngine, new SimpleMeterRegistry()), 2, 2, 16, 1000);
+        List<RetirementScenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            scenarios.add(new RetirementScenario(18 + i, 70, "fancy", new BigDecimal("3.125").add(BigDecimal.valueOf(i))));
+        }
+
+        // Act
+        List<ScenarioOutcome> outcomes;
+        try {
+            outcomes = calculator.calculateAll(scenarios);
+        } finally {
+            calculator.shutdown();
+        }
+
+        // Assert
+        assertEquals(3, engineBatches.get());
+        for (int i = 0; i < scenarios.size(); i++) {
+            RetirementScenario scenario = scenarios.get(i);
+            assertEquals(singleBuilder.build(scenario.currentAge(), scenario.retirementAge(), "fancy", scenario.customInterestRate())
+                    .calculateFutureValue(), outcomes.get(i).calculation().calculateFutureValue());
+        }
+    }
+
+    @Test
+    @DisplayName("A chunk with a future value beyond a long number of cents should be evaluated scenario by scenario")
+    void shouldFallBackWhenFutureValueExceedsBatchRange() {
+        // Arrange
+        stubLifestyle("fancy", "5000.00", "5.5");
+        List<RetirementScenario> scenarios = List.of(
+                new RetirementScenario(30, 65, "fancy", null),
+                new RetirementScenario(18, 100, "fancy", new BigDecimal("100")));
+
+        // Act
+        List<ScenarioOutcome> outcomes = batchCalculator.calculateAll(scenarios);
+
+        // Assert
+        assertEquals(new BigDecimal("6354611.43"), outcomes.get(0).calculation().calculateFutureValue());
+        assertEquals(singleBuilder.build(18, 100, "fancy", new BigDecimal("100")).calculateFutureValue(),
+                outcomes.get(1).calculation().calculateFutureValue());
+        assertTrue(outcomes.get(1).calculation().calculateFutureValue().compareTo(new BigDecimal("1e20")) > 0);
+    }
+
+    @Test
+    @DisplayName("Empty and oversized batches should be rejected")
+    void shouldRejectEmptyAndOversizedBatches() {
+        List<RetirementScenario> oversized = new ArrayList<>();
+        for (int i = 0; i < 1001; i++) {
+            oversized.add(new RetirementScenario(30, 65, "fancy", null));
+        }
+
+        assertThrows(InvalidParameterException.class, () -> batchCalculator.calculateAll(List.of()));
+        assertThrows(InvalidParameterException.class, () -> batchCalculator.calculateAll(oversized));
+    }
+
+    private void stubLifestyle(String lifestyleType, String monthlyDeposit, String interestRate) {
+        CachedLifestyle lifestyle = new CachedLifestyle(null, lifestyleType, new BigDecimal(monthlyDeposit), null);
+        lenient().when(lifestyleProfileCacheService.getProfile(argThat(lifestyleType::equalsIgnoreCase)))
+                .thenReturn(new CachedLifestyleProfile(lifestyle, new BigDecimal(interestRate)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.retirementCalculator.domain;
+
+import com.example.retirementCalculator.exception.InvalidParameterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SensitivityGridCalculatorTest {
+
+    private SensitivityGridCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        calculator = new SensitivityGridCalculator(ClosedFormFutureValueEngine.INSTANCE, 4, 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        calculator.shutdown();
+    }
+
+    @Test
+    @DisplayName("Known projections should appear in their cells")
+    void shouldContainKnownProjections() {
+        // Act
+        BigDecimal[][] fancy = calculator.calculate(30, new BigDecimal("5000.00"),
+                List.of(new BigDecimal("5.5"), new BigDecimal("6.5")), new int[]{64, 65});
+        BigDecimal[][] simple = calculator.calculate(30, new BigDecimal("2000.00"),
+                List.of(new BigDecimal("5.5"), new BigDecimal("6.5")), new int[]{64, 65});
+
+        // Assert
+        assertEquals(new BigDecimal("6354611.43"), fancy[0][1]);
+        assertEquals(new BigDecimal("3200635.38"), simple[1][1]);
+    }
+
+    @Test
+    @DisplayName("Every cell should equal the single calculation for the same inputs")
+    void everyCellShouldMatchSingleCalculation() {
+        // Arrange
+        BigDecimal deposit = new BigDecimal("1234.56");
+        List<BigDecimal> rates = new ArrayList<>();
+        for (BigDecimal rate = new BigDecimal("0.01"); rate.compareTo(new BigDecimal("20")) <= 0; rate = rate.add(new BigDecimal("0.37"))) {
+            rates.add(rate);
+        }
+        int[] ages = IntStream.rangeClosed(19, 100).toArray();
+
+        // Act
+        BigDecimal[][] balances = calculator.calculate(18, deposit, rates, ages);
+
+        // Assert
+        for (int row = 0; row < rates.size(); row++) {
+            for (int column = 0; column < ages.length; column++) {
+                BigDecimal expected = RetirementCalculation.builder()
+                        .currentAge(18)
+                        .retirementAge(ages[column])
+                        .interestRate(rates.get(row))
+                        .monthlyDeposit(deposit)
+                        .build()
+                        .calculateFutureValue();
+                assertEquals(expected, balances[row][column], rates.get(row) + "% at " + ages[column]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A zero rate should return the sum of the deposits")
+    void zeroRateShouldSumDeposits() {
+        // Act
+        BigDecimal[][] balances = calculator.calculate(30, new BigDecimal("100.00"), List.of(BigDecimal.ZERO), new int[]{31, 65});
+
+        // Assert
+        assertEquals(new BigDecimal("1200.00"), balances[0][0]);
+        assertEquals(new BigDecimal("42000.00"), balances[0][1]);
+    }
+
+    @Test
+    @DisplayName("Grids larger than the configured maximum should be rejected")
+    void shouldRejectOversizedGrid() {
+        // Arrange
+        SensitivityGridCalculator small = new SensitivityGridCalculator(ClosedFormFutureValueEngine.INSTANCE, 1, 10);
+
+        try {
+            // Act & Assert
+            assertThrows(InvalidParameterException.class, () -> small.calculate(30, BigDecimal.TEN,
+                    List.of(BigDecimal.ONE, BigDecimal.TWO), IntStream.rangeClosed(60, 65).toArray()));
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Retirement ages not after the current age or out of order should be rejected")
+    void shouldRejectInvalidAges() {
+        // Act & Assert
+        assertThrows(InvalidParameterException.class,
+                () -> calculator.calculate(30, BigDecimal.TEN, List.of(BigDecimal.ONE), new int[]{30, 40}));
+        assertThrows(InvalidParameterException.class,
+                () -> calculator.calculate(30, BigDecimal.TEN, List.of(BigDecimal.ONE), new int[]{50, 40}));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.retirementCalculator.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TabulatedFutureValueEngineTest {
+
+    private static final BigDecimal FANCY_RATE = new BigDecimal("5.5");
+    private static final BigDecimal SIMPLE_RATE = new BigDecimal("6.5");
+
+    @Test
+    @DisplayName("Tabulated factors should match the exact engine for every horizon")
+    void tableShouldMatchReferenceEngine() {
+        AnnuityFactorTable table = AnnuityFactorTable.build(List.of(FANCY_RATE, SIMPLE_RATE), ClosedFormFutureValueEngine.INSTANCE);
+
+        assertEquals(2, table.size());
+        for (BigDecimal annualRate : List.of(FANCY_RATE, SIMPLE_RATE)) {
+            BigDecimal monthlyRate = RetirementCalculation.toMonthlyRate(annualRate);
+            for (int months = 0; months <= AnnuityFactorTable.MAX_TABULATED_MONTHS; months += 12) {
+                BigDecimal expected = BigDecimalFutureValueEngine.INSTANCE.annuityFactor(monthlyRate, months);
+                assertEquals(expected, BigDecimal.valueOf(table.scaledFactor(monthlyRate, months), FutureValueEngine.FACTOR_SCALE),
+                        "Factor mismatch for rate " + annualRate + "% over " + months + " months");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lookups outside the table should be reported as not tabulated")
+    void lookupsOutsideTableShouldMiss() {
+        AnnuityFactorTable table = AnnuityFactorTable.build(List.of(FANCY_RATE), ClosedFormFutureValueEngine.INSTANCE);
+        BigDecimal monthlyRate = RetirementCalculation.toMonthlyRate(FANCY_RATE);
+
+        assertEquals(AnnuityFactorTable.NOT_TABULATED, table.scaledFactor(RetirementCalculation.toMonthlyRate(SIMPLE_RATE), 12));
+        assertEquals(AnnuityFactorTable.NOT_TABULATED, table.scaledFactor(monthlyRate, AnnuityFactorTable.MAX_TABULATED_MONTHS + 1));
+        assertEquals(AnnuityFactorTable.NOT_TABULATED, table.scaledFactor(monthlyRate, -1));
+    }
+
+    @Test
+    @DisplayName("Custom rates should fall back to the delegate engine")
+    void customRateShouldFallBackToDelegate() {
+        TabulatedFutureValueEngine engine = new TabulatedFutureValueEngine(ClosedFormFutureValueEngine.INSTANCE);
+        engine.rebuild(List.of(FANCY_RATE));
+        BigDecimal customRate = RetirementCalculation.toMonthlyRate(new BigDecimal("7.25"));
+
+        assertEquals(BigDecimalFutureValueEngine.INSTANCE.annuityFactor(customRate, 420), engine.annuityFactor(customRate, 420));
+    }
+
+    @Test
+    @DisplayName("Rebuilding should replace the table")
+    void rebuildShouldReplaceTable() {
+        TabulatedFutureValueEngine engine = new TabulatedFutureValueEngine(ClosedFormFutureValueEngine.INSTANCE);
+        assertSame(AnnuityFactorTable.EMPTY, engine.getTable());
+
+        engine.rebuild(List.of(FANCY_RATE, SIMPLE_RATE));
+        AnnuityFactorTable first = engine.getTable();
+        engine.rebuild(List.of(FANCY_RATE));
+
+        assertEquals(2, first.size());
+        assertEquals(1, engine.getTable().size());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.retirementCalculator.exception;
+
+import com.example.retirementCalculator.api.dto.ErrorResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponsesTest {
+
+    @Test
+    @DisplayName("Exceptions caused by the request should not capture a stack trace")
+    void shouldCreateClientErrorsWithoutStackTrace() {
+        // Act & Assert
+        assertEquals(0, new LifestyleNotFoundException("unknown").getStackTrace().length);
+        assertEquals(0, new RateNotFoundException("no rate").getStackTrace().length);
+        assertEquals(0, new InvalidCalculationException("bad ages").getStackTrace().length);
+        assertEquals(0, new InvalidParameterException("bad type").getStackTrace().length);
+        assertTrue(new CacheException("down").getStackTrace().length > 0);
+        assertTrue(new CalculationException("overflow").getStackTrace().length > 0);
+    }
+
+    @Test
+    @DisplayName("Exceptions should be mapped to the status and summary of their error kind")
+    void shouldMapExceptionsByErrorKind() {
+        // Act
+        ErrorResponseDTO notFound = ErrorResponses.forException(new RateNotFoundException("no rate"), "/path");
+        ErrorResponseDTO invalid = ErrorResponses.forException(new InvalidCalculationException("bad ages"), "/path");
+        ErrorResponseDTO unavailable = ErrorResponses.forException(new CacheException("down"), "/path");
+        ErrorResponseDTO unexpected = ErrorResponses.forException(new IllegalStateException("secret"), "/path");
+
+        // Assert
+        assertEquals(404, notFound.getStatus());
+        assertEquals("Resource Not Found", notFound.getError());
+        assertEquals("no rate", notFound.getMessage());
+        assertEquals(400, invalid.getStatus());
+        assertEquals("Invalid Parameters", invalid.getError());
+        assertEquals(503, unavailable.getStatus());
+        assertEquals("Cache service is currently unavailable. Please try again later.", unavailable.getMessage());
+        assertEquals(500, unexpected.getStatus());
+        assertEquals("An unexpected error occurred. Please try again later.", unexpected.getMessage());
+        assertEquals("/path", unexpected.getPath());
+    }
+
+    @Test
+    @DisplayName("The log rate limiter should suppress messages over the limit and report them later")
+    void shouldLimitLogRate() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        LogRateLimiter limiter = new LogRateLimiter(2, Duration.ofSeconds(1), now::get);
+
+        // Act & Assert
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+    }
+}
@@ -5,4 +5,15 @@ CREATE TABLE staging.lifestyle_deposits (
     lifestyle_type VARCHAR(20) NOT NULL,  -- 'simple' or 'fancy'
     monthly_deposit NUMERIC(10, 2) NOT NULL,  -- amount to save monthly
     description VARCHAR(255)  -- optional lifestyle description
-);
\ No newline at end of file
+);
+
+CREATE TABLE staging.calculation_audit (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    served_at TIMESTAMP NOT NULL,
+    current_age SMALLINT NOT NULL,
+    retirement_age SMALLINT NOT NULL,
+    lifestyle_type VARCHAR(20) NOT NULL,
+    interest_rate NUMERIC(7, 4) NOT NULL,
+    monthly_deposit NUMERIC(10, 2) NOT NULL,
+    future_value NUMERIC(1000, 2) NOT NULL
+);